@@ -0,0 +1,100 @@
+package com.finance.app.application.usecase;
+
+import com.finance.app.domain.entity.RefreshToken;
+import com.finance.app.domain.entity.User;
+import com.finance.app.domain.repository.RefreshTokenRepository;
+import com.finance.app.domain.repository.UserRepository;
+import com.finance.app.infrastructure.security.JwtTokenProvider;
+import com.finance.app.infrastructure.security.RefreshTokenProvider;
+import com.finance.app.web.dto.request.LoginRequest;
+import com.finance.app.web.dto.request.RefreshTokenRequest;
+import com.finance.app.web.dto.response.AuthResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Login (BCrypt with the default cost) against a refresh-token rotation, with the repositories stubbed out
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthBenchmark {
+
+    private static final String PASSWORD = "benchmark-password";
+
+    private AuthUseCase authUseCase;
+    private LoginRequest loginRequest;
+    private RefreshTokenRequest refreshRequest;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("bench@example.com")
+                .passwordHash(passwordEncoder.encode(PASSWORD))
+                .build();
+
+        UserRepository userRepository = stub(UserRepository.class, (method, args) -> switch (method) {
+            case "findByEmail", "findById" -> Optional.of(user);
+            default -> null;
+        });
+        // Every lookup hands back an unspent token, so each refresh takes the full rotation path
+        RefreshTokenRepository refreshTokenRepository = stub(RefreshTokenRepository.class, (method, args) -> switch (method) {
+            case "findByTokenHash" -> Optional.of(RefreshToken.builder()
+                    .id(UUID.randomUUID())
+                    .userId(user.getId())
+                    .deviceId(UUID.randomUUID())
+                    .tokenHash((String) args[0])
+                    .expiresAt(LocalDateTime.now().plusDays(1))
+                    .build());
+            case "revoke" -> true;
+            case "save" -> args[0];
+            default -> null;
+        });
+
+        RefreshTokenProvider refreshTokenProvider = new RefreshTokenProvider(Duration.ofDays(30));
+        authUseCase = new AuthUseCase(userRepository, passwordEncoder, new JwtTokenProvider("benchmark-secret", 86_400_000L),
+                null, null, refreshTokenRepository, refreshTokenProvider, null);
+
+        loginRequest = new LoginRequest(user.getEmail(), PASSWORD);
+        refreshRequest = new RefreshTokenRequest(refreshTokenProvider.generate());
+    }
+
+    @Benchmark
+    public AuthResponse login() {
+        return authUseCase.login(loginRequest);
+    }
+
+    @Benchmark
+    public AuthResponse refresh() {
+        return authUseCase.refresh(refreshRequest);
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, invoked, args) -> answer.answer(invoked.getName(), args)));
+    }
+
+}
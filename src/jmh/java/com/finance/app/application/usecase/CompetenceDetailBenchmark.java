@@ -0,0 +1,87 @@
+package com.finance.app.application.usecase;
+
+import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionSubtype;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.repository.CompetenceRepository;
+import com.finance.app.domain.repository.CompetenceSummaryRepository;
+import com.finance.app.web.dto.response.CompetenceDetailResponseV2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Measures the V2 detail aggregation over every (type, status, subtype) group, with the repositories stubbed out
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompetenceDetailBenchmark {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private CompetenceUseCase competenceUseCase;
+    private UUID competenceId;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2026, 5, 1, 0, 0);
+        Competence competence = Competence.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .month(5)
+                .year(2026)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        competenceId = competence.getId();
+
+        List<CompetenceTransactionSubtypeSummary> summaries = new ArrayList<>();
+        for (TransactionType type : TransactionType.values()) {
+            for (TransactionStatus status : TransactionStatus.values()) {
+                for (TransactionSubtype subtype : TransactionSubtype.values()) {
+                    summaries.add(new CompetenceTransactionSubtypeSummary(competenceId, type, status, subtype,
+                            (long) summaries.size() + 3, new BigDecimal("1234.56").add(BigDecimal.valueOf(summaries.size()))));
+                }
+            }
+        }
+
+        CompetenceRepository competenceRepository = stub(CompetenceRepository.class, "findById", Optional.of(competence));
+        CompetenceSummaryRepository summaryRepository = stub(CompetenceSummaryRepository.class, "findByCompetenceId", summaries);
+        competenceUseCase = new CompetenceUseCase(competenceRepository, summaryRepository, null);
+    }
+
+    @Benchmark
+    public CompetenceDetailResponseV2 detailV2() {
+        return competenceUseCase.getByIdV2(competenceId, userId);
+    }
+
+    private static <T> T stub(Class<T> type, String method, Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, invoked, args) -> {
+            if (invoked.getName().equals(method)) {
+                return result;
+            }
+            throw new UnsupportedOperationException(invoked.getName());
+        }));
+    }
+
+}
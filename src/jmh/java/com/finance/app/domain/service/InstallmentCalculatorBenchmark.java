@@ -0,0 +1,50 @@
+package com.finance.app.domain.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstallmentCalculatorBenchmark {
+
+    @Param({"2", "12", "48"})
+    private int installments;
+
+    private final BigDecimal totalAmount = new BigDecimal("1999.99");
+
+    @Benchmark
+    public BigDecimal installmentAmount() {
+        return InstallmentCalculator.calculateInstallmentAmount(totalAmount, installments);
+    }
+
+    // The per-installment loop the installment use case runs when creating a series
+    @Benchmark
+    public void installmentSeries(Blackhole blackhole) {
+        BigDecimal installmentAmount = InstallmentCalculator.calculateInstallmentAmount(totalAmount, installments);
+        InstallmentCalculator.validateHybridInput(totalAmount, installmentAmount, installments);
+        BigDecimal sumOfPrevious = BigDecimal.ZERO;
+        for (int number = 1; number <= installments; number++) {
+            BigDecimal amount = InstallmentCalculator.calculateCurrentInstallmentAmount(
+                    number, installments, totalAmount, installmentAmount, sumOfPrevious);
+            sumOfPrevious = sumOfPrevious.add(amount);
+            blackhole.consume(amount);
+        }
+    }
+
+}
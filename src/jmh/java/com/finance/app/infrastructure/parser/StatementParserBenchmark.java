@@ -0,0 +1,92 @@
+package com.finance.app.infrastructure.parser;
+
+import com.finance.app.domain.entity.ParsedTransaction;
+import com.finance.app.domain.service.StatementParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class StatementParserBenchmark {
+
+    // Size of the generated statement in lines, not in transactions
+    @Param({"10000", "100000", "1000000"})
+    private int lines;
+
+    private final NubankCsvParser csvParser = new NubankCsvParser();
+    private final NubankOfxParser ofxParser = new NubankOfxParser();
+
+    private byte[] csvStatement;
+    private byte[] ofxStatement;
+
+    @Setup
+    public void generateStatements() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 9, 0);
+
+        StringBuilder csv = new StringBuilder("Data,Valor,Identificador,Descrição\n");
+        DateTimeFormatter csvDate = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        for (int i = 1; i < lines; i++) {
+            csv.append(start.plusDays(i % 2000).format(csvDate)).append(',')
+                    .append(i % 7 == 0 ? "1250.00" : "-" + (i % 500) + ".90").append(',')
+                    .append(UUID.randomUUID()).append(',')
+                    .append(i % 3 == 0 ? "\"Compra no débito - Mercado, Centro\"" : "Transferência enviada pelo Pix")
+                    .append('\n');
+        }
+        csvStatement = csv.toString().getBytes(StandardCharsets.UTF_8);
+
+        // Each <STMTTRN> block below is eight lines long
+        StringBuilder ofx = new StringBuilder("OFXHEADER:100\n<OFX>\n<BANKTRANLIST>\n");
+        DateTimeFormatter ofxDate = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+        for (int i = 0; i < (lines - 5) / 8; i++) {
+            ofx.append("<STMTTRN>\n")
+                    .append("<TRNTYPE>").append(i % 7 == 0 ? "CREDIT" : "DEBIT").append("</TRNTYPE>\n")
+                    .append("<DTPOSTED>").append(start.plusMinutes(i).format(ofxDate)).append("[-3:BRT]</DTPOSTED>\n")
+                    .append("<TRNAMT>").append(i % 7 == 0 ? "1250.00" : "-" + (i % 500) + ".90").append("</TRNAMT>\n")
+                    .append("<FITID>").append(UUID.randomUUID()).append("</FITID>\n")
+                    .append("<MEMO>").append(i % 3 == 0 ? "Compra no débito - Mercado" : "Transferência enviada pelo Pix")
+                    .append("</MEMO>\n")
+                    .append("</STMTTRN>\n")
+                    .append('\n');
+        }
+        ofx.append("</BANKTRANLIST>\n</OFX>\n");
+        ofxStatement = ofx.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public long csv() {
+        return count(csvParser, csvStatement);
+    }
+
+    @Benchmark
+    public long ofx() {
+        return count(ofxParser, ofxStatement);
+    }
+
+    private static long count(StatementParser parser, byte[] statement) {
+        try (Stream<ParsedTransaction> transactions = parser.stream(new ByteArrayInputStream(statement))) {
+            return transactions.count();
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.finance.app.infrastructure.persistence.mapper;
+
+import com.finance.app.domain.entity.Transaction;
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionSubtype;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.infrastructure.persistence.entity.AccountEntity;
+import com.finance.app.infrastructure.persistence.entity.CategoryEntity;
+import com.finance.app.infrastructure.persistence.entity.CompetenceEntity;
+import com.finance.app.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.app.infrastructure.persistence.entity.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionMapperBenchmark {
+
+    private final TransactionMapper mapper = new TransactionMapper();
+
+    private AccountEntity account;
+    private CategoryEntity category;
+    private CompetenceEntity competence;
+    private UserEntity user;
+    private TransactionEntity entity;
+    private Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2026, 5, 1, 10, 30);
+        user = UserEntity.builder().id(UUID.randomUUID()).build();
+        account = AccountEntity.builder().id(UUID.randomUUID()).build();
+        category = CategoryEntity.builder().id(UUID.randomUUID()).build();
+        competence = CompetenceEntity.builder().id(UUID.randomUUID()).build();
+        transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .accountId(account.getId())
+                .categoryId(category.getId())
+                .competenceId(competence.getId())
+                .userId(user.getId())
+                .description("Supermercado São João")
+                .amount(new BigDecimal("245.90"))
+                .dateTime(now)
+                .type(TransactionType.EXPENSE)
+                .subtype(TransactionSubtype.VARIABLE)
+                .status(TransactionStatus.COMPLETED)
+                .externalId(UUID.randomUUID().toString())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entity = mapper.toEntity(transaction, account, category, null, competence, user, null);
+    }
+
+    @Benchmark
+    public Transaction toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public TransactionEntity toEntity() {
+        return mapper.toEntity(transaction, account, category, null, competence, user, null);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.finance.app.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Filter throughput for an authenticated request; the uncached variant uses a zero-sized cache, so it still pays for the digest
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider("benchmark-secret", 86_400_000L);
+        String header = "Bearer " + jwtTokenProvider.generateToken("bench@example.com", UUID.randomUUID());
+
+        cachedFilter = new JwtAuthenticationFilter(jwtTokenProvider, new VerifiedTokenCache(10_000, Clock.systemUTC()));
+        uncachedFilter = new JwtAuthenticationFilter(jwtTokenProvider, new VerifiedTokenCache(0, Clock.systemUTC()));
+
+        request = stub(HttpServletRequest.class, header);
+        response = stub(HttpServletResponse.class, null);
+        chain = (servletRequest, servletResponse) -> {
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object cached() throws Exception {
+        cachedFilter.doFilterInternal(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object verifyEveryRequest() throws Exception {
+        uncachedFilter.doFilterInternal(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static <T> T stub(Class<T> type, String authorization) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, invoked, args) -> {
+            if (invoked.getName().equals("getHeader") && "Authorization".equals(args[0])) {
+                return authorization;
+            }
+            return invoked.getReturnType() == boolean.class ? false : null;
+        }));
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.finance.app.web.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.finance.app.domain.entity.Transaction;
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionSubtype;
+import com.finance.app.domain.entity.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// A listing page: map each transaction to its response and serialize the array, as the controller does
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionResponseBenchmark {
+
+    @Param({"1", "50", "200"})
+    private int pageSize;
+
+    private List<Transaction> transactions;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, TransactionResponse.class));
+
+        UUID userId = UUID.randomUUID();
+        LocalDateTime start = LocalDateTime.of(2026, 5, 1, 10, 30);
+        transactions = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            transactions.add(Transaction.builder()
+                    .id(UUID.randomUUID())
+                    .accountId(UUID.randomUUID())
+                    .categoryId(UUID.randomUUID())
+                    .competenceId(UUID.randomUUID())
+                    .userId(userId)
+                    .description("Compra no débito - Mercado " + i)
+                    .amount(new BigDecimal("245.90").add(BigDecimal.valueOf(i)))
+                    .dateTime(start.minusHours(i))
+                    .type(i % 7 == 0 ? TransactionType.REVENUE : TransactionType.EXPENSE)
+                    .subtype(TransactionSubtype.VARIABLE)
+                    .status(TransactionStatus.COMPLETED)
+                    .createdAt(start)
+                    .updatedAt(start)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<TransactionResponse> fromDomain() {
+        return transactions.stream().map(TransactionResponse::fromDomain).toList();
+    }
+
+    @Benchmark
+    public byte[] fromDomainAndSerialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(transactions.stream().map(TransactionResponse::fromDomain).toList());
+    }
+
+}
@@ -0,0 +1,319 @@
+package com.finance.app.loadtest;
+
+import com.finance.app.application.usecase.CompetenceUseCase;
+import com.finance.app.domain.entity.SavingsHistoryType;
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionSubtype;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.service.InstallmentCalculator;
+import com.finance.app.domain.service.SearchTextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+// Fills the schema with realistic per-user volumes straight through JDBC, then rebuilds the competence rollup.
+// Users log in as loadtest-<n>@julius.test with PASSWORD, which is what LoadDriver expects.
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class DatasetGenerator implements ApplicationRunner {
+
+    static final String EMAIL_PATTERN = "loadtest-%d@julius.test";
+    static final String PASSWORD = "loadtest-password";
+
+    private static final String SAVINGS_CATEGORY_NAME = "Savings Vault";
+    private static final int BATCH_SIZE = 1000;
+
+    private static final List<Map.Entry<String, List<String>>> EXPENSE_CATEGORIES = List.of(
+            Map.entry("Food", List.of("Delivery", "Groceries", "Restaurants")),
+            Map.entry("Housing", List.of("Electricity", "Rent", "Condo")),
+            Map.entry("Health", List.of("Pharmacy", "Health Insurance")),
+            Map.entry("Services", List.of("Internet", "Streaming")),
+            Map.entry("Shopping", List.of("Clothing", "Electronics")),
+            Map.entry("Pets", List.of("Pet Food", "Vet")),
+            Map.entry("Transportation", List.of("Fuel", "Ride Apps")));
+
+    private static final List<String> MERCHANTS = List.of(
+            "Supermercado São João", "iFood *Açaí do Pará", "Uber *Trip", "Farmácia Pague Menos", "Posto Shell",
+            "Padaria Pão de Açúcar", "Netflix.com", "Amazon Marketplace", "Petz", "Drogasil",
+            "Restaurante Sabor Caseiro", "Mercado Livre", "Enel Distribuição", "Vivo Fibra", "Renner");
+
+    private static final List<String> INSTALLMENT_PURCHASES = List.of(
+            "Notebook Dell", "Geladeira Brastemp", "Passagem aérea LATAM", "Sofá retrátil", "iPhone", "Curso de inglês");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CompetenceUseCase competenceUseCase;
+    private final BCryptPasswordEncoder passwordEncoder;
+
+    @Value("${loadtest.dataset.users:50}")
+    private int users;
+
+    @Value("${loadtest.dataset.years:3}")
+    private int years;
+
+    @Value("${loadtest.dataset.transactions-per-month:60}")
+    private int transactionsPerMonth;
+
+    @Value("${loadtest.dataset.installment-series-per-user:12}")
+    private int installmentSeriesPerUser;
+
+    @Value("${loadtest.dataset.savings-per-user:2}")
+    private int savingsPerUser;
+
+    @Value("${loadtest.dataset.seed:42}")
+    private long seed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class,
+                EMAIL_PATTERN.formatted(1));
+        if (existing != null && existing > 0) {
+            log.atInfo().log("Load test dataset already present, skipping generation");
+            return;
+        }
+
+        long start = System.nanoTime();
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        Random random = new Random(seed);
+        long transactions = 0;
+        for (int n = 1; n <= users; n++) {
+            UserDataset dataset = generateUser(n, passwordHash, random);
+            transactionTemplate.executeWithoutResult(status -> dataset.insert(jdbcTemplate));
+            transactions += dataset.transactions.size();
+        }
+        competenceUseCase.rebuildSummaries();
+
+        log.atInfo().log("Generated load test dataset: {} users, {} transactions in {} s",
+                users, transactions, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private UserDataset generateUser(int n, String passwordHash, Random random) {
+        LocalDateTime now = LocalDateTime.now();
+        UserDataset dataset = new UserDataset();
+        UUID userId = UUID.randomUUID();
+        dataset.users.add(new Object[]{bytes(userId), "Load Test " + n, EMAIL_PATTERN.formatted(n), passwordHash, now, now});
+
+        UUID checking = UUID.randomUUID();
+        UUID creditCard = UUID.randomUUID();
+        Map<UUID, BigDecimal> balances = new HashMap<>(Map.of(checking, BigDecimal.ZERO, creditCard, BigDecimal.ZERO));
+
+        List<UUID[]> expenseCategories = new ArrayList<>();
+        for (Map.Entry<String, List<String>> category : EXPENSE_CATEGORIES) {
+            UUID categoryId = dataset.category(userId, category.getKey(), TransactionType.EXPENSE, now);
+            for (String subcategory : category.getValue()) {
+                UUID subcategoryId = UUID.randomUUID();
+                dataset.subcategories.add(new Object[]{bytes(subcategoryId), bytes(categoryId), subcategory, now, now});
+                expenseCategories.add(new UUID[]{categoryId, subcategoryId});
+            }
+        }
+        UUID salary = dataset.category(userId, "Salary", TransactionType.REVENUE, now);
+        UUID freelance = dataset.category(userId, "Freelance", TransactionType.REVENUE, now);
+        UUID savingsExpense = dataset.category(userId, SAVINGS_CATEGORY_NAME, TransactionType.EXPENSE, now);
+        UUID savingsRevenue = dataset.category(userId, SAVINGS_CATEGORY_NAME, TransactionType.REVENUE, now);
+
+        // Competences span the history plus a year ahead, where pending installments land
+        YearMonth current = YearMonth.from(now);
+        Map<YearMonth, UUID> competences = new HashMap<>();
+        for (YearMonth month = current.minusYears(years).plusMonths(1); !month.isAfter(current.plusMonths(12)); month = month.plusMonths(1)) {
+            UUID competenceId = UUID.randomUUID();
+            competences.put(month, competenceId);
+            dataset.competences.add(new Object[]{bytes(competenceId), bytes(userId), month.getMonthValue(), month.getYear(), now, now});
+        }
+
+        BigDecimal monthlySalary = BigDecimal.valueOf(3000 + random.nextInt(12000)).setScale(2, RoundingMode.HALF_EVEN);
+        for (YearMonth month = current.minusYears(years).plusMonths(1); !month.isAfter(current); month = month.plusMonths(1)) {
+            UUID competenceId = competences.get(month);
+            dataset.transaction(balances, userId, checking, salary, null, competenceId, null, "Salário " + month,
+                    monthlySalary, month.atDay(5).atTime(9, 0), TransactionType.REVENUE, TransactionSubtype.FIXED, now, null, null, null);
+            if (random.nextInt(4) == 0) {
+                dataset.transaction(balances, userId, checking, freelance, null, competenceId, null, "Freelance",
+                        money(random, 300, 4000), month.atDay(1 + random.nextInt(28)).atTime(14, 0),
+                        TransactionType.REVENUE, TransactionSubtype.VARIABLE, now, null, null, null);
+            }
+
+            for (int i = 0; i < transactionsPerMonth; i++) {
+                UUID[] category = expenseCategories.get(random.nextInt(expenseCategories.size()));
+                boolean onCard = random.nextBoolean();
+                LocalDateTime dateTime = month.atDay(1 + random.nextInt(month.lengthOfMonth()))
+                        .atTime(random.nextInt(24), random.nextInt(60));
+                // Card spending comes in through statement imports and carries the bank's identifier
+                String externalId = onCard ? UUID.randomUUID().toString() : null;
+                dataset.transaction(balances, userId, onCard ? creditCard : checking, category[0], category[1], competenceId, null,
+                        MERCHANTS.get(random.nextInt(MERCHANTS.size())), money(random, 5, 600), dateTime,
+                        TransactionType.EXPENSE, TransactionSubtype.VARIABLE, now, null, null, externalId);
+            }
+        }
+
+        for (int s = 0; s < installmentSeriesPerUser; s++) {
+            int count = 2 + random.nextInt(23);
+            YearMonth first = current.minusMonths(random.nextInt(years * 12 - 1));
+            BigDecimal total = money(random, 300, 12000);
+            BigDecimal installmentAmount = InstallmentCalculator.calculateInstallmentAmount(total, count);
+            UUID[] category = expenseCategories.get(random.nextInt(expenseCategories.size()));
+            LocalDateTime purchasedAt = first.atDay(1 + random.nextInt(28)).atTime(20, 0);
+            String description = INSTALLMENT_PURCHASES.get(random.nextInt(INSTALLMENT_PURCHASES.size()));
+
+            UUID parentId = null;
+            BigDecimal sumOfPrevious = BigDecimal.ZERO;
+            int completed = 0;
+            int pending = 0;
+            BigDecimal completedAmount = BigDecimal.ZERO;
+            for (int number = 1; number <= count; number++) {
+                YearMonth month = first.plusMonths(number - 1);
+                UUID competenceId = competences.get(month);
+                if (competenceId == null) {
+                    break;
+                }
+                BigDecimal amount = InstallmentCalculator.calculateCurrentInstallmentAmount(number, count, total, installmentAmount, sumOfPrevious);
+                sumOfPrevious = sumOfPrevious.add(amount);
+                boolean paid = !month.isAfter(current);
+                UUID id = dataset.transaction(balances, userId, creditCard, category[0], category[1], competenceId, parentId, description,
+                        amount, purchasedAt, TransactionType.EXPENSE, TransactionSubtype.FIXED, now, count, number, null,
+                        paid ? TransactionStatus.COMPLETED : TransactionStatus.PENDING);
+                if (parentId == null) {
+                    parentId = id;
+                }
+                if (paid) {
+                    completed++;
+                    completedAmount = completedAmount.add(amount);
+                } else {
+                    pending++;
+                }
+            }
+            // The header covers the installments actually generated, as the V20 backfill would
+            if (parentId != null) {
+                dataset.installmentSeries.add(new Object[]{bytes(parentId), bytes(userId), description, completed + pending,
+                        completed, pending, sumOfPrevious, completedAmount, sumOfPrevious.subtract(completedAmount), now});
+            }
+        }
+
+        for (int s = 0; s < savingsPerUser; s++) {
+            UUID savingsId = UUID.randomUUID();
+            BigDecimal savingsBalance = BigDecimal.ZERO;
+            for (YearMonth month = current.minusYears(years).plusMonths(1); !month.isAfter(current); month = month.plusMonths(1)) {
+                boolean withdrawal = savingsBalance.signum() > 0 && random.nextInt(6) == 0;
+                BigDecimal amount = withdrawal ? savingsBalance.min(money(random, 50, 1000)) : money(random, 50, 800);
+                LocalDateTime dateTime = month.atDay(10).atTime(12, 0);
+                UUID transactionId = dataset.transaction(balances, userId, checking, withdrawal ? savingsRevenue : savingsExpense, null,
+                        competences.get(month), null, withdrawal ? "Withdraw from Savings" : "Transfer to Savings", amount, dateTime,
+                        withdrawal ? TransactionType.REVENUE : TransactionType.EXPENSE, null, now, null, null, null);
+                dataset.savingsHistory.add(new Object[]{bytes(UUID.randomUUID()), bytes(savingsId), bytes(checking), bytes(transactionId),
+                        (withdrawal ? SavingsHistoryType.WITHDRAWAL : SavingsHistoryType.DEPOSIT).name(), amount, null, dateTime});
+                savingsBalance = withdrawal ? savingsBalance.subtract(amount) : savingsBalance.add(amount);
+            }
+            dataset.savings.add(new Object[]{bytes(savingsId), bytes(userId), s == 0 ? "Reserva de emergência" : "Viagem " + s,
+                    savingsBalance, "#4CAF50", "savings", now, now});
+        }
+
+        dataset.accounts.add(new Object[]{bytes(checking), bytes(userId), "Conta corrente", balances.get(checking), "BRL", now, now});
+        dataset.accounts.add(new Object[]{bytes(creditCard), bytes(userId), "Cartão Nubank", balances.get(creditCard), "BRL", now, now});
+        return dataset;
+    }
+
+    private static BigDecimal money(Random random, int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextInt((max - min) * 100), 2);
+    }
+
+    // UUID columns are BINARY(16) on MySQL; H2 converts the same bytes into its UUID type
+    private static byte[] bytes(UUID id) {
+        if (id == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    // Rows of one user, inserted in foreign key order
+    private static final class UserDataset {
+
+        private final List<Object[]> users = new ArrayList<>();
+        private final List<Object[]> accounts = new ArrayList<>();
+        private final List<Object[]> categories = new ArrayList<>();
+        private final List<Object[]> subcategories = new ArrayList<>();
+        private final List<Object[]> competences = new ArrayList<>();
+        private final List<Object[]> transactions = new ArrayList<>();
+        private final List<Object[]> installmentSeries = new ArrayList<>();
+        private final List<Object[]> savings = new ArrayList<>();
+        private final List<Object[]> savingsHistory = new ArrayList<>();
+
+        UUID category(UUID userId, String name, TransactionType type, LocalDateTime now) {
+            UUID id = UUID.randomUUID();
+            categories.add(new Object[]{bytes(id), bytes(userId), name, null, type.name(), now, now});
+            return id;
+        }
+
+        UUID transaction(Map<UUID, BigDecimal> balances, UUID userId, UUID accountId, UUID categoryId, UUID subcategoryId,
+                         UUID competenceId, UUID parentId, String description, BigDecimal amount, LocalDateTime dateTime,
+                         TransactionType type, TransactionSubtype subtype, LocalDateTime now,
+                         Integer installmentCount, Integer installmentNumber, String externalId) {
+            TransactionStatus status = dateTime.isAfter(now) ? TransactionStatus.PENDING : TransactionStatus.COMPLETED;
+            return transaction(balances, userId, accountId, categoryId, subcategoryId, competenceId, parentId, description, amount,
+                    dateTime, type, subtype, now, installmentCount, installmentNumber, externalId, status);
+        }
+
+        UUID transaction(Map<UUID, BigDecimal> balances, UUID userId, UUID accountId, UUID categoryId, UUID subcategoryId,
+                         UUID competenceId, UUID parentId, String description, BigDecimal amount, LocalDateTime dateTime,
+                         TransactionType type, TransactionSubtype subtype, LocalDateTime now,
+                         Integer installmentCount, Integer installmentNumber, String externalId, TransactionStatus status) {
+            UUID id = UUID.randomUUID();
+            transactions.add(new Object[]{bytes(id), bytes(accountId), bytes(categoryId), bytes(subcategoryId), bytes(competenceId),
+                    bytes(userId), bytes(parentId), externalId, description, SearchTextNormalizer.normalize(description),
+                    type.name(), subtype != null ? subtype.name() : null, amount, dateTime, status.name(),
+                    installmentCount, installmentNumber, now, now});
+            if (status == TransactionStatus.COMPLETED) {
+                balances.merge(accountId, type == TransactionType.EXPENSE ? amount.negate() : amount, BigDecimal::add);
+            }
+            return id;
+        }
+
+        void insert(JdbcTemplate jdbcTemplate) {
+            batch(jdbcTemplate, "INSERT INTO users (id, name, email, password_hash, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", users);
+            batch(jdbcTemplate, "INSERT INTO accounts (id, user_id, name, balance, currency, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)", accounts);
+            batch(jdbcTemplate, "INSERT INTO categories (id, user_id, name, color_hex, type, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)", categories);
+            batch(jdbcTemplate, "INSERT INTO subcategories (id, category_id, name, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                    subcategories);
+            batch(jdbcTemplate, "INSERT INTO competences (id, user_id, month, year, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    competences);
+            batch(jdbcTemplate, "INSERT INTO transactions (id, account_id, category_id, subcategory_id, competence_id, user_id, "
+                    + "parent_id, external_id, description, description_search, type, subtype, amount, date_time, status, "
+                    + "installment_count, installment_number, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", transactions);
+            batch(jdbcTemplate, "INSERT INTO installment_series (parent_id, user_id, description, total_installments, "
+                    + "completed_installments, pending_installments, total_amount, completed_amount, pending_amount, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", installmentSeries);
+            batch(jdbcTemplate, "INSERT INTO savings (id, user_id, name, balance, color_hex, icon, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", savings);
+            batch(jdbcTemplate, "INSERT INTO savings_history (id, savings_id, account_id, transaction_id, type, amount, description, "
+                    + "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", savingsHistory);
+        }
+
+        private static void batch(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+            for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,285 @@
+package com.finance.app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.StreamSupport;
+
+// Replays a weighted mix of API calls against a running server and reports throughput and p50/p99 per route.
+// Configured through system properties (see the loadTest task); users come from DatasetGenerator.
+public class LoadDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+    private final Map<String, Integer> mix;
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private final int totalWeight;
+
+    private volatile boolean measuring;
+
+    LoadDriver(String baseUrl, Map<String, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        mix.keySet().forEach(route -> recorders.put(route, new LatencyRecorder()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.url", "http://localhost:8080");
+        int users = Integer.getInteger("loadtest.users", 20);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+        Path report = Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/report.json"));
+        Map<String, Integer> mix = parseMix(System.getProperty("loadtest.mix",
+                "dashboard=30,competences=15,transactions=30,create=20,import=5"));
+
+        LoadDriver driver = new LoadDriver(baseUrl, mix);
+        List<Session> sessions = new ArrayList<>();
+        for (int n = 1; n <= users; n++) {
+            sessions.add(driver.login(DatasetGenerator.EMAIL_PATTERN.formatted(n), DatasetGenerator.PASSWORD));
+        }
+
+        System.out.printf("Driving %s with %d users, %d concurrent callers, warmup %s, measuring %s, mix %s%n",
+                baseUrl, users, concurrency, warmup, duration, mix);
+        double seconds = driver.run(sessions, concurrency, warmup, duration);
+        driver.report(seconds, report);
+    }
+
+    private double run(List<Session> sessions, int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                Session session = sessions.get(worker % sessions.size());
+                executor.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        call(session, pickRoute());
+                    }
+                });
+            }
+            Thread.sleep(warmup);
+            measuring = true;
+        }
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+
+    private String pickRoute() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty mix");
+    }
+
+    private void call(Session session, String route) {
+        HttpRequest request = switch (route) {
+            case "dashboard" -> session.get("/api/v1/dashboard/summary?competenceId=" + session.randomCompetence());
+            case "competences" -> session.get("/api/v1/competences");
+            case "transactions" -> session.get("/api/v1/transactions?limit=50&competenceId=" + session.randomCompetence());
+            case "create" -> session.post("/api/v1/transactions", "application/json", createTransactionBody(session));
+            case "import" -> session.importStatement();
+            default -> throw new IllegalArgumentException("Unknown route " + route);
+        };
+
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            ok = status >= 200 && status < 300;
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (measuring) {
+            recorders.get(route).record(System.nanoTime() - start, ok);
+        }
+    }
+
+    private static byte[] createTransactionBody(Session session) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ObjectNode body = MAPPER.createObjectNode()
+                .put("accountId", session.accounts.get(random.nextInt(session.accounts.size())).toString())
+                .put("categoryId", session.categories.get(random.nextInt(session.categories.size())).toString())
+                .put("competenceId", session.randomCompetence().toString())
+                .put("description", "Load test purchase")
+                .put("amount", random.nextInt(100, 50_000) / 100.0)
+                .put("dateTime", LocalDateTime.now().withNano(0).toString())
+                .put("type", "EXPENSE")
+                .put("subtype", "VARIABLE")
+                .put("status", "COMPLETED");
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Session login(String email, String password) throws IOException, InterruptedException {
+        byte[] credentials = MAPPER.createObjectNode().put("email", email).put("password", password).toString()
+                .getBytes(StandardCharsets.UTF_8);
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(credentials))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + email + " with status " + response.statusCode()
+                    + "; start the server with the loadtest profile so the dataset exists");
+        }
+
+        Session session = new Session(baseUrl, MAPPER.readTree(response.body()).get("token").asText());
+        session.competences = ids(session.get("/api/v1/competences"));
+        session.accounts = ids(session.get("/api/v1/accounts"));
+        session.categories = ids(session.get("/api/v1/categories?type=EXPENSE"));
+        return session;
+    }
+
+    private List<UUID> ids(HttpRequest request) throws IOException, InterruptedException {
+        JsonNode items = MAPPER.readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+        return StreamSupport.stream(items.spliterator(), false).map(item -> UUID.fromString(item.get("id").asText())).toList();
+    }
+
+    private void report(double seconds, Path report) throws IOException {
+        ObjectNode json = MAPPER.createObjectNode().put("seconds", seconds);
+        ObjectNode routes = json.putObject("routes");
+        System.out.printf("%n%-14s %10s %8s %10s %10s %10s %10s%n", "route", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        recorders.forEach((route, recorder) -> {
+            long[] sorted = recorder.sorted();
+            double throughput = sorted.length / seconds;
+            System.out.printf("%-14s %10d %8d %10.1f %10.2f %10.2f %10.2f%n", route, sorted.length, recorder.errors(),
+                    throughput, percentile(sorted, 50), percentile(sorted, 99), percentile(sorted, 100));
+            routes.putObject(route)
+                    .put("requests", sorted.length)
+                    .put("errors", recorder.errors())
+                    .put("throughput", throughput)
+                    .put("p50Ms", percentile(sorted, 50))
+                    .put("p99Ms", percentile(sorted, 99))
+                    .put("maxMs", percentile(sorted, 100));
+        });
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(report.toFile(), json);
+        System.out.println("\nReport written to " + report.toAbsolutePath());
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = Math.min(sortedNanos.length - 1, Math.max(0, (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1));
+        return sortedNanos[index] / 1_000_000.0;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static final class Session {
+
+        private static final DateTimeFormatter CSV_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+        private final String baseUrl;
+        private final String authorization;
+        private List<UUID> competences;
+        private List<UUID> accounts;
+        private List<UUID> categories;
+
+        Session(String baseUrl, String token) {
+            this.baseUrl = baseUrl;
+            this.authorization = "Bearer " + token;
+        }
+
+        UUID randomCompetence() {
+            return competences.get(ThreadLocalRandom.current().nextInt(competences.size()));
+        }
+
+        HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Authorization", authorization).GET().build();
+        }
+
+        HttpRequest post(String path, String contentType, byte[] body) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", authorization)
+                    .header("Content-Type", contentType)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+        }
+
+        // A small Nubank CSV with fresh identifiers, so every import actually inserts rows
+        HttpRequest importStatement() {
+            StringBuilder csv = new StringBuilder("Data,Valor,Identificador,Descrição\n");
+            LocalDate today = LocalDate.now();
+            for (int i = 0; i < 20; i++) {
+                csv.append(today.minusDays(i).format(CSV_DATE)).append(",-").append(10 + i).append(".90,")
+                        .append(UUID.randomUUID()).append(",Compra no débito - Load test\n");
+            }
+            String boundary = "loadtest-" + UUID.randomUUID();
+            String body = "--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"file\"; filename=\"statement.csv\"\r\n"
+                    + "Content-Type: text/csv\r\n\r\n"
+                    + csv
+                    + "\r\n--" + boundary + "--\r\n";
+            UUID accountId = accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+            return post("/api/v1/accounts/" + accountId + "/transactions/import?defaultCategoryId=" + categories.getFirst(),
+                    "multipart/form-data; boundary=" + boundary, body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final class LatencyRecorder {
+
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void record(long nanos, boolean ok) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+
+}
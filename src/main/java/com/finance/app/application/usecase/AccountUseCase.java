@@ -8,6 +8,7 @@ import com.finance.app.web.dto.request.CreateAccountRequest;
 import com.finance.app.web.dto.request.UpdateAccountRequest;
 import com.finance.app.web.dto.response.AccountResponse;
 import com.finance.app.web.dto.response.BalanceResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -19,6 +20,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class AccountUseCase {
 
@@ -1,27 +1,42 @@
 package com.finance.app.application.usecase;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.finance.app.domain.entity.RefreshToken;
 import com.finance.app.domain.entity.SocialProfile;
 import com.finance.app.domain.entity.User;
 import com.finance.app.domain.exception.DuplicateEmailException;
 import com.finance.app.domain.exception.InvalidCredentialsException;
+import com.finance.app.domain.exception.InvalidTokenException;
 import com.finance.app.domain.port.TokenVerifier;
+import com.finance.app.domain.repository.RefreshTokenRepository;
 import com.finance.app.domain.repository.UserRepository;
+import com.finance.app.infrastructure.security.IssuedToken;
 import com.finance.app.infrastructure.security.JwtTokenProvider;
+import com.finance.app.infrastructure.security.RefreshTokenProvider;
+import com.finance.app.infrastructure.security.TokenPrincipal;
+import com.finance.app.infrastructure.security.VerifiedTokenCache;
 import com.finance.app.web.dto.request.GoogleAuthRequest;
 import com.finance.app.web.dto.request.LoginRequest;
+import com.finance.app.web.dto.request.RefreshTokenRequest;
 import com.finance.app.web.dto.request.RegisterRequest;
 import com.finance.app.web.dto.response.AuthResponse;
 import com.finance.app.web.dto.response.UserResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class AuthUseCase {
 
@@ -30,6 +45,9 @@ public class AuthUseCase {
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenVerifier tokenVerifier;
     private final CategoryUseCase categoryUseCase;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenProvider refreshTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Transactional
     public UserResponse register(RegisterRequest request) {
@@ -57,14 +75,58 @@ public class AuthUseCase {
             throw new InvalidCredentialsException();
         }
 
-        String token = jwtTokenProvider.generateToken(user.getEmail(), user.getId());
         log.atInfo().log("Successfully authenticated user ID: {}", user.getId());
+        return issueTokens(user, UUID.randomUUID(), LocalDateTime.now());
+    }
 
-        return new AuthResponse(
-                token,
-                jwtTokenProvider.getExpiresAt(token),
-                user.getId(),
-                user.getEmail());
+    // Rotates the refresh token: the presented one is spent and a new one is issued for the same device
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken current = refreshTokenRepository.findByTokenHash(refreshTokenProvider.hash(request.refreshToken()))
+                .orElseThrow(InvalidTokenException::refreshInvalid);
+
+        if (current.isExpired(now)) {
+            throw InvalidTokenException.refreshExpired();
+        }
+
+        // A spent token coming back means it was copied, so the whole device chain is cut off
+        if (current.isRevoked() || !refreshTokenRepository.revoke(current.getId(), now)) {
+            refreshTokenRepository.revokeDevice(current.getUserId(), current.getDeviceId(), now);
+            log.atWarn().log("Refresh token reuse detected for user ID: {}, device {} revoked",
+                    current.getUserId(), current.getDeviceId());
+            throw InvalidTokenException.refreshInvalid();
+        }
+
+        User user = userRepository.findById(current.getUserId())
+                .orElseThrow(InvalidTokenException::refreshInvalid);
+
+        log.atInfo().log("Refreshed tokens for user ID: {}", user.getId());
+        return issueTokens(user, current.getDeviceId(), now);
+    }
+
+    @Transactional
+    public void logout(RefreshTokenRequest request, String accessToken) {
+        refreshTokenRepository.findByTokenHash(refreshTokenProvider.hash(request.refreshToken()))
+                .ifPresent(token -> {
+                    int revoked = refreshTokenRepository.revokeDevice(token.getUserId(), token.getDeviceId(), LocalDateTime.now());
+                    log.atInfo().log("Revoked {} refresh tokens of device {} for user ID: {}",
+                            revoked, token.getDeviceId(), token.getUserId());
+                });
+        if (Objects.nonNull(accessToken)) {
+            revokeAccessToken(accessToken);
+        }
+    }
+
+    // Access tokens are stateless, so the one presented with the logout is shut out through the verified-token cache
+    private void revokeAccessToken(String accessToken) {
+        try {
+            TokenPrincipal principal = verifiedTokenCache.resolve(accessToken, jwtTokenProvider::authenticate);
+            verifiedTokenCache.revoke(accessToken, principal.expiresAt());
+            log.atInfo().log("Revoked access token of user ID: {}", principal.userId());
+        } catch (JWTVerificationException | IllegalArgumentException exception) {
+            // Expired, already revoked or not one of ours: it cannot authenticate anything anyway
+        }
     }
 
     @Transactional
@@ -84,11 +146,23 @@ public class AuthUseCase {
             log.atInfo().log("Google login created new user ID: {}", user.getId());
         }
 
-        String token = jwtTokenProvider.generateToken(user.getEmail(), user.getId());
+        return issueTokens(user, UUID.randomUUID(), LocalDateTime.now());
+    }
+
+    private AuthResponse issueTokens(User user, UUID deviceId, LocalDateTime now) {
+        IssuedToken token = jwtTokenProvider.issueToken(user.getEmail(), user.getId());
+
+        String refreshToken = refreshTokenProvider.generate();
+        LocalDateTime refreshTokenExpiresAt = refreshTokenProvider.expiresAt(now);
+        refreshTokenRepository.save(RefreshToken.create(
+                user.getId(), deviceId, refreshTokenProvider.hash(refreshToken), refreshTokenExpiresAt));
 
         return new AuthResponse(
-                token,
-                jwtTokenProvider.getExpiresAt(token),
+                token.token(),
+                token.expiresAt(),
+                refreshToken,
+                // Stored as local time like the other timestamps; clients get an absolute instant like expiresAt
+                refreshTokenExpiresAt.atZone(ZoneId.systemDefault()).toInstant(),
                 user.getId(),
                 user.getEmail());
     }
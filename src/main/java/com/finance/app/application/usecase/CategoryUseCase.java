@@ -2,14 +2,18 @@ package com.finance.app.application.usecase;
 
 import com.finance.app.domain.entity.Category;
 import com.finance.app.domain.entity.Subcategory;
+import com.finance.app.domain.port.DashboardCache;
 import com.finance.app.domain.repository.CategoryRepository;
 import com.finance.app.domain.repository.SubcategoryRepository;
 import com.finance.app.web.dto.request.CreateCategoryRequest;
 import com.finance.app.web.dto.request.UpdateCategoryRequest;
 import com.finance.app.web.dto.response.CategoryResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import com.finance.app.domain.entity.TransactionType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,12 +21,17 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class CategoryUseCase {
 
+    static final int DEFAULT_TEMPLATE_VERSION = 1;
+
     private final CategoryRepository categoryRepository;
     private final SubcategoryRepository subcategoryRepository;
+    private final DashboardCache dashboardCache;
 
     public CategoryResponse create(CreateCategoryRequest request, UUID userId) {
         LocalDateTime now = LocalDateTime.now();
@@ -49,6 +58,8 @@ public class CategoryUseCase {
         category.setUpdatedAt(LocalDateTime.now());
 
         Category updatedCategory = categoryRepository.save(category);
+        // Cached expenses-by-category results carry the category name and color
+        dashboardCache.evictUser(updatedCategory.getUserId());
         return CategoryResponse.fromDomain(updatedCategory);
     }
 
@@ -86,80 +97,23 @@ public class CategoryUseCase {
                 });
     }
 
+    // The default taxonomy lives in category_templates/subcategory_templates; a new version ships as a migration
+    @Transactional
     public void createDefaultCategories(UUID userId) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Food -> Delivery, Groceries, Restaurants
-        Category food = categoryRepository.save(Category.builder()
-                .userId(userId).name("Food").colorHex("#4CAF50").type(TransactionType.EXPENSE).createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(food.getId()).name("Delivery").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(food.getId()).name("Groceries").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(food.getId()).name("Restaurants").createdAt(now).updatedAt(now).build());
-
-        // Housing -> Electricity, Rent, Condo, Internet, Water, Gas
-        Category housing = categoryRepository.save(Category.builder()
-                .userId(userId).name("Housing").colorHex("#2196F3").type(TransactionType.EXPENSE).createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(housing.getId()).name("Electricity").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(housing.getId()).name("Rent").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(housing.getId()).name("Condo").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(housing.getId()).name("Internet").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(housing.getId()).name("Water").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(housing.getId()).name("Gas").createdAt(now).updatedAt(now).build());
-
-        // Health -> Pharmacy, Exams, Appointments, Gym, Supplements
-        Category health = categoryRepository.save(Category.builder()
-                .userId(userId).name("Health").colorHex("#E91E63").type(TransactionType.EXPENSE).createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(health.getId()).name("Pharmacy").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(health.getId()).name("Exams").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(health.getId()).name("Appointments").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(health.getId()).name("Gym").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(health.getId()).name("Supplements").createdAt(now).updatedAt(now).build());
-
-        // Services -> Subscriptions, Service Providers
-        Category services = categoryRepository.save(Category.builder()
-                .userId(userId).name("Services").colorHex("#9C27B0").type(TransactionType.EXPENSE).createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(services.getId()).name("Subscriptions").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(services.getId()).name("Service Providers").createdAt(now).updatedAt(now).build());
-
-        // Shopping -> Clothes, Office Supplies, Shoes, Accessories
-        Category shopping = categoryRepository.save(Category.builder()
-                .userId(userId).name("Shopping").colorHex("#E67E22").type(TransactionType.EXPENSE).createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(shopping.getId()).name("Clothes").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(shopping.getId()).name("Office Supplies").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(shopping.getId()).name("Shoes").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(shopping.getId()).name("Accessories").createdAt(now).updatedAt(now).build());
-
-        // Pets -> Health Insurance, Food, Litter, Toys, Accessories
-        Category pets = categoryRepository.save(Category.builder()
-                .userId(userId).name("Pets").colorHex("#795548").type(TransactionType.EXPENSE).createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(pets.getId()).name("Health Insurance").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(pets.getId()).name("Food").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(pets.getId()).name("Litter").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(pets.getId()).name("Toys").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(pets.getId()).name("Accessories").createdAt(now).updatedAt(now).build());
-
-        // Transportation -> Fuel, Mechanic, Parts
-        Category transport = categoryRepository.save(Category.builder()
-                .userId(userId).name("Transportation").colorHex("#607D8B").type(TransactionType.EXPENSE).createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(transport.getId()).name("Fuel").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(transport.getId()).name("Mechanic").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(transport.getId()).name("Parts").createdAt(now).updatedAt(now).build());
-
-        // REVENUE Categories
-
-        // Salary
-        Category salary = categoryRepository.save(Category.builder()
-                .userId(userId).name("Salary").colorHex("#4CAF50").type(TransactionType.REVENUE).createdAt(now).updatedAt(now).build());
-        
-        // Investments -> Dividends, Interest
-        Category investments = categoryRepository.save(Category.builder()
-                .userId(userId).name("Investments").colorHex("#2196F3").type(TransactionType.REVENUE).createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(investments.getId()).name("Dividends").createdAt(now).updatedAt(now).build());
-        subcategoryRepository.save(Subcategory.builder().categoryId(investments.getId()).name("Interest").createdAt(now).updatedAt(now).build());
-
-        // Other Income
-        Category otherIncome = categoryRepository.save(Category.builder()
-                .userId(userId).name("Other Income").colorHex("#FF9800").type(TransactionType.REVENUE).createdAt(now).updatedAt(now).build());
+        int categories = categoryRepository.provisionFromTemplate(DEFAULT_TEMPLATE_VERSION, userId);
+        int subcategories = subcategoryRepository.provisionFromTemplate(DEFAULT_TEMPLATE_VERSION, userId);
+        log.atInfo().log("Provisioned {} default categories and {} subcategories (template v{}) for user ID: {}",
+                categories, subcategories, DEFAULT_TEMPLATE_VERSION, userId);
+    }
+
+    // Adds whatever the current template has and a user is missing, for every user
+    @Transactional
+    public int backfillDefaultCategories() {
+        int categories = categoryRepository.provisionFromTemplateForAllUsers(DEFAULT_TEMPLATE_VERSION);
+        int subcategories = subcategoryRepository.provisionFromTemplateForAllUsers(DEFAULT_TEMPLATE_VERSION);
+        log.atInfo().log("Backfilled {} default categories and {} subcategories from template v{}",
+                categories, subcategories, DEFAULT_TEMPLATE_VERSION);
+        return categories + subcategories;
     }
 
 }
@@ -1,66 +1,61 @@
 package com.finance.app.application.usecase;
 
 import com.finance.app.domain.entity.Competence;
-import com.finance.app.domain.entity.CompetenceTransactionCountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionAmountSummary;
 import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
 import com.finance.app.domain.entity.TransactionType;
 import com.finance.app.domain.entity.TransactionStatus;
 import com.finance.app.domain.entity.TransactionSubtype;
+import com.finance.app.domain.port.CompetenceCache;
 import com.finance.app.domain.repository.CompetenceRepository;
-import com.finance.app.domain.repository.TransactionRepository;
+import com.finance.app.domain.repository.CompetenceSummaryRepository;
 import com.finance.app.web.dto.request.CreateCompetenceRequest;
 import com.finance.app.web.dto.response.CompetenceResponse;
 import com.finance.app.web.dto.response.CompetenceDetailResponse;
 import com.finance.app.web.dto.response.CompetenceDetailResponseV2;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import com.finance.app.domain.exception.CompetenceNotFoundException;
 
 @Slf4j
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class CompetenceUseCase {
 
     private final CompetenceRepository competenceRepository;
-    private final TransactionRepository transactionRepository;
+    private final CompetenceSummaryRepository competenceSummaryRepository;
+    private final CompetenceCache competenceCache;
 
+    @Transactional
     public CompetenceDetailResponse create(CreateCompetenceRequest request, UUID userId) {
         Competence competence = getOrCreate(request.month(), request.year(), userId);
         return getCompetenceDetailWithAmounts(competence);
     }
 
+    // Served from the competence cache after the first hit; a miss is one atomic upsert plus a read
     public Competence getOrCreate(Integer month, Integer year, UUID userId) {
-        Optional<Competence> existing = competenceRepository.findByUserIdAndMonthAndYear(
-                userId, month, year);
+        YearMonth period = YearMonth.of(year, month);
+        return competenceCache.get(userId, period,
+                () -> competenceRepository.findOrCreateAll(userId, List.of(period)).get(period));
+    }
 
-        if (existing.isPresent()) {
-            return existing.get();
+    public Map<YearMonth, Competence> getOrCreateAll(Collection<YearMonth> periods, UUID userId) {
+        if (periods.isEmpty()) {
+            return Map.of();
         }
-
-        LocalDateTime now = LocalDateTime.now();
-        Competence competence = Competence.builder()
-                .userId(userId)
-                .month(month)
-                .year(year)
-                .createdAt(now)
-                .updatedAt(now)
-                .build();
-
-        Competence savedCompetence = competenceRepository.save(competence);
-        log.atInfo().log("Created new competence ID {} for month/year: {}/{} for user ID {}", 
-                savedCompetence.getId(), month, year, userId);
-        return savedCompetence;
+        return competenceRepository.findOrCreateAll(userId, periods);
     }
 
     public CompetenceDetailResponse getById(UUID id, UUID userId) {
@@ -79,26 +74,19 @@ public class CompetenceUseCase {
 
     public List<CompetenceResponse> listAll(UUID userId) {
         List<Competence> competences = competenceRepository.findByUserIdOrderByYearDescMonthDesc(userId);
-        List<CompetenceTransactionCountSummary> counts = transactionRepository.countTransactionsGroupedByCompetence(userId);
-        Map<UUID, Long> countMap = counts.stream()
-                .collect(Collectors.toMap(
-                        CompetenceTransactionCountSummary::competenceId,
-                        CompetenceTransactionCountSummary::transactionCount
-                ));
-
-        List<CompetenceTransactionAmountSummary> amountSummaries = transactionRepository.sumAmountsGroupedByCompetence(userId);
-        Map<UUID, List<CompetenceTransactionAmountSummary>> amountsMap = amountSummaries.stream()
-                .collect(Collectors.groupingBy(CompetenceTransactionAmountSummary::competenceId));
+        Map<UUID, List<CompetenceTransactionSubtypeSummary>> summariesMap = competenceSummaryRepository.findByUserId(userId).stream()
+                .collect(Collectors.groupingBy(CompetenceTransactionSubtypeSummary::competenceId));
 
         return competences.stream()
                 .map(comp -> {
-                    long transactionCount = countMap.getOrDefault(comp.getId(), 0L);
-                    List<CompetenceTransactionAmountSummary> summaries = amountsMap.getOrDefault(comp.getId(), List.of());
+                    List<CompetenceTransactionSubtypeSummary> summaries = summariesMap.getOrDefault(comp.getId(), List.of());
 
+                    long transactionCount = 0;
                     BigDecimal totalRevenue = BigDecimal.ZERO.setScale(2, RoundingMode.HALF_EVEN);
                     BigDecimal totalExpense = BigDecimal.ZERO.setScale(2, RoundingMode.HALF_EVEN);
 
-                    for (CompetenceTransactionAmountSummary summary : summaries) {
+                    for (CompetenceTransactionSubtypeSummary summary : summaries) {
+                        transactionCount += summary.transactionCount();
                         BigDecimal amount = java.util.Objects.nonNull(summary.totalAmount())
                                 ? summary.totalAmount().setScale(2, RoundingMode.HALF_EVEN)
                                 : BigDecimal.ZERO.setScale(2, RoundingMode.HALF_EVEN);
@@ -115,43 +103,41 @@ public class CompetenceUseCase {
                 .toList();
     }
 
-    public CompetenceDetailResponse getCurrent(UUID userId) {
-        LocalDateTime now = LocalDateTime.now();
-        Integer currentMonth = now.getMonthValue();
-        Integer currentYear = now.getYear();
-
-        Optional<Competence> existing = competenceRepository.findByUserIdAndMonthAndYear(
-                userId, currentMonth, currentYear);
+    // Backfill/repair: recomputes every competence_summary row from the transactions table
+    @Transactional
+    public int rebuildSummaries() {
+        int rows = competenceSummaryRepository.rebuild();
+        log.atInfo().log("Rebuilt competence summary with {} rows", rows);
+        return rows;
+    }
 
-        if (existing.isPresent()) {
-            Competence comp = existing.get();
-            return getCompetenceDetailWithAmounts(comp);
-        }
+    @Transactional
+    public CompetenceDetailResponse getCurrent(UUID userId) {
+        return getCompetenceDetailWithAmounts(getOrCreateCurrent(userId));
+    }
 
-        Competence competence = Competence.builder()
-                .userId(userId)
-                .month(currentMonth)
-                .year(currentYear)
-                .createdAt(now)
-                .updatedAt(now)
-                .build();
+    @Transactional
+    public Competence getOrCreateCurrent(UUID userId) {
+        YearMonth current = YearMonth.now();
+        return getOrCreate(current.getMonthValue(), current.getYear(), userId);
+    }
 
-        Competence savedCompetence = competenceRepository.save(competence);
-        log.atInfo().log("Auto-created current competence ID {} for month/year: {}/{} for user ID {}", 
-                savedCompetence.getId(), currentMonth, currentYear, userId);
-        return getCompetenceDetailWithAmounts(savedCompetence);
+    public CompetenceDetailResponse getDetail(Competence competence) {
+        return getCompetenceDetailWithAmounts(competence);
     }
 
+    // Read from the competence_summary rollup, like V2; subtypes are folded together
     private CompetenceDetailResponse getCompetenceDetailWithAmounts(Competence competence) {
-        long transactionCount = transactionRepository.countByCompetenceId(competence.getId());
-        List<CompetenceTransactionAmountSummary> summaries = transactionRepository.sumAmountsByCompetenceId(competence.getId());
+        List<CompetenceTransactionSubtypeSummary> summaries = competenceSummaryRepository.findByCompetenceId(competence.getId());
 
+        long transactionCount = 0;
         BigDecimal completedAmount = BigDecimal.ZERO;
         BigDecimal pendingAmount = BigDecimal.ZERO;
         BigDecimal totalRevenue = BigDecimal.ZERO;
         BigDecimal totalExpense = BigDecimal.ZERO;
 
-        for (CompetenceTransactionAmountSummary summary : summaries) {
+        for (CompetenceTransactionSubtypeSummary summary : summaries) {
+            transactionCount += java.util.Objects.nonNull(summary.transactionCount()) ? summary.transactionCount() : 0L;
             BigDecimal amount = java.util.Objects.nonNull(summary.totalAmount())
                     ? summary.totalAmount()
                     : BigDecimal.ZERO;
@@ -179,7 +165,7 @@ public class CompetenceUseCase {
     }
 
     private CompetenceDetailResponseV2 getCompetenceDetailV2(Competence competence) {
-        List<CompetenceTransactionSubtypeSummary> summaries = transactionRepository.sumSubtypeAmountsByCompetenceId(competence.getId());
+        List<CompetenceTransactionSubtypeSummary> summaries = competenceSummaryRepository.findByCompetenceId(competence.getId());
 
         // We will accumulate these directly
         long pendingCount = 0;
@@ -0,0 +1,135 @@
+package com.finance.app.application.usecase;
+
+import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.exception.DashboardTimeoutException;
+import com.finance.app.web.dto.response.CompetenceDetailResponse;
+import com.finance.app.web.dto.response.DashboardOverviewResponse;
+import com.finance.app.web.dto.response.DashboardSummaryResponse;
+import com.finance.app.web.dto.response.ExpenseByCategoryResponse;
+import com.finance.app.web.dto.response.MonthlyEvolutionResponse;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+@Timed(value = "julius.usecase", histogram = true)
+public class DashboardOverviewUseCase {
+
+    private static final ThreadFactory SUBTASK_THREADS = Thread.ofVirtual().name("dashboard-overview-", 0).factory();
+
+    private final DashboardUseCase dashboardUseCase;
+    private final CompetenceUseCase competenceUseCase;
+    private final TaskDecorator overviewTaskDecorator;
+    private final Duration timeout;
+    // Shared by every overview in flight, so the fan-out never holds more pooled connections than this
+    private final Semaphore queryPermits;
+
+    public DashboardOverviewUseCase(DashboardUseCase dashboardUseCase,
+                                    CompetenceUseCase competenceUseCase,
+                                    TaskDecorator overviewTaskDecorator,
+                                    @Value("${app.dashboard.overview.timeout:3s}") Duration timeout,
+                                    @Value("${app.dashboard.overview.max-parallel-queries:5}") int maxParallelQueries) {
+        this.dashboardUseCase = dashboardUseCase;
+        this.competenceUseCase = competenceUseCase;
+        this.overviewTaskDecorator = overviewTaskDecorator;
+        this.timeout = timeout;
+        this.queryPermits = new Semaphore(maxParallelQueries);
+    }
+
+    // The current competence is resolved once, then the four aggregates run side by side on virtual threads.
+    // The executor is scoped to this call: the first failure or the deadline interrupts the rest and the
+    // request returns at once. A subtask stuck in a JDBC call keeps its permit until the driver returns.
+    public DashboardOverviewResponse getOverview(UUID userId) {
+        Competence competence = competenceUseCase.getOrCreateCurrent(userId);
+
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(SUBTASK_THREADS);
+        try {
+            Executor decorated = task -> executor.execute(overviewTaskDecorator.decorate(task));
+            CompletableFuture<CompetenceDetailResponse> detail = fork(() -> competenceUseCase.getDetail(competence), decorated);
+            CompletableFuture<DashboardSummaryResponse> summary = fork(() -> dashboardUseCase.getSummary(competence), decorated);
+            CompletableFuture<List<ExpenseByCategoryResponse>> expenses =
+                    fork(() -> dashboardUseCase.getExpensesByCategory(competence), decorated);
+            CompletableFuture<List<MonthlyEvolutionResponse>> evolution = fork(() -> dashboardUseCase.getEvolution(userId), decorated);
+
+            joinAll(detail, summary, expenses, evolution);
+
+            log.atInfo().log("Dashboard overview generated for user ID {} and competence ID {}", userId, competence.getId());
+            return DashboardOverviewResponse.builder()
+                    .currentCompetence(detail.join())
+                    .summary(summary.join())
+                    .expensesByCategory(expenses.join())
+                    .evolution(evolution.join())
+                    .build();
+        } finally {
+            // Unlike close(), this never waits for the stragglers
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> CompletableFuture<T> fork(Supplier<T> subtask, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                queryPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Dashboard overview subtask cancelled while waiting for a query slot", e);
+            }
+            try {
+                return subtask.get();
+            } finally {
+                queryPermits.release();
+            }
+        }, executor);
+    }
+
+    // Returns once every subtask succeeded; throws as soon as one fails or the deadline passes
+    private void joinAll(CompletableFuture<?>... subtasks) {
+        CompletableFuture<Object> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<?> subtask : subtasks) {
+            subtask.whenComplete((result, failure) -> {
+                if (failure != null) {
+                    firstFailure.completeExceptionally(failure);
+                }
+            });
+        }
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(subtasks), firstFailure)
+                    .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.atWarn().log("Dashboard overview timed out after {} ms", timeout.toMillis());
+            throw new DashboardTimeoutException(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DashboardTimeoutException(timeout);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Dashboard overview subtask failed", cause);
+        }
+    }
+
+}
@@ -1,46 +1,100 @@
 package com.finance.app.application.usecase;
 
 import com.finance.app.domain.entity.CategoryExpenseSummary;
+import com.finance.app.domain.entity.CommitmentSummary;
 import com.finance.app.domain.entity.Competence;
 import com.finance.app.domain.entity.CompetenceAmountSummary;
 import com.finance.app.domain.entity.TransactionType;
 import com.finance.app.domain.exception.CompetenceNotFoundException;
+import com.finance.app.domain.port.DashboardCache;
 import com.finance.app.domain.repository.CompetenceRepository;
 import com.finance.app.domain.repository.TransactionRepository;
+import com.finance.app.web.dto.response.CommitmentCategoryResponse;
+import com.finance.app.web.dto.response.CommitmentMonthResponse;
 import com.finance.app.web.dto.response.DashboardSummaryResponse;
 import com.finance.app.web.dto.response.ExpenseByCategoryResponse;
 import com.finance.app.web.dto.response.MonthlyEvolutionResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class DashboardUseCase {
 
+        private static final String SUMMARY_VIEW = "summary";
+        private static final String EXPENSES_BY_CATEGORY_VIEW = "expenses-by-category";
+        private static final String COMMITMENTS_VIEW = "commitments";
+        private static final int MAX_COMMITMENT_MONTHS = 24;
+
         private final TransactionRepository transactionRepository;
         private final CompetenceRepository competenceRepository;
+        private final DashboardCache dashboardCache;
+
+        public DashboardSummaryResponse getSummary(UUID competenceId, UUID userId) {
+                return dashboardCache.get(userId, competenceId, SUMMARY_VIEW,
+                                () -> buildSummary(findCompetence(competenceId, userId)));
+        }
+
+        public List<ExpenseByCategoryResponse> getExpensesByCategory(UUID competenceId, UUID userId) {
+                return dashboardCache.get(userId, competenceId, EXPENSES_BY_CATEGORY_VIEW,
+                                () -> buildExpensesByCategory(findCompetence(competenceId, userId)));
+        }
+
+        // For callers that already hold the user's competence, so it is not looked up again
+        public DashboardSummaryResponse getSummary(Competence competence) {
+                return dashboardCache.get(competence.getUserId(), competence.getId(), SUMMARY_VIEW,
+                                () -> buildSummary(competence));
+        }
+
+        public List<ExpenseByCategoryResponse> getExpensesByCategory(Competence competence) {
+                return dashboardCache.get(competence.getUserId(), competence.getId(), EXPENSES_BY_CATEGORY_VIEW,
+                                () -> buildExpensesByCategory(competence));
+        }
 
-        public DashboardSummaryResponse getSummary(UUID competenceId) {
-                competenceRepository.findById(competenceId)
+        // The window starts at the current month, so the view key carries it and rolls over with the calendar
+        public List<CommitmentMonthResponse> getCommitments(UUID userId, int months) {
+                YearMonth from = YearMonth.now();
+                YearMonth to = from.plusMonths(Math.clamp(months, 1, MAX_COMMITMENT_MONTHS) - 1);
+                return dashboardCache.get(userId, COMMITMENTS_VIEW + ":" + from + ":" + to,
+                                () -> buildCommitments(userId, from, to));
+        }
+
+        private Competence findCompetence(UUID competenceId, UUID userId) {
+                return competenceRepository.findById(competenceId)
+                                .filter(competence -> competence.getUserId().equals(userId))
                                 .orElseThrow(() -> new CompetenceNotFoundException(competenceId));
+        }
 
-                BigDecimal totalRevenue = transactionRepository
-                                .sumAmountByCompetenceIdAndType(competenceId, TransactionType.REVENUE)
-                                .setScale(2, RoundingMode.HALF_EVEN);
+        private DashboardSummaryResponse buildSummary(Competence competence) {
+                BigDecimal totalRevenue = BigDecimal.ZERO;
+                BigDecimal totalExpenses = BigDecimal.ZERO;
 
-                BigDecimal totalExpenses = transactionRepository
-                                .sumAmountByCompetenceIdAndType(competenceId, TransactionType.EXPENSE)
-                                .setScale(2, RoundingMode.HALF_EVEN);
+                for (CompetenceAmountSummary summary : transactionRepository
+                                .sumAmountByCompetenceIds(List.of(competence.getId()))) {
+                        if (TransactionType.REVENUE.equals(summary.type())) {
+                                totalRevenue = summary.totalAmount();
+                        } else {
+                                totalExpenses = summary.totalAmount();
+                        }
+                }
+
+                totalRevenue = totalRevenue.setScale(2, RoundingMode.HALF_EVEN);
+                totalExpenses = totalExpenses.setScale(2, RoundingMode.HALF_EVEN);
 
                 BigDecimal monthlyBalance = totalRevenue.subtract(totalExpenses)
                                 .setScale(2, RoundingMode.HALF_EVEN);
@@ -48,7 +102,7 @@ public class DashboardUseCase {
                 String status = determineStatus(monthlyBalance);
 
                 log.atInfo().log("Dashboard summary generated for competence ID {}: revenue={}, expenses={}, balance={}", 
-                        competenceId, totalRevenue, totalExpenses, monthlyBalance);
+                        competence.getId(), totalRevenue, totalExpenses, monthlyBalance);
 
                 return DashboardSummaryResponse.builder()
                                 .totalRevenue(totalRevenue)
@@ -58,12 +112,9 @@ public class DashboardUseCase {
                                 .build();
         }
 
-        public List<ExpenseByCategoryResponse> getExpensesByCategory(UUID competenceId) {
-                competenceRepository.findById(competenceId)
-                                .orElseThrow(() -> new CompetenceNotFoundException(competenceId));
-
+        private List<ExpenseByCategoryResponse> buildExpensesByCategory(Competence competence) {
                 List<CategoryExpenseSummary> categoryExpenseSummaries = transactionRepository
-                                .sumExpensesByCategory(competenceId);
+                                .sumExpensesByCategory(competence.getId());
 
                 BigDecimal totalExpenses = categoryExpenseSummaries.stream()
                                 .map(CategoryExpenseSummary::totalAmount)
@@ -86,7 +137,56 @@ public class DashboardUseCase {
                                         .build());
                 }
 
-                return responses;
+                return List.copyOf(responses);
+        }
+
+        private List<CommitmentMonthResponse> buildCommitments(UUID userId, YearMonth from, YearMonth to) {
+                Map<YearMonth, Map<UUID, List<CommitmentSummary>>> byMonth = transactionRepository
+                                .sumPendingCommitments(userId, from, to).stream()
+                                .collect(Collectors.groupingBy(summary -> YearMonth.of(summary.year(), summary.month()),
+                                                Collectors.groupingBy(CommitmentSummary::categoryId, LinkedHashMap::new,
+                                                                Collectors.toList())));
+
+                List<CommitmentMonthResponse> responses = new ArrayList<>();
+                for (YearMonth period = from; !period.isAfter(to); period = period.plusMonths(1)) {
+                        List<CommitmentCategoryResponse> categories = byMonth.getOrDefault(period, Map.of()).values()
+                                        .stream()
+                                        .map(this::buildCategoryCommitment)
+                                        .toList();
+
+                        responses.add(CommitmentMonthResponse.builder()
+                                        .month(period.getMonthValue())
+                                        .year(period.getYear())
+                                        .competenceName(String.format("%02d/%d", period.getMonthValue(), period.getYear()))
+                                        .totalOutflow(categories.stream().map(CommitmentCategoryResponse::outflow)
+                                                        .reduce(BigDecimal.ZERO.setScale(2), BigDecimal::add))
+                                        .totalInflow(categories.stream().map(CommitmentCategoryResponse::inflow)
+                                                        .reduce(BigDecimal.ZERO.setScale(2), BigDecimal::add))
+                                        .categories(categories)
+                                        .build());
+                }
+
+                log.atInfo().log("Commitments calendar generated for user ID {} from {} to {}", userId, from, to);
+                return List.copyOf(responses);
+        }
+
+        private CommitmentCategoryResponse buildCategoryCommitment(List<CommitmentSummary> summaries) {
+                CommitmentSummary first = summaries.getFirst();
+                return CommitmentCategoryResponse.builder()
+                                .categoryId(first.categoryId())
+                                .categoryName(first.categoryName())
+                                .colorHex(first.colorHex())
+                                .outflow(sumOfType(summaries, TransactionType.EXPENSE))
+                                .inflow(sumOfType(summaries, TransactionType.REVENUE))
+                                .build();
+        }
+
+        private BigDecimal sumOfType(List<CommitmentSummary> summaries, TransactionType type) {
+                return summaries.stream()
+                                .filter(summary -> type.equals(summary.type()))
+                                .map(CommitmentSummary::totalAmount)
+                                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                                .setScale(2, RoundingMode.HALF_EVEN);
         }
 
         public List<MonthlyEvolutionResponse> getEvolution(UUID userId) {
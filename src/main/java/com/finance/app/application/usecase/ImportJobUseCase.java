@@ -0,0 +1,193 @@
+package com.finance.app.application.usecase;
+
+import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.entity.ImportJob;
+import com.finance.app.domain.entity.ParsedTransaction;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.exception.AccountNotFoundException;
+import com.finance.app.domain.exception.CategoryNotFoundException;
+import com.finance.app.domain.exception.ImportJobNotFoundException;
+import com.finance.app.domain.repository.AccountRepository;
+import com.finance.app.domain.repository.CategoryRepository;
+import com.finance.app.domain.repository.ImportJobRepository;
+import com.finance.app.domain.service.StatementParser;
+import com.finance.app.web.dto.response.ImportJobResponse;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@Timed(value = "julius.usecase", histogram = true)
+@RequiredArgsConstructor
+public class ImportJobUseCase {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String INTERRUPTED_MESSAGE = "Import was interrupted by a server restart, please upload the statement again";
+
+    private final ImportStatementUseCase importStatementUseCase;
+    private final ImportJobRepository importJobRepository;
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor importTaskExecutor;
+    private final Path importSpoolDirectory;
+
+    public ImportJobResponse submit(InputStream inputStream, String fileName, String contentType,
+                                    UUID accountId, UUID defaultCategoryId, UUID userId) throws IOException {
+
+        // Reject what the worker could never recover from before accepting the job
+        accountRepository.findByIdAndUserId(accountId, userId)
+                .orElseThrow(() -> new AccountNotFoundException(accountId));
+        if (defaultCategoryId != null) {
+            categoryRepository.findById(defaultCategoryId)
+                    .orElseThrow(() -> new CategoryNotFoundException(defaultCategoryId));
+        }
+        StatementParser parser = importStatementUseCase.resolveParser(fileName, contentType);
+
+        // The multipart upload is discarded when the request ends, so spool it for the worker
+        Path spooledFile = Files.createTempFile(importSpoolDirectory, "julius-import-", ".tmp");
+        try {
+            Files.copy(inputStream, spooledFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteSpooledFile(spooledFile);
+            throw e;
+        }
+
+        ImportJob job = importJobRepository.save(ImportJob.create(userId, accountId, fileName));
+        ImportJobResponse response = ImportJobResponse.fromDomain(job);
+
+        try {
+            importTaskExecutor.execute(() -> run(job, parser, spooledFile, defaultCategoryId));
+        } catch (TaskRejectedException e) {
+            deleteSpooledFile(spooledFile);
+            job.fail("Import queue is full, try again later");
+            importJobRepository.save(job);
+            throw e;
+        }
+
+        log.atInfo().log("Import job {} queued for file {}", job.getId(), fileName);
+        return response;
+    }
+
+    public ImportJobResponse getJob(UUID jobId, UUID accountId, UUID userId) {
+        return importJobRepository.findByIdAndUserId(jobId, userId)
+                .filter(job -> job.getAccountId().equals(accountId))
+                .map(ImportJobResponse::fromDomain)
+                .orElseThrow(() -> new ImportJobNotFoundException(jobId));
+    }
+
+    // Queued and running jobs live only in this process's executor, so after a restart nothing will ever
+    // finish the ones left over from the previous run, and their spooled uploads are unreachable
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterruptedJobs() {
+        recoverInterruptedJobs(Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime()));
+    }
+
+    void recoverInterruptedJobs(Instant processStart) {
+        LocalDateTime updatedBefore = LocalDateTime.ofInstant(processStart, ZoneId.systemDefault());
+        Integer failed = transactionTemplate.execute(status ->
+                importJobRepository.failUnfinished(updatedBefore, INTERRUPTED_MESSAGE));
+        if (failed != null && failed > 0) {
+            log.atWarn().log("Marked {} import jobs interrupted by the last shutdown as failed", failed);
+        }
+
+        try (Stream<Path> spooledFiles = Files.list(importSpoolDirectory)) {
+            spooledFiles.filter(file -> isOlderThan(file, processStart)).forEach(ImportJobUseCase::deleteSpooledFile);
+        } catch (IOException e) {
+            log.atWarn().setCause(e).log("Could not clean up the import spool directory {}", importSpoolDirectory);
+        }
+    }
+
+    void run(ImportJob job, StatementParser parser, Path spooledFile, UUID defaultCategoryId) {
+        Map<YearMonth, Competence> competences = new HashMap<>();
+        Map<TransactionType, UUID> uncategorizedIds = new EnumMap<>(TransactionType.class);
+
+        try {
+            job.start();
+            importJobRepository.save(job);
+
+            try (Stream<ParsedTransaction> parsedTransactions = parser.stream(Files.newInputStream(spooledFile))) {
+                Iterator<ParsedTransaction> iterator = parsedTransactions.iterator();
+                List<ParsedTransaction> chunk = new ArrayList<>(ImportStatementUseCase.CHUNK_SIZE);
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == ImportStatementUseCase.CHUNK_SIZE || !iterator.hasNext()) {
+                        int imported = importChunk(job, chunk, defaultCategoryId, competences, uncategorizedIds);
+                        job.recordChunk(chunk.size(), imported);
+                        importJobRepository.save(job);
+                        chunk.clear();
+                    }
+                }
+            }
+
+            job.complete();
+            log.atInfo().log("Import job {} completed: {} imported, {} ignored",
+                    job.getId(), job.getImportedCount(), job.getIgnoredCount());
+        } catch (Exception e) {
+            log.atError().setCause(e).log("Import job {} failed after {} rows", job.getId(), job.getParsedCount());
+            job.fail(describe(e));
+        } finally {
+            importJobRepository.save(job);
+            deleteSpooledFile(spooledFile);
+        }
+    }
+
+    // Each chunk commits on its own, together with the balance change it causes
+    private int importChunk(ImportJob job, List<ParsedTransaction> chunk, UUID defaultCategoryId,
+                            Map<YearMonth, Competence> competences, Map<TransactionType, UUID> uncategorizedIds) {
+        Integer imported = transactionTemplate.execute(status -> importStatementUseCase.importChunk(
+                chunk, job.getAccountId(), defaultCategoryId, job.getUserId(), competences, uncategorizedIds));
+        return imported != null ? imported : 0;
+    }
+
+    private static String describe(Exception e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        if (e.getCause() != null && e.getCause().getMessage() != null) {
+            message = message + ": " + e.getCause().getMessage();
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static boolean isOlderThan(Path file, Instant instant) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(instant);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void deleteSpooledFile(Path spooledFile) {
+        try {
+            Files.deleteIfExists(spooledFile);
+        } catch (IOException e) {
+            log.atWarn().log("Could not delete spooled import file {}", spooledFile);
+        }
+    }
+
+}
@@ -1,41 +1,68 @@
 package com.finance.app.application.usecase;
 
-import com.finance.app.domain.entity.Category;
 import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
 import com.finance.app.domain.entity.ParsedTransaction;
+import com.finance.app.domain.entity.Transaction;
 import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionType;
 import com.finance.app.domain.exception.AccountNotFoundException;
 import com.finance.app.domain.exception.CategoryNotFoundException;
+import com.finance.app.domain.port.DashboardCache;
 import com.finance.app.domain.repository.AccountRepository;
 import com.finance.app.domain.repository.CategoryRepository;
+import com.finance.app.domain.repository.CompetenceSummaryRepository;
 import com.finance.app.domain.repository.TransactionRepository;
 import com.finance.app.domain.service.StatementParser;
-import com.finance.app.web.dto.request.CreateTransactionRequest;
+import com.finance.app.domain.service.TransactionService;
 import com.finance.app.web.dto.response.ImportStatementResponse;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class ImportStatementUseCase {
 
+    static final int CHUNK_SIZE = 500;
+    static final String IMPORT_ROWS_METRIC = "julius.import.rows";
+
     private final List<StatementParser> parsers;
-    private final TransactionUseCase transactionUseCase;
     private final CategoryUseCase categoryUseCase;
     private final CompetenceUseCase competenceUseCase;
     private final AccountRepository accountRepository;
     private final CategoryRepository categoryRepository;
     private final TransactionRepository transactionRepository;
+    private final CompetenceSummaryRepository competenceSummaryRepository;
+    private final DashboardCache dashboardCache;
+    private final TransactionService transactionService;
+    private final MeterRegistry meterRegistry;
 
-    public ImportStatementResponse importStatement(InputStream inputStream, String fileName, String contentType, 
+    @Transactional
+    public ImportStatementResponse importStatement(InputStream inputStream, String fileName, String contentType,
                                                    UUID accountId, UUID defaultCategoryId, UUID userId) {
-        
+
         // 1. Verify Account Ownership
         accountRepository.findByIdAndUserId(accountId, userId)
                 .orElseThrow(() -> new AccountNotFoundException(accountId));
@@ -47,60 +74,113 @@ public class ImportStatementUseCase {
         }
 
         // 3. Find Parser
-        StatementParser parser = parsers.stream()
-                .filter(p -> p.supports(fileName, contentType))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Unsupported file type or no parser found for: " + fileName));
-
-        // 4. Parse File
-        List<ParsedTransaction> parsedTransactions = parser.parse(inputStream);
-        log.info("Parsed {} transactions from file {}", parsedTransactions.size(), fileName);
+        StatementParser parser = resolveParser(fileName, contentType);
 
+        // 4. Parse and persist the file chunk by chunk as rows arrive
+        Map<YearMonth, Competence> competences = new HashMap<>();
+        Map<TransactionType, UUID> uncategorizedIds = new EnumMap<>(TransactionType.class);
+        int parsedCount = 0;
         int importedCount = 0;
-        int ignoredCount = 0;
-
-        // 5. Process Transactions
-        for (ParsedTransaction pt : parsedTransactions) {
-            // Deduplication
-            if (pt.externalId() != null && transactionRepository.existsByExternalId(pt.externalId())) {
-                ignoredCount++;
-                continue;
+
+        try (Stream<ParsedTransaction> parsedTransactions = parser.stream(inputStream)) {
+            Iterator<ParsedTransaction> iterator = parsedTransactions.iterator();
+            List<ParsedTransaction> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                parsedCount++;
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    importedCount += importChunk(chunk, accountId, defaultCategoryId, userId, competences, uncategorizedIds);
+                    chunk.clear();
+                }
             }
+        }
+        log.info("Parsed {} transactions from file {}", parsedCount, fileName);
 
-            // Resolve Competence
-            Competence competence = competenceUseCase.getOrCreate(pt.dateTime().getMonthValue(), pt.dateTime().getYear(), userId);
+        int ignoredCount = parsedCount - importedCount;
+        String message = String.format("Import completed. %d imported, %d ignored (duplicates).", importedCount, ignoredCount);
+        log.info(message);
 
-            // Resolve Category
-            UUID transactionCategoryId = defaultCategoryId;
-            if (transactionCategoryId == null) {
-                Category category = categoryUseCase.getOrCreateUncategorized(userId, pt.type());
-                transactionCategoryId = category.getId();
-            }
+        return new ImportStatementResponse(importedCount, ignoredCount, message);
+    }
+
+    public StatementParser resolveParser(String fileName, String contentType) {
+        return parsers.stream()
+                .filter(p -> p.supports(fileName, contentType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported file type or no parser found for: " + fileName));
+    }
+
+    // Persists one chunk and applies its balance and competence summary changes; the caller
+    // owns the transaction. The maps cache competences and uncategorized ids across chunks.
+    public int importChunk(List<ParsedTransaction> chunk, UUID accountId, UUID defaultCategoryId, UUID userId,
+                           Map<YearMonth, Competence> competences, Map<TransactionType, UUID> uncategorizedIds) {
+        // Deduplication: one lookup per chunk, plus repeats inside the chunk itself.
+        // Earlier chunks are already flushed, so the lookup also covers them.
+        Set<String> seenExternalIds = new HashSet<>(transactionRepository.findExistingExternalIds(
+                chunk.stream()
+                        .map(ParsedTransaction::externalId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())));
+
+        List<ParsedTransaction> newTransactions = chunk.stream()
+                .filter(pt -> pt.externalId() == null || seenExternalIds.add(pt.externalId()))
+                .toList();
+
+        // Resolve, in bulk, only the competences not seen in earlier chunks
+        Set<YearMonth> missingPeriods = newTransactions.stream()
+                .map(pt -> YearMonth.from(pt.dateTime()))
+                .filter(period -> !competences.containsKey(period))
+                .collect(Collectors.toSet());
+        if (!missingPeriods.isEmpty()) {
+            competences.putAll(competenceUseCase.getOrCreateAll(missingPeriods, userId));
+        }
+
+        // Build the rows, accumulating their balance change
+        List<Transaction> transactions = new ArrayList<>(newTransactions.size());
+        BigDecimal balanceDelta = BigDecimal.ZERO;
+        for (ParsedTransaction pt : newTransactions) {
+            UUID transactionCategoryId = defaultCategoryId != null
+                    ? defaultCategoryId
+                    : uncategorizedIds.computeIfAbsent(pt.type(),
+                            type -> categoryUseCase.getOrCreateUncategorized(userId, type).getId());
 
-            // Create Request
-            CreateTransactionRequest request = new CreateTransactionRequest(
+            Transaction transaction = Transaction.create(
                     accountId,
                     transactionCategoryId,
                     null,
-                    competence.getId(),
+                    competences.get(YearMonth.from(pt.dateTime())).getId(),
+                    userId,
                     pt.description(),
                     pt.amount(),
                     pt.dateTime(),
                     pt.type(),
                     null,
                     TransactionStatus.COMPLETED,
-                    pt.externalId()
-            );
+                    null,
+                    null,
+                    null,
+                    pt.externalId());
 
-            // Using TransactionUseCase to apply business rules and affect account balance
-            transactionUseCase.create(request, userId);
-            importedCount++;
+            balanceDelta = balanceDelta.add(transactionService.balanceEffect(transaction));
+            transactions.add(transaction);
         }
 
-        String message = String.format("Import completed. %d imported, %d ignored (duplicates).", importedCount, ignoredCount);
-        log.info(message);
+        if (!transactions.isEmpty()) {
+            transactionRepository.saveAll(transactions);
+            accountRepository.adjustBalance(accountId, balanceDelta);
+            applyCompetenceDeltas(userId, transactions.stream()
+                    .map(transactionService::competenceContribution)
+                    .toList());
+        }
 
-        return new ImportStatementResponse(importedCount, ignoredCount, message);
+        meterRegistry.counter(IMPORT_ROWS_METRIC, "outcome", "imported").increment(transactions.size());
+        meterRegistry.counter(IMPORT_ROWS_METRIC, "outcome", "ignored").increment(chunk.size() - transactions.size());
+        return transactions.size();
+    }
+
+    private void applyCompetenceDeltas(UUID userId, List<CompetenceTransactionSubtypeSummary> deltas) {
+        competenceSummaryRepository.apply(userId, deltas);
+        dashboardCache.evict(userId, deltas.stream().map(CompetenceTransactionSubtypeSummary::competenceId).toList());
     }
 
 }
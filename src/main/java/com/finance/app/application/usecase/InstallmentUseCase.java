@@ -2,7 +2,9 @@ package com.finance.app.application.usecase;
 
 import com.finance.app.domain.entity.Account;
 import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
 import com.finance.app.domain.entity.InstallmentSeries;
+import com.finance.app.domain.entity.InstallmentSeriesDelta;
 import com.finance.app.domain.entity.Transaction;
 import com.finance.app.domain.entity.TransactionSubtype;
 import com.finance.app.domain.entity.TransactionType;
@@ -11,14 +13,18 @@ import com.finance.app.domain.exception.CategoryNotFoundException;
 import com.finance.app.domain.exception.CompetenceNotFoundException;
 import com.finance.app.domain.exception.InstallmentValidationException;
 import com.finance.app.domain.exception.TransactionNotFoundException;
+import com.finance.app.domain.port.DashboardCache;
 import com.finance.app.domain.repository.AccountRepository;
 import com.finance.app.domain.repository.CategoryRepository;
 import com.finance.app.domain.repository.CompetenceRepository;
+import com.finance.app.domain.repository.CompetenceSummaryRepository;
+import com.finance.app.domain.repository.InstallmentSeriesRepository;
 import com.finance.app.domain.repository.TransactionRepository;
 import com.finance.app.domain.service.InstallmentCalculator;
 import com.finance.app.domain.service.TransactionService;
 import com.finance.app.web.dto.request.CreateInstallmentRequest;
 import com.finance.app.web.dto.request.UpdateInstallmentRequest;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,15 +32,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class InstallmentUseCase {
 
@@ -42,6 +52,9 @@ public class InstallmentUseCase {
     private final AccountRepository accountRepository;
     private final CategoryRepository categoryRepository;
     private final CompetenceRepository competenceRepository;
+    private final CompetenceSummaryRepository competenceSummaryRepository;
+    private final InstallmentSeriesRepository installmentSeriesRepository;
+    private final DashboardCache dashboardCache;
     private final TransactionService transactionService;
 
     @Transactional
@@ -59,61 +72,49 @@ public class InstallmentUseCase {
         validateCategory(request.categoryId());
         Competence initialCompetence = findCompetence(request.competenceId());
 
-        Transaction rootTransaction = generateRootTransaction(request, userId, totalAmount, installmentAmount, initialCompetence, account);
+        Transaction rootTransaction = generateRootTransaction(request, userId, totalAmount, installmentAmount, initialCompetence);
         Transaction savedRoot = transactionRepository.save(rootTransaction);
 
-        List<Transaction> children = generateChildren(request, userId, totalAmount, installmentAmount, initialCompetence, account, savedRoot.getId());
+        List<Transaction> children = generateChildren(request, userId, totalAmount, installmentAmount, initialCompetence, savedRoot.getId());
         List<Transaction> savedChildren = transactionRepository.saveAll(children);
 
-        accountRepository.save(account);
-
         List<Transaction> allSaved = new ArrayList<>();
         allSaved.add(savedRoot);
         allSaved.addAll(savedChildren);
 
-        return InstallmentSeries.fromTransactions(allSaved);
+        accountRepository.adjustBalance(account.getId(), sumOfBalanceEffects(allSaved));
+        applyCompetenceDeltas(userId, competenceContributions(allSaved));
+
+        InstallmentSeries series = InstallmentSeries.fromTransactions(allSaved);
+        installmentSeriesRepository.create(userId, series);
+        return series;
     }
 
     private Transaction generateRootTransaction(CreateInstallmentRequest request, UUID userId, BigDecimal totalAmount, 
-                                               BigDecimal installmentAmount, Competence initialCompetence, Account account) {
+                                               BigDecimal installmentAmount, Competence initialCompetence) {
         BigDecimal amount = InstallmentCalculator.calculateCurrentInstallmentAmount(1, request.installments(), totalAmount, installmentAmount, BigDecimal.ZERO);
-        Transaction root = createTransaction(request, userId, null, 1, amount, initialCompetence.getId());
-        
-        if (root.isCompleted()) {
-            transactionService.processTransaction(root, account);
-        }
-        return root;
+        return createTransaction(request, userId, null, 1, amount, initialCompetence.getId());
     }
 
     private List<Transaction> generateChildren(CreateInstallmentRequest request, UUID userId, BigDecimal totalAmount, 
-                                              BigDecimal installmentAmount, Competence initialCompetence, Account account, UUID parentId) {
+                                              BigDecimal installmentAmount, Competence initialCompetence, UUID parentId) {
         List<Transaction> children = new ArrayList<>();
         
-        int currentMonth = initialCompetence.getMonth();
-        int currentYear = initialCompetence.getYear();
+        YearMonth initialPeriod = YearMonth.of(initialCompetence.getYear(), initialCompetence.getMonth());
+        Map<YearMonth, Competence> competences = competenceRepository.findOrCreateAll(userId,
+                Stream.iterate(initialPeriod.plusMonths(1), period -> period.plusMonths(1))
+                        .limit(request.installments() - 1L)
+                        .toList());
         BigDecimal sumOfInstallments = InstallmentCalculator.calculateCurrentInstallmentAmount(1, request.installments(), totalAmount, installmentAmount, BigDecimal.ZERO);
 
-        if (++currentMonth > 12) {
-            currentMonth = 1;
-            currentYear++;
-        }
-
         for (int i = 2; i <= request.installments(); i++) {
             BigDecimal amount = InstallmentCalculator.calculateCurrentInstallmentAmount(i, request.installments(), totalAmount, installmentAmount, sumOfInstallments);
             sumOfInstallments = sumOfInstallments.add(amount);
             
-            Competence competence = getOrCreateCompetence(userId, currentMonth, currentYear);
+            Competence competence = competences.get(initialPeriod.plusMonths(i - 1L));
             Transaction transaction = createTransaction(request, userId, parentId, i, amount, competence.getId());
             
             children.add(transaction);
-            if (transaction.isCompleted()) {
-                transactionService.processTransaction(transaction, account);
-            }
-
-            if (++currentMonth > 12) {
-                currentMonth = 1;
-                currentYear++;
-            }
         }
         return children;
     }
@@ -136,6 +137,14 @@ public class InstallmentUseCase {
     }
 
 
+    private BigDecimal sumOfBalanceEffects(List<Transaction> transactions) {
+        return transactions.stream().map(transactionService::balanceEffect).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private List<CompetenceTransactionSubtypeSummary> competenceContributions(List<Transaction> transactions) {
+        return transactions.stream().map(transactionService::competenceContribution).toList();
+    }
+
     private BigDecimal sumOfPrevious(List<Transaction> transactions) {
         return transactions.stream().map(Transaction::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
     }
@@ -165,8 +174,12 @@ public class InstallmentUseCase {
     }
 
     public InstallmentSeries getInstallmentProgress(UUID parentId) {
-        List<Transaction> transactions = findTransactionsByParent(parentId);
-        return InstallmentSeries.fromTransactions(transactions);
+        return installmentSeriesRepository.findByParentId(parentId)
+                .orElseThrow(() -> new TransactionNotFoundException(parentId));
+    }
+
+    public List<InstallmentSeries> listActiveSeries(UUID userId) {
+        return installmentSeriesRepository.findActiveByUserId(userId);
     }
 
     @Transactional
@@ -191,22 +204,34 @@ public class InstallmentUseCase {
             throw new InstallmentValidationException("New total amount must be greater than the already completed amount (" + completedTotal + ")");
         }
 
+        List<CompetenceTransactionSubtypeSummary> summaryDeltas = new ArrayList<>();
+        competenceContributions(pendingInstallments).forEach(c -> summaryDeltas.add(c.negate()));
+
+        BigDecimal oldPendingTotal = sumOfPrevious(pendingInstallments);
         redistributeRemaining(pendingInstallments, newPendingTotal);
 
+        summaryDeltas.addAll(competenceContributions(pendingInstallments));
+        applyCompetenceDeltas(pendingInstallments.get(0).getUserId(), summaryDeltas);
+        installmentSeriesRepository.apply(List.of(new InstallmentSeriesDelta(parentId, 0, 0,
+                BigDecimal.ZERO, newPendingTotal.subtract(oldPendingTotal))));
+
         return InstallmentSeries.fromTransactions(transactions);
     }
 
+    // Amounts are worked out in memory and written back in one statement, whatever the series length
     private void redistributeRemaining(List<Transaction> pending, BigDecimal newPendingTotal) {
         BigDecimal installmentAmount = newPendingTotal.divide(BigDecimal.valueOf(pending.size()), 2, RoundingMode.HALF_EVEN);
         BigDecimal sumSoFar = BigDecimal.ZERO;
+        Map<UUID, BigDecimal> newAmounts = new HashMap<>();
 
         for (int i = 0; i < pending.size(); i++) {
             Transaction t = pending.get(i);
             BigDecimal amount = InstallmentCalculator.calculateCurrentInstallmentAmount(i + 1, pending.size(), newPendingTotal, installmentAmount, sumSoFar);
             t.setAmount(amount);
             sumSoFar = sumSoFar.add(amount);
-            transactionRepository.save(t);
+            newAmounts.put(t.getId(), amount);
         }
+        transactionRepository.updateAmounts(newAmounts);
     }
 
     @Transactional
@@ -217,20 +242,15 @@ public class InstallmentUseCase {
             return InstallmentSeries.fromTransactions(transactions);
         }
 
-        Account account = findAccount(transactions.get(0).getAccountId(), transactions.get(0).getUserId());
-
-        transactions.forEach(t -> {
-            if (t.isCompleted()) {
-                transactionService.reverseTransaction(t, account);
-                t.setType(newType);
-                transactionService.processTransaction(t, account);
-            } else {
-                t.setType(newType);
-            }
-        });
+        BigDecimal oldEffect = sumOfBalanceEffects(transactions);
+        List<CompetenceTransactionSubtypeSummary> summaryDeltas = new ArrayList<>();
+        competenceContributions(transactions).forEach(c -> summaryDeltas.add(c.negate()));
+        transactions.forEach(t -> t.setType(newType));
 
-        transactionRepository.saveAll(transactions);
-        accountRepository.save(account);
+        transactionRepository.updateTypeByParentId(parentId, newType);
+        accountRepository.adjustBalance(transactions.get(0).getAccountId(), sumOfBalanceEffects(transactions).subtract(oldEffect));
+        summaryDeltas.addAll(competenceContributions(transactions));
+        applyCompetenceDeltas(transactions.get(0).getUserId(), summaryDeltas);
 
         return InstallmentSeries.fromTransactions(transactions);
     }
@@ -243,19 +263,9 @@ public class InstallmentUseCase {
         return transactions;
     }
 
-
-    private Competence getOrCreateCompetence(UUID userId, int month, int year) {
-        return competenceRepository.findByUserIdAndMonthAndYear(userId, month, year)
-                .orElseGet(() -> {
-                    LocalDateTime now = LocalDateTime.now();
-                    Competence newCompetence = Competence.builder()
-                            .userId(userId)
-                            .month(month)
-                            .year(year)
-                            .createdAt(now)
-                            .updatedAt(now)
-                            .build();
-                    return competenceRepository.save(newCompetence);
-                });
-    }
+    private void applyCompetenceDeltas(UUID userId, List<CompetenceTransactionSubtypeSummary> deltas) {
+        competenceSummaryRepository.apply(userId, deltas);
+        dashboardCache.evict(userId, deltas.stream().map(CompetenceTransactionSubtypeSummary::competenceId).toList());
     }
+
+}
@@ -20,6 +20,7 @@ import com.finance.app.web.dto.request.UpdateSavingsRequest;
 import com.finance.app.web.dto.response.SavingsHistoryResponse;
 import com.finance.app.web.dto.response.SavingsResponse;
 import com.finance.app.web.dto.response.TransactionResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +32,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class SavingsUseCase {
 
@@ -142,9 +144,7 @@ public class SavingsUseCase {
         TransactionResponse txResponse = transactionUseCase.create(txRequest, userId);
 
         // Add to savings
-        savings.setBalance(savings.getBalance().add(request.amount()));
-        savings.setUpdatedAt(now);
-        Savings updatedSavings = savingsRepository.save(savings);
+        savingsRepository.adjustBalance(savingsId, request.amount());
 
         // Record history
         SavingsHistory history = SavingsHistory.builder()
@@ -158,7 +158,7 @@ public class SavingsUseCase {
                 .build();
         savingsHistoryRepository.save(history);
 
-        return SavingsResponse.fromDomain(updatedSavings);
+        return SavingsResponse.fromDomain(reload(savingsId));
     }
 
     @Transactional
@@ -174,6 +174,11 @@ public class SavingsUseCase {
             throw new IllegalArgumentException("Insufficient funds in savings vault");
         }
 
+        // Deduct from savings first: the conditional update is what guards against concurrent withdrawals
+        if (!savingsRepository.adjustBalance(savingsId, request.amount().negate())) {
+            throw new IllegalArgumentException("Insufficient funds in savings vault");
+        }
+
         Category savingsCategory = getOrCreateSavingsCategory(userId, TransactionType.REVENUE);
         LocalDateTime now = LocalDateTime.now();
 
@@ -194,11 +199,6 @@ public class SavingsUseCase {
 
         TransactionResponse txResponse = transactionUseCase.create(txRequest, userId);
 
-        // Deduct from savings
-        savings.setBalance(savings.getBalance().subtract(request.amount()));
-        savings.setUpdatedAt(now);
-        Savings updatedSavings = savingsRepository.save(savings);
-
         // Record history
         SavingsHistory history = SavingsHistory.builder()
                 .savingsId(savings.getId())
@@ -211,7 +211,7 @@ public class SavingsUseCase {
                 .build();
         savingsHistoryRepository.save(history);
 
-        return SavingsResponse.fromDomain(updatedSavings);
+        return SavingsResponse.fromDomain(reload(savingsId));
     }
 
     public List<SavingsHistoryResponse> getHistory(UUID savingsId, UUID userId) {
@@ -227,6 +227,11 @@ public class SavingsUseCase {
                 .collect(Collectors.toList());
     }
 
+    private Savings reload(UUID savingsId) {
+        return savingsRepository.findById(savingsId)
+                .orElseThrow(() -> new SavingsNotFoundException(savingsId));
+    }
+
     @Transactional
     public void delete(UUID id, UUID userId) {
         Savings savings = savingsRepository.findById(id)
@@ -9,6 +9,7 @@ import com.finance.app.domain.repository.SubcategoryRepository;
 import com.finance.app.web.dto.request.CreateSubcategoryRequest;
 import com.finance.app.web.dto.request.UpdateSubcategoryRequest;
 import com.finance.app.web.dto.response.SubcategoryResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class SubcategoryUseCase {
 
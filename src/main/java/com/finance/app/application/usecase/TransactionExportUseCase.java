@@ -0,0 +1,110 @@
+package com.finance.app.application.usecase;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.finance.app.domain.entity.Transaction;
+import com.finance.app.domain.entity.TransactionFilter;
+import com.finance.app.domain.repository.TransactionRepository;
+import com.finance.app.web.dto.request.ExportFormat;
+import com.finance.app.web.dto.response.TransactionResponse;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@Timed(value = "julius.usecase", histogram = true)
+@RequiredArgsConstructor
+public class TransactionExportUseCase {
+
+    private static final String CSV_HEADER = "id,dateTime,description,amount,type,subtype,status,accountId,categoryId,"
+            + "subcategoryId,competenceId,parentId,installmentNumber,installmentCount,externalId";
+
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+
+    // Rows are written as they come off the cursor; nothing is collected in memory
+    @Transactional(readOnly = true)
+    public long export(TransactionFilter filter, ExportFormat format, OutputStream outputStream) throws IOException {
+        long rows;
+        try (Stream<Transaction> transactions = transactionRepository.streamByFilter(filter)) {
+            rows = switch (format) {
+                case NDJSON -> writeNdjson(transactions.iterator(), outputStream);
+                case CSV -> writeCsv(transactions.iterator(), outputStream);
+            };
+        }
+
+        log.atInfo().log("Exported {} transactions as {} for user ID {}", rows, format, filter.userId());
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<Transaction> transactions, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TransactionResponse.class);
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (transactions.hasNext()) {
+                writer.writeValue(generator, TransactionResponse.fromDomain(transactions.next()));
+                generator.writeRaw('\n');
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Iterator<Transaction> transactions, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long rows = 0;
+        while (transactions.hasNext()) {
+            Transaction transaction = transactions.next();
+            writer.write(String.join(",",
+                    csv(transaction.getId()),
+                    csv(transaction.getDateTime()),
+                    csv(transaction.getDescription()),
+                    csv(transaction.getAmount()),
+                    csv(transaction.getType()),
+                    csv(transaction.getSubtype()),
+                    csv(transaction.getStatus()),
+                    csv(transaction.getAccountId()),
+                    csv(transaction.getCategoryId()),
+                    csv(transaction.getSubcategoryId()),
+                    csv(transaction.getCompetenceId()),
+                    csv(transaction.getParentId()),
+                    csv(transaction.getInstallmentNumber()),
+                    csv(transaction.getInstallmentCount()),
+                    csv(transaction.getExternalId())));
+            writer.write('\n');
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = Objects.toString(value);
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.finance.app.application.usecase;
 
-import com.finance.app.domain.entity.Account;
+import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
+import com.finance.app.domain.entity.InstallmentSeriesDelta;
 import com.finance.app.domain.entity.Transaction;
 import com.finance.app.domain.entity.TransactionStatus;
 import com.finance.app.domain.entity.TransactionSubtype;
@@ -10,27 +11,35 @@ import com.finance.app.domain.exception.CategoryNotFoundException;
 import com.finance.app.domain.exception.CompetenceNotFoundException;
 import com.finance.app.domain.exception.DuplicateTransactionException;
 import com.finance.app.domain.exception.TransactionNotFoundException;
+import com.finance.app.domain.port.DashboardCache;
 import com.finance.app.domain.repository.AccountRepository;
 import com.finance.app.domain.repository.CategoryRepository;
 import com.finance.app.domain.repository.CompetenceRepository;
+import com.finance.app.domain.repository.CompetenceSummaryRepository;
+import com.finance.app.domain.repository.InstallmentSeriesRepository;
 import com.finance.app.domain.repository.SubcategoryRepository;
 import com.finance.app.domain.repository.TransactionRepository;
 import com.finance.app.domain.service.TransactionService;
 import com.finance.app.web.dto.request.CreateTransactionRequest;
 import com.finance.app.web.dto.request.UpdateTransactionRequest;
 import com.finance.app.web.dto.request.UpdateTransactionStatusRequest;
+import com.finance.app.web.dto.response.TransactionPageResponse;
 import com.finance.app.web.dto.response.TransactionResponse;
 import com.finance.app.domain.entity.TransactionFilter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class TransactionUseCase {
 
@@ -39,11 +48,14 @@ public class TransactionUseCase {
     private final CategoryRepository categoryRepository;
     private final SubcategoryRepository subcategoryRepository;
     private final CompetenceRepository competenceRepository;
+    private final CompetenceSummaryRepository competenceSummaryRepository;
+    private final InstallmentSeriesRepository installmentSeriesRepository;
+    private final DashboardCache dashboardCache;
     private final TransactionService transactionService;
 
     @Transactional
     public TransactionResponse create(CreateTransactionRequest request, UUID userId) {
-        Account account = accountRepository.findByIdAndUserId(request.accountId(), userId)
+        accountRepository.findByIdAndUserId(request.accountId(), userId)
                 .orElseThrow(() -> new AccountNotFoundException(request.accountId()));
 
         categoryRepository.findById(request.categoryId())
@@ -84,8 +96,8 @@ public class TransactionUseCase {
 
         Transaction savedTransaction = transactionRepository.save(transaction);
 
-        transactionService.processTransaction(savedTransaction, account);
-        accountRepository.save(account);
+        accountRepository.adjustBalance(savedTransaction.getAccountId(), transactionService.balanceEffect(savedTransaction));
+        applyCompetenceDeltas(userId, List.of(transactionService.competenceContribution(savedTransaction)));
 
         log.atInfo().log("Created transaction ID {} of type {} for user ID {} with amount {}", 
                 savedTransaction.getId(), savedTransaction.getType(), userId, savedTransaction.getAmount());
@@ -105,10 +117,8 @@ public class TransactionUseCase {
                 .toList();
     }
 
-    public List<TransactionResponse> listTransactions(TransactionFilter filter) {
-        return transactionRepository.findByFilter(filter).stream()
-                .map(TransactionResponse::fromDomain)
-                .toList();
+    public TransactionPageResponse listTransactions(TransactionFilter filter) {
+        return TransactionPageResponse.fromDomain(transactionRepository.findByFilter(filter));
     }
 
     @Transactional
@@ -133,15 +143,12 @@ public class TransactionUseCase {
                     .orElseThrow(() -> new CompetenceNotFoundException(request.competenceId()));
         }
 
-        boolean affectsBalance = request.accountId() != null || request.amount() != null 
-                || request.type() != null || request.status() != null;
-        
-        Account oldAccount = null;
-        if (transaction.isCompleted() && affectsBalance) {
-            oldAccount = accountRepository.findByIdAndUserId(transaction.getAccountId(), transaction.getUserId())
-                    .orElseThrow(() -> new AccountNotFoundException(transaction.getAccountId()));
-            transactionService.reverseTransaction(transaction, oldAccount);
-        }
+        UUID oldAccountId = transaction.getAccountId();
+        boolean descriptionChanged = request.description() != null
+                && !request.description().equals(transaction.getDescription());
+        BigDecimal oldEffect = transactionService.balanceEffect(transaction);
+        CompetenceTransactionSubtypeSummary oldContribution = transactionService.competenceContribution(transaction);
+        InstallmentSeriesDelta oldSeriesContribution = transactionService.seriesContribution(transaction);
 
         if (request.accountId() != null) transaction.setAccountId(request.accountId());
         if (request.categoryId() != null) transaction.setCategoryId(request.categoryId());
@@ -154,16 +161,18 @@ public class TransactionUseCase {
         if (request.subtype() != null) transaction.setSubtype(request.subtype());
         if (request.status() != null) transaction.setStatus(request.status());
 
-        if (transaction.isCompleted() && affectsBalance) {
-            Account newAccount = accountRepository.findByIdAndUserId(transaction.getAccountId(), transaction.getUserId())
-                    .orElseThrow(() -> new AccountNotFoundException(transaction.getAccountId()));
-            transactionService.processTransaction(transaction, newAccount);
-            if (oldAccount != null && !oldAccount.getId().equals(newAccount.getId())) {
-                accountRepository.save(oldAccount);
-            }
-            accountRepository.save(newAccount);
-        } else if (oldAccount != null) {
-            accountRepository.save(oldAccount);
+        BigDecimal newEffect = transactionService.balanceEffect(transaction);
+        if (oldAccountId.equals(transaction.getAccountId())) {
+            accountRepository.adjustBalance(oldAccountId, newEffect.subtract(oldEffect));
+        } else {
+            accountRepository.adjustBalance(oldAccountId, oldEffect.negate());
+            accountRepository.adjustBalance(transaction.getAccountId(), newEffect);
+        }
+        applyCompetenceDeltas(transaction.getUserId(),
+                List.of(oldContribution.negate(), transactionService.competenceContribution(transaction)));
+        applySeriesChange(oldSeriesContribution, transactionService.seriesContribution(transaction));
+        if (descriptionChanged && transaction.getId().equals(transaction.seriesId())) {
+            installmentSeriesRepository.updateDescription(transaction.getId(), transaction.getDescription());
         }
 
         transaction.setUpdatedAt(java.time.LocalDateTime.now());
@@ -179,9 +188,6 @@ public class TransactionUseCase {
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new TransactionNotFoundException(id));
 
-        Account account = accountRepository.findByIdAndUserId(transaction.getAccountId(), transaction.getUserId())
-                .orElseThrow(() -> new AccountNotFoundException(transaction.getAccountId()));
-
         TransactionStatus newStatus = request.status();
         TransactionStatus oldStatus = transaction.getStatus();
 
@@ -189,16 +195,17 @@ public class TransactionUseCase {
             return TransactionResponse.fromDomain(transaction);
         }
 
-        if (TransactionStatus.PENDING.equals(oldStatus) && TransactionStatus.COMPLETED.equals(newStatus)) {
-            transaction.setStatus(TransactionStatus.COMPLETED);
-            transactionService.processTransaction(transaction, account);
-        } else if (TransactionStatus.COMPLETED.equals(oldStatus) && TransactionStatus.PENDING.equals(newStatus)) {
-            transactionService.reverseTransaction(transaction, account);
-            transaction.setStatus(TransactionStatus.PENDING);
-        }
+        BigDecimal oldEffect = transactionService.balanceEffect(transaction);
+        CompetenceTransactionSubtypeSummary oldContribution = transactionService.competenceContribution(transaction);
+        InstallmentSeriesDelta oldSeriesContribution = transactionService.seriesContribution(transaction);
+        transaction.setStatus(newStatus);
 
         Transaction updatedTransaction = transactionRepository.save(transaction);
-        accountRepository.save(account);
+        accountRepository.adjustBalance(transaction.getAccountId(),
+                transactionService.balanceEffect(transaction).subtract(oldEffect));
+        applyCompetenceDeltas(transaction.getUserId(),
+                List.of(oldContribution.negate(), transactionService.competenceContribution(transaction)));
+        applySeriesChange(oldSeriesContribution, transactionService.seriesContribution(transaction));
 
         log.atInfo().log("Updated transaction ID {} status from {} to {} for user ID {}", 
                 id, oldStatus, transaction.getStatus(), transaction.getUserId());
@@ -211,16 +218,33 @@ public class TransactionUseCase {
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new TransactionNotFoundException(id));
 
-        if (transaction.isCompleted()) {
-            Account account = accountRepository.findByIdAndUserId(transaction.getAccountId(), transaction.getUserId())
-                    .orElseThrow(() -> new AccountNotFoundException(transaction.getAccountId()));
-            transactionService.reverseTransaction(transaction, account);
-            accountRepository.save(account);
-        }
+        accountRepository.adjustBalance(transaction.getAccountId(), transactionService.balanceEffect(transaction).negate());
+        applyCompetenceDeltas(transaction.getUserId(),
+                List.of(transactionService.competenceContribution(transaction).negate()));
+        applySeriesChange(transactionService.seriesContribution(transaction), null);
 
         log.atInfo().log("Deleting transaction ID {} for user ID {}", id, transaction.getUserId());
         transactionRepository.delete(id);
     }
 
+    // Keeps the competence rollup current and drops the cached dashboards of every competence touched
+    private void applyCompetenceDeltas(UUID userId, List<CompetenceTransactionSubtypeSummary> deltas) {
+        competenceSummaryRepository.apply(userId, deltas);
+        dashboardCache.evict(userId, deltas.stream().map(CompetenceTransactionSubtypeSummary::competenceId).toList());
+    }
+
+    // Moves an installment's share of its series header from the old state to the new one
+    private void applySeriesChange(InstallmentSeriesDelta before, InstallmentSeriesDelta after) {
+        List<InstallmentSeriesDelta> deltas = new ArrayList<>(2);
+        if (before != null) {
+            deltas.add(before.negate());
+        }
+        if (after != null) {
+            deltas.add(after);
+        }
+        if (!deltas.isEmpty()) {
+            installmentSeriesRepository.apply(deltas);
+        }
+    }
 
 }
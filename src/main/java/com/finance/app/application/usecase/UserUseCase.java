@@ -3,6 +3,7 @@ package com.finance.app.application.usecase;
 import com.finance.app.domain.exception.UserNotFoundException;
 import com.finance.app.domain.repository.UserRepository;
 import com.finance.app.web.dto.response.UserResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,6 +11,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Service
+@Timed(value = "julius.usecase", histogram = true)
 @RequiredArgsConstructor
 public class UserUseCase {
 
@@ -1,7 +1,6 @@
 package com.finance.app.domain.entity;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -26,17 +25,4 @@ public class Account {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public void updateBalance(BigDecimal amount, TransactionType type) {
-        switch (type) {
-            case EXPENSE:
-                this.balance = this.balance.subtract(amount).setScale(2, RoundingMode.HALF_EVEN);
-                break;
-            case REVENUE:
-                this.balance = this.balance.add(amount).setScale(2, RoundingMode.HALF_EVEN);
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid transaction type: " + type);
-        }
-    }
-
 }
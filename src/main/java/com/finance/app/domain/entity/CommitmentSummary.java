@@ -3,9 +3,12 @@ package com.finance.app.domain.entity;
 import java.math.BigDecimal;
 import java.util.UUID;
 
-public record CompetenceTransactionAmountSummary(
-        UUID competenceId,
+public record CommitmentSummary(
+        int year,
+        int month,
+        UUID categoryId,
+        String categoryName,
+        String colorHex,
         TransactionType type,
-        TransactionStatus status,
         BigDecimal totalAmount) {
 }
@@ -1,8 +0,0 @@
-package com.finance.app.domain.entity;
-
-import java.util.UUID;
-
-public record CompetenceTransactionCountSummary(
-        UUID competenceId,
-        Long transactionCount) {
-}
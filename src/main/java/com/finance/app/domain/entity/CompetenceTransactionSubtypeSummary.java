@@ -10,4 +10,9 @@ public record CompetenceTransactionSubtypeSummary(
         TransactionSubtype subtype,
         Long transactionCount,
         BigDecimal totalAmount) {
+
+    public CompetenceTransactionSubtypeSummary negate() {
+        return new CompetenceTransactionSubtypeSummary(competenceId, type, status, subtype,
+                -transactionCount, totalAmount.negate());
+    }
 }
@@ -0,0 +1,62 @@
+package com.finance.app.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJob {
+
+    private UUID id;
+    private UUID userId;
+    private UUID accountId;
+    private String fileName;
+    private ImportJobStatus status;
+    private int parsedCount;
+    private int importedCount;
+    private int ignoredCount;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static ImportJob create(UUID userId, UUID accountId, String fileName) {
+        return ImportJob.builder()
+                .userId(userId)
+                .accountId(accountId)
+                .fileName(fileName)
+                .status(ImportJobStatus.PENDING)
+                .build();
+    }
+
+    public void start() {
+        this.status = ImportJobStatus.RUNNING;
+    }
+
+    public void recordChunk(int parsed, int imported) {
+        this.parsedCount += parsed;
+        this.importedCount += imported;
+        this.ignoredCount += parsed - imported;
+    }
+
+    public void complete() {
+        this.status = ImportJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = ImportJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.finance.app.domain.entity;
+
+public enum ImportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,28 @@
+package com.finance.app.domain.entity;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record InstallmentSeriesDelta(
+        UUID parentId,
+        int completedInstallments,
+        int pendingInstallments,
+        BigDecimal completedAmount,
+        BigDecimal pendingAmount) {
+
+    public InstallmentSeriesDelta negate() {
+        return new InstallmentSeriesDelta(parentId, -completedInstallments, -pendingInstallments,
+                completedAmount.negate(), pendingAmount.negate());
+    }
+
+    public InstallmentSeriesDelta plus(InstallmentSeriesDelta other) {
+        return new InstallmentSeriesDelta(parentId, completedInstallments + other.completedInstallments,
+                pendingInstallments + other.pendingInstallments, completedAmount.add(other.completedAmount),
+                pendingAmount.add(other.pendingAmount));
+    }
+
+    public boolean isEmpty() {
+        return completedInstallments == 0 && pendingInstallments == 0
+                && completedAmount.signum() == 0 && pendingAmount.signum() == 0;
+    }
+}
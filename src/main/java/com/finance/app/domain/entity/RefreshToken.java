@@ -0,0 +1,46 @@
+package com.finance.app.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    private UUID id;
+    private UUID userId;
+    private UUID deviceId;
+    private String tokenHash;
+    private LocalDateTime expiresAt;
+    private LocalDateTime revokedAt;
+    private LocalDateTime createdAt;
+
+    public static RefreshToken create(UUID userId, UUID deviceId, String tokenHash, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .userId(userId)
+                .deviceId(deviceId)
+                .tokenHash(tokenHash)
+                .expiresAt(expiresAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public boolean isRevoked() {
+        return Objects.nonNull(revokedAt);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+}
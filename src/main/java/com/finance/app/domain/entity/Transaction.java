@@ -41,6 +41,14 @@ public class Transaction {
         return TransactionStatus.COMPLETED.equals(this.status);
     }
 
+    // Installments point at the root, which has no parent itself; null outside a series
+    public UUID seriesId() {
+        if (this.installmentCount == null) {
+            return null;
+        }
+        return this.parentId != null ? this.parentId : this.id;
+    }
+
     public static Transaction create(UUID accountId,
             UUID categoryId,
             UUID subcategoryId,
@@ -16,5 +16,7 @@ public record TransactionFilter(
         UUID accountId,
         String description,
         LocalDate startDate,
-        LocalDate endDate) {
+        LocalDate endDate,
+        TransactionCursor after,
+        int limit) {
 }
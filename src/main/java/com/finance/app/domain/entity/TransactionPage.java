@@ -0,0 +1,7 @@
+package com.finance.app.domain.entity;
+
+import java.util.List;
+
+// nextCursor is null on the last page
+public record TransactionPage(List<Transaction> transactions, TransactionCursor nextCursor) {
+}
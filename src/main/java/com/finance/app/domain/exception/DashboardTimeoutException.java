@@ -0,0 +1,11 @@
+package com.finance.app.domain.exception;
+
+import java.time.Duration;
+
+public class DashboardTimeoutException extends RuntimeException {
+
+    public DashboardTimeoutException(Duration timeout) {
+        super("Dashboard overview did not complete within " + timeout.toMillis() + " ms");
+    }
+
+}
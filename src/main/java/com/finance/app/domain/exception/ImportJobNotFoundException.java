@@ -0,0 +1,9 @@
+package com.finance.app.domain.exception;
+
+import java.util.UUID;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(UUID id) {
+        super("Import job with ID " + id + " not found");
+    }
+}
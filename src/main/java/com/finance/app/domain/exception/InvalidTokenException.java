@@ -14,6 +14,14 @@ public class InvalidTokenException extends RuntimeException {
         return new InvalidTokenException("Invalid token. Please check the token provided in the Authorization header");
     }
 
+    public static InvalidTokenException refreshInvalid() {
+        return new InvalidTokenException("Invalid refresh token. Please login again");
+    }
+
+    public static InvalidTokenException refreshExpired() {
+        return new InvalidTokenException("Refresh token has expired. Please login again");
+    }
+
     public static InvalidTokenException absent() {
         return new InvalidTokenException(
                 "Token is missing. Please provide the JWT token in the Authorization header: Bearer <token>");
@@ -0,0 +1,13 @@
+package com.finance.app.domain.port;
+
+import com.finance.app.domain.entity.Competence;
+
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public interface CompetenceCache {
+
+    Competence get(UUID userId, YearMonth period, Supplier<Competence> loader);
+
+}
@@ -0,0 +1,19 @@
+package com.finance.app.domain.port;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public interface DashboardCache {
+
+    <T> T get(UUID userId, UUID competenceId, String view, Supplier<T> loader);
+
+    <T> T get(UUID userId, String view, Supplier<T> loader);
+
+    void evict(UUID userId, Collection<UUID> competenceIds);
+
+    void evictUser(UUID userId);
+
+    void clear();
+
+}
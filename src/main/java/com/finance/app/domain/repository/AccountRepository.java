@@ -15,6 +15,8 @@ public interface AccountRepository {
 
     Account save(Account account);
 
+    void adjustBalance(UUID id, BigDecimal delta);
+
     BigDecimal sumBalanceByUserId(UUID userId);
 
     void delete(UUID id);
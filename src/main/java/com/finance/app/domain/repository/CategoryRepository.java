@@ -18,4 +18,8 @@ public interface CategoryRepository {
 
     Category save(Category category);
 
+    int provisionFromTemplate(int templateVersion, UUID userId);
+
+    int provisionFromTemplateForAllUsers(int templateVersion);
+
 }
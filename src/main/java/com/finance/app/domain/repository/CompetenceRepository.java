@@ -2,7 +2,10 @@ package com.finance.app.domain.repository;
 
 import com.finance.app.domain.entity.Competence;
 
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,4 +21,8 @@ public interface CompetenceRepository {
 
     Competence save(Competence competence);
 
+    List<Competence> saveAll(List<Competence> competences);
+
+    Map<YearMonth, Competence> findOrCreateAll(UUID userId, Collection<YearMonth> periods);
+
 }
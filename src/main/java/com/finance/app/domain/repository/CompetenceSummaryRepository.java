@@ -0,0 +1,19 @@
+package com.finance.app.domain.repository;
+
+import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface CompetenceSummaryRepository {
+
+    List<CompetenceTransactionSubtypeSummary> findByUserId(UUID userId);
+
+    List<CompetenceTransactionSubtypeSummary> findByCompetenceId(UUID competenceId);
+
+    void apply(UUID userId, Collection<CompetenceTransactionSubtypeSummary> deltas);
+
+    int rebuild();
+
+}
@@ -0,0 +1,18 @@
+package com.finance.app.domain.repository;
+
+import com.finance.app.domain.entity.ImportJob;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ImportJobRepository {
+
+    ImportJob save(ImportJob importJob);
+
+    Optional<ImportJob> findByIdAndUserId(UUID id, UUID userId);
+
+    // Marks every PENDING or RUNNING job last touched before the given time as FAILED; returns how many
+    int failUnfinished(LocalDateTime updatedBefore, String errorMessage);
+
+}
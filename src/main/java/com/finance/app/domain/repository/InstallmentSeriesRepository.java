@@ -0,0 +1,25 @@
+package com.finance.app.domain.repository;
+
+import com.finance.app.domain.entity.InstallmentSeries;
+import com.finance.app.domain.entity.InstallmentSeriesDelta;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface InstallmentSeriesRepository {
+
+    void create(UUID userId, InstallmentSeries series);
+
+    Optional<InstallmentSeries> findByParentId(UUID parentId);
+
+    // Series that still have pending installments, newest first
+    List<InstallmentSeries> findActiveByUserId(UUID userId);
+
+    void apply(Collection<InstallmentSeriesDelta> deltas);
+
+    // The header copies the root transaction's description, so renaming the root renames the series
+    void updateDescription(UUID parentId, String description);
+
+}
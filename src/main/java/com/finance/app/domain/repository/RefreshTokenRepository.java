@@ -0,0 +1,20 @@
+package com.finance.app.domain.repository;
+
+import com.finance.app.domain.entity.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepository {
+
+    RefreshToken save(RefreshToken refreshToken);
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // False when the token was already revoked, e.g. by a concurrent refresh
+    boolean revoke(UUID id, LocalDateTime revokedAt);
+
+    int revokeDevice(UUID userId, UUID deviceId, LocalDateTime revokedAt);
+
+}
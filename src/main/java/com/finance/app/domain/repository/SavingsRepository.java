@@ -2,6 +2,7 @@ package com.finance.app.domain.repository;
 
 import com.finance.app.domain.entity.Savings;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,6 +10,8 @@ import java.util.UUID;
 public interface SavingsRepository {
     
     Savings save(Savings savings);
+
+    boolean adjustBalance(UUID id, BigDecimal delta);
     
     Optional<Savings> findById(UUID id);
     
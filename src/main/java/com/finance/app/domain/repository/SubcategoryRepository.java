@@ -20,4 +20,8 @@ public interface SubcategoryRepository {
 
     void delete(UUID id);
 
+    int provisionFromTemplate(int templateVersion, UUID userId);
+
+    int provisionFromTemplateForAllUsers(int templateVersion);
+
 }
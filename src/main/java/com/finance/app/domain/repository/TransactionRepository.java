@@ -1,22 +1,29 @@
 package com.finance.app.domain.repository;
 
 import com.finance.app.domain.entity.CategoryExpenseSummary;
+import com.finance.app.domain.entity.CommitmentSummary;
 import com.finance.app.domain.entity.CompetenceAmountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionCountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionAmountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
 import com.finance.app.domain.entity.Transaction;
-import com.finance.app.domain.entity.TransactionType;
 import com.finance.app.domain.entity.TransactionFilter;
+import com.finance.app.domain.entity.TransactionPage;
+import com.finance.app.domain.entity.TransactionType;
 
 import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface TransactionRepository {
 
-    List<Transaction> findByFilter(TransactionFilter filter);
+    TransactionPage findByFilter(TransactionFilter filter);
+
+    // Every match in listing order, without the page limit; must be consumed inside a transaction and closed
+    Stream<Transaction> streamByFilter(TransactionFilter filter);
 
     Optional<Transaction> findById(UUID id);
 
@@ -30,28 +37,26 @@ public interface TransactionRepository {
 
     void delete(UUID id);
 
-    BigDecimal sumAmountByCompetenceIdAndType(UUID competenceId, TransactionType type);
-
     List<CategoryExpenseSummary> sumExpensesByCategory(UUID competenceId);
 
     List<CompetenceAmountSummary> sumAmountByCompetenceIds(List<UUID> competenceIds);
 
+    List<CommitmentSummary> sumPendingCommitments(UUID userId, YearMonth from, YearMonth to);
+
     List<Transaction> findByParentId(UUID parentId);
 
     boolean existsPendingByAccountId(UUID accountId);
 
     boolean existsByExternalId(String externalId);
 
-    List<Transaction> saveAll(List<Transaction> transactions);
-
-    long countByCompetenceId(UUID competenceId);
+    Set<String> findExistingExternalIds(Collection<String> externalIds);
 
-    List<CompetenceTransactionCountSummary> countTransactionsGroupedByCompetence(UUID userId);
-
-    List<CompetenceTransactionAmountSummary> sumAmountsGroupedByCompetence(UUID userId);
+    List<Transaction> saveAll(List<Transaction> transactions);
 
-    List<CompetenceTransactionAmountSummary> sumAmountsByCompetenceId(UUID competenceId);
+    // Rewrites the amount of each listed transaction in a single statement
+    void updateAmounts(Map<UUID, BigDecimal> amountsById);
 
-    List<CompetenceTransactionSubtypeSummary> sumSubtypeAmountsByCompetenceId(UUID competenceId);
+    // The root installment and every child of it
+    void updateTypeByParentId(UUID parentId, TransactionType type);
 
 }
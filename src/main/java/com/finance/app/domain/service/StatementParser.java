@@ -4,10 +4,18 @@ import com.finance.app.domain.entity.ParsedTransaction;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface StatementParser {
 
-    List<ParsedTransaction> parse(InputStream inputStream);
+    // Lazily emits transactions as they are read; the stream owns the input and must be closed
+    Stream<ParsedTransaction> stream(InputStream inputStream);
+
+    default List<ParsedTransaction> parse(InputStream inputStream) {
+        try (Stream<ParsedTransaction> transactions = stream(inputStream)) {
+            return transactions.toList();
+        }
+    }
 
     boolean supports(String fileName, String contentType);
 
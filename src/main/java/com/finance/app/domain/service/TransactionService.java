@@ -1,24 +1,40 @@
 package com.finance.app.domain.service;
 
-import com.finance.app.domain.entity.Account;
+import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
+import com.finance.app.domain.entity.InstallmentSeriesDelta;
 import com.finance.app.domain.entity.Transaction;
 import com.finance.app.domain.entity.TransactionType;
 
+import java.math.BigDecimal;
+import java.util.UUID;
+
 public class TransactionService {
 
-    public void processTransaction(Transaction transaction, Account account) {
-        if (transaction.isCompleted()) {
-            account.updateBalance(transaction.getAmount(), transaction.getType());
+    // Signed change this transaction applies to its account's balance
+    public BigDecimal balanceEffect(Transaction transaction) {
+        if (!transaction.isCompleted()) {
+            return BigDecimal.ZERO;
         }
+        return TransactionType.EXPENSE.equals(transaction.getType())
+                ? transaction.getAmount().negate()
+                : transaction.getAmount();
+    }
+
+    // What this transaction adds to its competence_summary row
+    public CompetenceTransactionSubtypeSummary competenceContribution(Transaction transaction) {
+        return new CompetenceTransactionSubtypeSummary(transaction.getCompetenceId(), transaction.getType(),
+                transaction.getStatus(), transaction.getSubtype(), 1L, transaction.getAmount());
     }
 
-    public void reverseTransaction(Transaction transaction, Account account) {
-        if (transaction.isCompleted()) {
-            TransactionType reversedType = TransactionType.EXPENSE.equals(transaction.getType())
-                    ? TransactionType.REVENUE
-                    : TransactionType.EXPENSE;
-            account.updateBalance(transaction.getAmount(), reversedType);
+    // What this transaction adds to its installment_series row, or null when it is not an installment
+    public InstallmentSeriesDelta seriesContribution(Transaction transaction) {
+        UUID seriesId = transaction.seriesId();
+        if (seriesId == null) {
+            return null;
         }
+        return transaction.isCompleted()
+                ? new InstallmentSeriesDelta(seriesId, 1, 0, transaction.getAmount(), BigDecimal.ZERO)
+                : new InstallmentSeriesDelta(seriesId, 0, 1, BigDecimal.ZERO, transaction.getAmount());
     }
 
 }
@@ -0,0 +1,87 @@
+package com.finance.app.infrastructure.cache;
+
+import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.port.CompetenceCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// Bounded LRU of (user, month) -> competence. Competences are never renamed or deleted on their own,
+// so an entry stays valid for as long as it is cached and no expiry is needed. Callers get copies, since
+// the domain object is mutable.
+@Component
+public class InMemoryCompetenceCache implements CompetenceCache {
+
+    private final Map<Key, Competence> competences;
+
+    public InMemoryCompetenceCache(@Value("${app.competences.cache.max-entries:50000}") int maxEntries) {
+        this.competences = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Competence> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Competence get(UUID userId, YearMonth period, Supplier<Competence> loader) {
+        Key key = new Key(userId, period);
+        synchronized (competences) {
+            Competence cached = competences.get(key);
+            if (cached != null) {
+                return copy(cached);
+            }
+        }
+
+        Competence competence = loader.get();
+        storeOnceCommitted(key, copy(competence));
+        return competence;
+    }
+
+    int size() {
+        synchronized (competences) {
+            return competences.size();
+        }
+    }
+
+    // A row inserted by a transaction that later rolls back must never be handed out
+    private void storeOnceCommitted(Key key, Competence competence) {
+        Runnable store = () -> {
+            synchronized (competences) {
+                competences.put(key, competence);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store.run();
+                }
+            });
+        } else {
+            store.run();
+        }
+    }
+
+    private static Competence copy(Competence competence) {
+        return Competence.builder()
+                .id(competence.getId())
+                .userId(competence.getUserId())
+                .month(competence.getMonth())
+                .year(competence.getYear())
+                .createdAt(competence.getCreatedAt())
+                .updatedAt(competence.getUpdatedAt())
+                .build();
+    }
+
+    private record Key(UUID userId, YearMonth period) {
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.finance.app.infrastructure.cache;
+
+import com.finance.app.domain.port.DashboardCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Bounded LRU of dashboard results per (user, competence), each slot holding one value per view.
+// Any competence write also drops the user's cross-competence slot.
+@Component
+public class InMemoryDashboardCache implements DashboardCache {
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<Key, Slot> slots;
+
+    // Generation of each recently evicted user; a load that started before its user's last eviction
+    // must not be stored. Users dropped from the map read the floor, which is raised past anything dropped.
+    private final Map<UUID, Long> generations;
+    private long sequence;
+    private long floor;
+
+    @Autowired
+    public InMemoryDashboardCache(@Value("${app.dashboard.cache.max-entries:10000}") int maxEntries,
+                                  @Value("${app.dashboard.cache.ttl:10m}") Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    InMemoryDashboardCache(int maxEntries, Duration ttl, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.slots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Slot> eldest) {
+                return size() > InMemoryDashboardCache.this.maxEntries;
+            }
+        };
+        this.generations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+                if (size() <= InMemoryDashboardCache.this.maxEntries) {
+                    return false;
+                }
+                floor = sequence;
+                return true;
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(UUID userId, UUID competenceId, String view, Supplier<T> loader) {
+        Key key = new Key(userId, competenceId);
+        Instant now = clock.instant();
+        long startedAt;
+
+        synchronized (slots) {
+            Slot slot = slots.get(key);
+            if (slot != null && slot.expiresAt().isAfter(now) && slot.views().containsKey(view)) {
+                return (T) slot.views().get(view);
+            }
+            startedAt = generationOf(userId);
+        }
+
+        T value = loader.get();
+
+        synchronized (slots) {
+            if (generationOf(userId) == startedAt) {
+                Slot slot = slots.get(key);
+                if (slot == null || !slot.expiresAt().isAfter(now)) {
+                    slot = new Slot(now.plus(ttl), new HashMap<>());
+                    slots.put(key, slot);
+                }
+                slot.views().put(view, value);
+            }
+        }
+        return value;
+    }
+
+    // Views spanning several competences live in the user's slot without a competence
+    @Override
+    public <T> T get(UUID userId, String view, Supplier<T> loader) {
+        return get(userId, null, view, loader);
+    }
+
+    @Override
+    public void evict(UUID userId, Collection<UUID> competenceIds) {
+        List<Key> keys = Stream.concat(competenceIds.stream().distinct(), Stream.of((UUID) null))
+                .map(id -> new Key(userId, id))
+                .toList();
+        runNowAndAfterCommit(() -> {
+            synchronized (slots) {
+                generations.put(userId, ++sequence);
+                keys.forEach(slots::remove);
+            }
+        });
+    }
+
+    @Override
+    public void evictUser(UUID userId) {
+        runNowAndAfterCommit(() -> {
+            synchronized (slots) {
+                generations.put(userId, ++sequence);
+                slots.keySet().removeIf(key -> key.userId().equals(userId));
+            }
+        });
+    }
+
+    @Override
+    public void clear() {
+        synchronized (slots) {
+            generations.clear();
+            floor = ++sequence;
+            slots.clear();
+        }
+    }
+
+    int size() {
+        synchronized (slots) {
+            return slots.size();
+        }
+    }
+
+    // Callers hold the slots lock
+    private long generationOf(UUID userId) {
+        return generations.getOrDefault(userId, floor);
+    }
+
+    // Evicting again after commit drops anything a concurrent read cached from the pre-commit state
+    private static void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private record Key(UUID userId, UUID competenceId) {
+    }
+
+    private record Slot(Instant expiresAt, Map<String, Object> views) {
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.finance.app.infrastructure.config;
+
+import com.finance.app.application.usecase.CompetenceUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Start once with --app.competence-summary.rebuild=true to backfill or repair the rollup
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.competence-summary.rebuild", havingValue = "true")
+public class CompetenceSummaryRebuildRunner implements ApplicationRunner {
+
+    private final CompetenceUseCase competenceUseCase;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        competenceUseCase.rebuildSummaries();
+    }
+}
@@ -25,7 +25,7 @@ public class CorsConfig {
         configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With", "Accept", "Origin", "Access-Control-Request-Method", "Access-Control-Request-Headers"));
         
         // Headers to expose to the client
-        configuration.setExposedHeaders(List.of("Access-Control-Allow-Origin", "Access-Control-Allow-Credentials", "Authorization"));
+        configuration.setExposedHeaders(List.of("Access-Control-Allow-Origin", "Access-Control-Allow-Credentials", "Authorization", "X-Next-Cursor"));
         
         // Allow credentials (e.g., cookies, authorization headers)
         configuration.setAllowCredentials(true);
@@ -0,0 +1,34 @@
+package com.finance.app.infrastructure.config;
+
+import com.finance.app.infrastructure.persistence.jdbc.QueryCounter;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+@Configuration
+public class DashboardOverviewConfig {
+
+    // Overview subtasks run on their own virtual threads; this keeps their log lines and SQL statements
+    // attributed to the request that forked them
+    @Bean
+    public TaskDecorator overviewTaskDecorator() {
+        return runnable -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            Runnable counted = QueryCounter.propagating(runnable);
+            return () -> {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    counted.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        };
+    }
+
+}
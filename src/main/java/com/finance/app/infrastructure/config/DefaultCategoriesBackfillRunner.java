@@ -0,0 +1,22 @@
+package com.finance.app.infrastructure.config;
+
+import com.finance.app.application.usecase.CategoryUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Start once with --app.categories.backfill=true after shipping a new category template version
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.categories.backfill", havingValue = "true")
+public class DefaultCategoriesBackfillRunner implements ApplicationRunner {
+
+    private final CategoryUseCase categoryUseCase;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        categoryUseCase.backfillDefaultCategories();
+    }
+}
@@ -4,7 +4,7 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Configuration;
 
 import jakarta.annotation.PostConstruct;
@@ -14,7 +14,7 @@ import java.io.InputStream;
 import java.util.Objects;
 
 @Configuration
-@ConditionalOnProperty(name = "app.security.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnExpression("${app.security.enabled:true} and '${app.firebase.verification:local}' == 'sdk'")
 public class FirebaseConfig {
 
     @Value("${app.firebase.credentials-path:}")
@@ -0,0 +1,67 @@
+package com.finance.app.infrastructure.config;
+
+import com.finance.app.infrastructure.security.HttpJwksSigningKeySource;
+import com.finance.app.infrastructure.security.LocalFirebaseTokenVerifier;
+import com.finance.app.infrastructure.security.ResourceJwksSigningKeySource;
+import com.finance.app.infrastructure.security.SigningKeySource;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+@ConditionalOnExpression("${app.security.enabled:true} and '${app.firebase.verification:local}' == 'local'")
+public class FirebaseVerificationConfig {
+
+    // An http(s) location is fetched and honours Cache-Control; anything else (file:, classpath:) is read as a local JWKS
+    @Bean
+    public SigningKeySource firebaseSigningKeySource(
+            @Value("${app.firebase.jwks-location}") String location,
+            @Value("${app.firebase.keys-ttl:1h}") Duration keysTtl,
+            ResourceLoader resourceLoader) {
+        if (location.startsWith("http://") || location.startsWith("https://")) {
+            return new HttpJwksSigningKeySource(URI.create(location), keysTtl);
+        }
+        return new ResourceJwksSigningKeySource(resourceLoader.getResource(location), keysTtl);
+    }
+
+    @Bean
+    public LocalFirebaseTokenVerifier localFirebaseTokenVerifier(
+            SigningKeySource firebaseSigningKeySource,
+            @Value("${app.firebase.project-id:}") String projectId,
+            @Value("${app.firebase.credentials-path:}") String credentialsPath) {
+        return new LocalFirebaseTokenVerifier(firebaseSigningKeySource, resolveProjectId(projectId, credentialsPath));
+    }
+
+    // Without a project id every token would be rejected, so fall back to the service account the SDK mode
+    // used and refuse to start when neither is available
+    static String resolveProjectId(String projectId, String credentialsPath) {
+        if (!projectId.isBlank()) {
+            return projectId;
+        }
+        if (!credentialsPath.isBlank()) {
+            try (InputStream json = new FileInputStream(credentialsPath)) {
+                String fromCredentials = ServiceAccountCredentials.fromStream(json).getProjectId();
+                if (fromCredentials != null && !fromCredentials.isBlank()) {
+                    log.atInfo().log("Using Firebase project {} from the service account credentials", fromCredentials);
+                    return fromCredentials;
+                }
+            } catch (IOException exception) {
+                throw new IllegalStateException("Could not read the Firebase project id from " + credentialsPath, exception);
+            }
+        }
+        throw new IllegalStateException("app.firebase.verification=local needs a project id: set FIREBASE_PROJECT_ID, "
+                + "point GOOGLE_APPLICATION_CREDENTIALS at a service account, or use FIREBASE_VERIFICATION=sdk");
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.finance.app.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+@Configuration
+public class ImportExecutorConfig {
+
+    // Each running import holds a DB connection per chunk, so keep the pool small and the queue bounded
+    @Bean
+    public ThreadPoolTaskExecutor importTaskExecutor(
+            @Value("${app.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${app.import.queue-capacity:20}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("import-");
+        executor.setTaskDecorator(mdcPropagatingDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        // Read at scrape time, after the pool has been initialized
+        Gauge.builder("julius.import.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Import jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("julius.import.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Import jobs currently running")
+                .register(meterRegistry);
+        return executor;
+    }
+
+    // Uploads wait here for their worker; a dedicated directory lets startup find the ones a restart orphaned
+    @Bean
+    public Path importSpoolDirectory(@Value("${app.import.spool-dir:${java.io.tmpdir}/julius-imports}") String directory)
+            throws IOException {
+        return Files.createDirectories(Path.of(directory));
+    }
+
+    // Keeps the submitting request's requestId/userId on the job's log lines
+    private static TaskDecorator mdcPropagatingDecorator() {
+        return runnable -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        };
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.finance.app.infrastructure.logging;
+
+import com.finance.app.infrastructure.persistence.jdbc.QueryCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Objects;
+
+// Runs inside LoggingFilter, so the counts are still in the MDC when the request completion is logged
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String QUERY_COUNT = "query_count";
+    private static final String JDBC_MS = "jdbc_ms";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.jdbc.query-count-warn-threshold:30}")
+    private int warnThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        QueryCounter counter = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            counter.close();
+            MDC.put(QUERY_COUNT, String.valueOf(counter.statements()));
+            MDC.put(JDBC_MS, String.valueOf(counter.jdbcTime().toMillis()));
+
+            String route = Objects.toString(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), "UNKNOWN");
+            Tags tags = Tags.of("method", request.getMethod(), "uri", route);
+            DistributionSummary.builder("julius.http.server.queries")
+                    .description("JDBC statements executed per request")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(counter.statements());
+            Timer.builder("julius.http.server.jdbc")
+                    .description("Time spent executing JDBC statements per request")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(counter.jdbcTime());
+
+            if (counter.statements() > warnThreshold) {
+                log.atWarn().log("Request {} {} executed {} SQL statements ({} ms in JDBC), above the threshold of {}",
+                        request.getMethod(), route, counter.statements(), counter.jdbcTime().toMillis(), warnThreshold);
+            }
+        }
+    }
+}
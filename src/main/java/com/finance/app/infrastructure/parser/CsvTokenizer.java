@@ -0,0 +1,98 @@
+package com.finance.app.infrastructure.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Single-pass RFC 4180 tokenizer: quoted fields, "" escapes and line breaks inside quotes.
+// Reads through its own char buffer and reuses the field list between records.
+final class CsvTokenizer implements Closeable {
+
+    private static final int EOF = -1;
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder field = new StringBuilder(64);
+    private final List<String> fields = new ArrayList<>();
+    private int position;
+    private int limit;
+
+    CsvTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    boolean next() throws IOException {
+        fields.clear();
+        field.setLength(0);
+
+        int c = read();
+        if (c == EOF) {
+            return false;
+        }
+
+        boolean inQuotes = false;
+        while (true) {
+            if (inQuotes) {
+                if (c == QUOTE) {
+                    c = read();
+                    if (c == QUOTE) {
+                        field.append(QUOTE);
+                    } else {
+                        inQuotes = false;
+                        continue;
+                    }
+                } else if (c == EOF) {
+                    fields.add(field.toString());
+                    return true;
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == DELIMITER) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == EOF) {
+                fields.add(field.toString());
+                return true;
+            } else if (c == QUOTE && field.isEmpty()) {
+                inQuotes = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    int fieldCount() {
+        return fields.size();
+    }
+
+    String field(int index) {
+        return fields.get(index);
+    }
+
+    boolean isBlankRecord() {
+        return fields.size() == 1 && fields.get(0).isBlank();
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
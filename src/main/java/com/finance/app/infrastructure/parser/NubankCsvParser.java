@@ -6,16 +6,20 @@ import com.finance.app.domain.service.StatementParser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Slf4j
 @Component
@@ -24,51 +28,97 @@ public class NubankCsvParser implements StatementParser {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
     @Override
-    public List<ParsedTransaction> parse(InputStream inputStream) {
-        List<ParsedTransaction> transactions = new ArrayList<>();
+    public Stream<ParsedTransaction> stream(InputStream inputStream) {
+        CsvTokenizer tokenizer = new CsvTokenizer(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            String line = reader.readLine(); // Skip header
-            if (line != null && !line.startsWith("Data,Valor")) {
+        try {
+            // Skip header
+            if (tokenizer.next() && (tokenizer.fieldCount() < 2
+                    || !"Data".equals(tokenizer.field(0)) || !"Valor".equals(tokenizer.field(1)))) {
                 log.warn("CSV header does not match expected Nubank format");
             }
+        } catch (Exception e) {
+            closeTokenizer(tokenizer);
+            log.error("Error parsing Nubank CSV file", e);
+            throw new RuntimeException("Failed to parse CSV file", e);
+        }
 
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) {
-                    continue;
+        Spliterator<ParsedTransaction> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super ParsedTransaction> action) {
+                ParsedTransaction next = nextTransaction(tokenizer);
+                if (next == null) {
+                    return false;
                 }
+                action.accept(next);
+                return true;
+            }
+        };
 
-                // Split by comma. We assume descriptions do not contain unescaped commas for Nubank.
-                // A better approach for robust CSV is using a library, but NuBank statements are typically simple.
-                // Let's use a regex that splits by comma but respects quotes, just in case.
-                String[] parts = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
-                if (parts.length < 4) {
-                    log.warn("Skipping invalid CSV line: {}", line);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> closeTokenizer(tokenizer));
+    }
+
+    private ParsedTransaction nextTransaction(CsvTokenizer tokenizer) {
+        try {
+            while (tokenizer.next()) {
+                if (tokenizer.isBlankRecord()) {
+                    continue;
+                }
+                if (tokenizer.fieldCount() < 4) {
+                    log.warn("Skipping invalid CSV record with {} fields", tokenizer.fieldCount());
                     continue;
                 }
 
-                String dateStr = parts[0].trim();
-                String amountStr = parts[1].trim();
-                String externalId = parts[2].trim();
-                String description = parts[3].trim().replaceAll("^\"|\"$", ""); // Remove quotes if any
+                LocalDateTime dateTime = parseDate(tokenizer.field(0).trim()).atStartOfDay();
+                BigDecimal amount = new BigDecimal(tokenizer.field(1).trim());
+                String externalId = tokenizer.field(2).trim();
+                String description = tokenizer.field(3).trim();
 
-                LocalDate date = LocalDate.parse(dateStr, DATE_FORMATTER);
-                LocalDateTime dateTime = date.atStartOfDay();
+                TransactionType type = amount.signum() < 0 ? TransactionType.EXPENSE : TransactionType.REVENUE;
 
-                BigDecimal amount = new BigDecimal(amountStr);
-                TransactionType type = amount.compareTo(BigDecimal.ZERO) < 0 ? TransactionType.EXPENSE : TransactionType.REVENUE;
-                
                 // Absolute value for amount
-                BigDecimal finalAmount = amount.abs();
-
-                transactions.add(new ParsedTransaction(externalId, description, finalAmount, dateTime, type));
+                return new ParsedTransaction(externalId, description, amount.abs(), dateTime, type);
             }
+            return null;
         } catch (Exception e) {
             log.error("Error parsing Nubank CSV file", e);
             throw new RuntimeException("Failed to parse CSV file", e);
         }
+    }
+
+    // Fast path for dd/MM/yyyy without going through the formatter's parse tree
+    private static LocalDate parseDate(String value) {
+        if (value.length() == 10 && value.charAt(2) == '/' && value.charAt(5) == '/') {
+            int day = digits(value, 0, 2);
+            int month = digits(value, 3, 5);
+            int year = digits(value, 6, 10);
+            if (day >= 0 && month >= 0 && year >= 0) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        return LocalDate.parse(value, DATE_FORMATTER);
+    }
 
-        return transactions;
+    private static int digits(String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static void closeTokenizer(CsvTokenizer tokenizer) {
+        try {
+            tokenizer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
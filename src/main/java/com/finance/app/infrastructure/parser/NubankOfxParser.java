@@ -6,97 +6,155 @@ import com.finance.app.domain.service.StatementParser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Slf4j
 @Component
 public class NubankOfxParser implements StatementParser {
 
-    private static final Pattern STMTTRN_PATTERN = Pattern.compile("<STMTTRN>(.*?)</STMTTRN>", Pattern.DOTALL);
-    private static final Pattern TRNTYPE_PATTERN = Pattern.compile("<TRNTYPE>(.*?)</", Pattern.DOTALL);
-    private static final Pattern DTPOSTED_PATTERN = Pattern.compile("<DTPOSTED>(.*?)</", Pattern.DOTALL);
-    private static final Pattern TRNAMT_PATTERN = Pattern.compile("<TRNAMT>(.*?)</", Pattern.DOTALL);
-    private static final Pattern FITID_PATTERN = Pattern.compile("<FITID>(.*?)</", Pattern.DOTALL);
-    private static final Pattern MEMO_PATTERN = Pattern.compile("<MEMO>(.*?)</", Pattern.DOTALL);
+    private static final String STMTTRN = "STMTTRN";
 
     // Format: YYYYMMDDHHMMSS[-3:BRT]
     // We can extract just the YYYYMMDDHHMMSS part
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
     @Override
-    public List<ParsedTransaction> parse(InputStream inputStream) {
-        List<ParsedTransaction> transactions = new ArrayList<>();
+    public Stream<ParsedTransaction> stream(InputStream inputStream) {
+        OfxTokenizer tokenizer = new OfxTokenizer(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        StatementEntry entry = new StatementEntry();
 
-        try {
-            String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-            
-            // NuBank OFX usually doesn't have closing tags for everything, but let's assume STMTTRN is wrapped 
-            // or we can find STMTTRN blocks. Actually OFX 1.02 might not have </STMTTRN>. Let's check.
-            // If the sample had </STMTTRN> we can use the pattern above.
-            // Otherwise, we split by <STMTTRN>
-            
-            String[] blocks = content.split("<STMTTRN>");
-            for (int i = 1; i < blocks.length; i++) { // Skip the first block before the first <STMTTRN>
-                String block = blocks[i];
-                // block might contain </STMTTRN> or just end at the next tag.
-                
-                String fitid = extract(FITID_PATTERN, block);
-                String amountStr = extract(TRNAMT_PATTERN, block);
-                String dtpostedStr = extract(DTPOSTED_PATTERN, block);
-                String memo = extract(MEMO_PATTERN, block);
-                
-                if (fitid == null || amountStr == null || dtpostedStr == null) {
-                    continue; // invalid block
+        Spliterator<ParsedTransaction> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super ParsedTransaction> action) {
+                ParsedTransaction next = nextTransaction(tokenizer, entry);
+                if (next == null) {
+                    return false;
                 }
+                action.accept(next);
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> closeTokenizer(tokenizer));
+    }
 
-                BigDecimal amount = new BigDecimal(amountStr);
-                TransactionType type = amount.compareTo(BigDecimal.ZERO) < 0 ? TransactionType.EXPENSE : TransactionType.REVENUE;
-                BigDecimal finalAmount = amount.abs();
-                
-                // Parse date, taking only the first 14 characters (YYYYMMDDHHMMSS)
-                String datePart = dtpostedStr.substring(0, 14);
-                LocalDateTime dateTime = LocalDateTime.parse(datePart, DATE_FORMATTER);
-                
-                transactions.add(new ParsedTransaction(fitid, memo != null ? memo : "", finalAmount, dateTime, type));
+    private ParsedTransaction nextTransaction(OfxTokenizer tokenizer, StatementEntry entry) {
+        try {
+            String element = null;
+            OfxTokenizer.Token token;
+            while ((token = tokenizer.next()) != OfxTokenizer.Token.EOF) {
+                switch (token) {
+                    case START_TAG -> {
+                        element = tokenizer.value();
+                        if (STMTTRN.equalsIgnoreCase(element)) {
+                            // A new block also ends one left unclosed
+                            ParsedTransaction previous = entry.open ? entry.toTransaction() : null;
+                            entry.reset();
+                            entry.open = true;
+                            if (previous != null) {
+                                return previous;
+                            }
+                        }
+                    }
+                    case TEXT -> {
+                        // SGML elements have no end tag: the value is the text right after the start tag
+                        if (entry.open && element != null) {
+                            entry.accept(element, tokenizer.value());
+                        }
+                        element = null;
+                    }
+                    case END_TAG -> {
+                        element = null;
+                        if (entry.open && STMTTRN.equalsIgnoreCase(tokenizer.value())) {
+                            entry.open = false;
+                            ParsedTransaction transaction = entry.toTransaction();
+                            if (transaction != null) {
+                                return transaction;
+                            }
+                        }
+                    }
+                    default -> {
+                    }
+                }
             }
 
+            if (entry.open) {
+                entry.open = false;
+                return entry.toTransaction();
+            }
+            return null;
         } catch (Exception e) {
             log.error("Error parsing Nubank OFX file", e);
             throw new RuntimeException("Failed to parse OFX file", e);
         }
+    }
 
-        return transactions;
+    private static LocalDateTime parseDateTime(String value) {
+        if (value.length() >= 14) {
+            return LocalDateTime.parse(value.substring(0, 14), DATE_TIME_FORMATTER);
+        }
+        return LocalDate.parse(value.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay();
     }
-    
-    private String extract(Pattern pattern, String text) {
-        Matcher matcher = pattern.matcher(text);
-        if (matcher.find()) {
-            // Remove any trailing XML tags or whitespace just in case
-            return matcher.group(1).split("<")[0].trim();
+
+    private static void closeTokenizer(OfxTokenizer tokenizer) {
+        try {
+            tokenizer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        // Fallback for tags without closing tag (common in OFX SGML)
-        // e.g. <FITID>12345\n
-        String tagName = pattern.pattern().substring(0, pattern.pattern().indexOf(">") + 1);
-        int idx = text.indexOf(tagName);
-        if (idx != -1) {
-            int start = idx + tagName.length();
-            int end = text.indexOf("<", start);
-            if (end == -1) {
-                end = text.indexOf("\n", start);
+    }
+
+    // Fields of the <STMTTRN> block being read; reused across blocks
+    private static final class StatementEntry {
+
+        private boolean open;
+        private String fitId;
+        private String amount;
+        private String datePosted;
+        private String memo;
+
+        void accept(String element, String value) {
+            switch (element.toUpperCase()) {
+                case "FITID" -> fitId = value;
+                case "TRNAMT" -> amount = value;
+                case "DTPOSTED" -> datePosted = value;
+                case "MEMO" -> memo = value;
+                default -> {
+                }
             }
-            if (end != -1) {
-                return text.substring(start, end).trim();
+        }
+
+        ParsedTransaction toTransaction() {
+            if (fitId == null || amount == null || datePosted == null) {
+                return null; // invalid block
             }
+
+            BigDecimal value = new BigDecimal(amount);
+            TransactionType type = value.signum() < 0 ? TransactionType.EXPENSE : TransactionType.REVENUE;
+            return new ParsedTransaction(fitId, memo != null ? memo : "", value.abs(), parseDateTime(datePosted), type);
+        }
+
+        void reset() {
+            fitId = null;
+            amount = null;
+            datePosted = null;
+            memo = null;
         }
-        return null;
     }
 
     @Override
@@ -0,0 +1,119 @@
+package com.finance.app.infrastructure.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+// Single-pass OFX tokenizer covering both dialects: SGML (OFX 1.x, element tags left unclosed)
+// and XML (OFX 2.x). Emits start tags, end tags and trimmed text; headers, processing
+// instructions and comments are skipped. Only the current token is held in memory.
+final class OfxTokenizer implements Closeable {
+
+    enum Token { START_TAG, END_TAG, TEXT, EOF }
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder value = new StringBuilder(64);
+    private int position;
+    private int limit;
+    private boolean atTag;
+
+    OfxTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    Token next() throws IOException {
+        while (true) {
+            value.setLength(0);
+            if (atTag) {
+                atTag = false;
+                Token token = readTag();
+                if (token != null) {
+                    return token;
+                }
+                continue;
+            }
+
+            int c = read();
+            while (c != '<' && c != EOF) {
+                value.append((char) c);
+                c = read();
+            }
+            atTag = c == '<';
+
+            String text = value.toString().strip();
+            if (!text.isEmpty()) {
+                value.setLength(0);
+                value.append(text);
+                return Token.TEXT;
+            }
+            if (c == EOF) {
+                return Token.EOF;
+            }
+        }
+    }
+
+    // Tag name for START_TAG/END_TAG, decoded content for TEXT
+    String value() {
+        return value.indexOf("&") < 0 ? value.toString() : decodeEntities(value);
+    }
+
+    private Token readTag() throws IOException {
+        int c = read();
+        if (c == '?' || c == '!') {
+            skipPast('>');
+            return null;
+        }
+
+        Token token = Token.START_TAG;
+        if (c == '/') {
+            token = Token.END_TAG;
+            c = read();
+        }
+        while (c != '>' && c != EOF && c != '/' && !Character.isWhitespace(c)) {
+            value.append((char) c);
+            c = read();
+        }
+        if (c != '>' && c != EOF) {
+            skipPast('>');
+        }
+        return c == EOF && value.isEmpty() ? Token.EOF : token;
+    }
+
+    private void skipPast(char terminator) throws IOException {
+        int c = read();
+        while (c != terminator && c != EOF) {
+            c = read();
+        }
+    }
+
+    private static String decodeEntities(CharSequence text) {
+        return text.toString()
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&nbsp;", " ")
+                .replace("&amp;", "&");
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
@@ -44,6 +44,14 @@ public class AccountRepositoryImpl implements AccountRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    // Applied in the database so concurrent writers never overwrite each other's change
+    @Override
+    public void adjustBalance(UUID id, BigDecimal delta) {
+        if (delta.signum() != 0) {
+            jpaRepository.addToBalance(id, delta);
+        }
+    }
+
     @Override
     public BigDecimal sumBalanceByUserId(UUID userId) {
         return jpaRepository.sumBalanceByUserId(userId);
@@ -10,6 +10,7 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,4 +48,14 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public int provisionFromTemplate(int templateVersion, UUID userId) {
+        return jpaRepository.insertFromTemplate(templateVersion, userId, LocalDateTime.now());
+    }
+
+    @Override
+    public int provisionFromTemplateForAllUsers(int templateVersion) {
+        return jpaRepository.insertFromTemplate(templateVersion, null, LocalDateTime.now());
+    }
+
 }
@@ -7,11 +7,20 @@ import com.finance.app.infrastructure.persistence.entity.UserEntity;
 import com.finance.app.infrastructure.persistence.mapper.CompetenceMapper;
 import com.finance.app.infrastructure.persistence.repository.CompetenceJpaRepository;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -55,4 +64,67 @@ public class CompetenceRepositoryImpl implements CompetenceRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Competence> saveAll(List<Competence> competences) {
+        List<CompetenceEntity> entities = competences.stream()
+                .map(competence -> mapper.toEntity(competence,
+                        entityManager.getReference(UserEntity.class, competence.getUserId())))
+                .toList();
+        return jpaRepository.saveAll(entities).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    // One duplicate-tolerant INSERT for every requested month, then one SELECT over the enclosing range.
+    // Concurrent callers resolving the same month both end up reading the single row that won. The SELECT
+    // is a locking read: under REPEATABLE READ the caller's snapshot could predate the winner's commit, and
+    // only a locking read sees the row the INSERT just collided with, inside the caller's own transaction.
+    @Override
+    @Transactional
+    public Map<YearMonth, Competence> findOrCreateAll(UUID userId, Collection<YearMonth> periods) {
+        List<YearMonth> requested = periods.stream().distinct().sorted().toList();
+        if (requested.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        insertIgnoringExisting(userId, requested);
+
+        Set<YearMonth> wanted = new HashSet<>(requested);
+        Map<YearMonth, Competence> competences = new HashMap<>();
+        YearMonth first = requested.getFirst();
+        YearMonth last = requested.getLast();
+        jpaRepository.findByUserIdAndPeriodBetween(userId,
+                        first.getYear(), first.getMonthValue(), last.getYear(), last.getMonthValue()).stream()
+                .map(mapper::toDomain)
+                .filter(competence -> wanted.contains(periodOf(competence)))
+                .forEach(competence -> competences.put(periodOf(competence), competence));
+        return competences;
+    }
+
+    // Native for the same reason as the summary upsert: the duplicate-key clause is what makes this race-free
+    private void insertIgnoringExisting(UUID userId, List<YearMonth> periods) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO competences (id, user_id, `month`, `year`, created_at, updated_at) VALUES ");
+        for (int i = 0; i < periods.size(); i++) {
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(:id").append(i).append(", :userId, :month").append(i).append(", :year").append(i)
+                    .append(", :now, :now)");
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE id = id");
+
+        Query insert = entityManager.createNativeQuery(sql.toString())
+                .setParameter("userId", userId)
+                .setParameter("now", LocalDateTime.now());
+        for (int i = 0; i < periods.size(); i++) {
+            insert.setParameter("id" + i, UUID.randomUUID())
+                    .setParameter("month" + i, periods.get(i).getMonthValue())
+                    .setParameter("year" + i, periods.get(i).getYear());
+        }
+        insert.executeUpdate();
+    }
+
+    private static YearMonth periodOf(Competence competence) {
+        return YearMonth.of(competence.getYear(), competence.getMonth());
+    }
+
 }
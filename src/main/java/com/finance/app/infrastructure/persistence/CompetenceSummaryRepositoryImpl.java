@@ -0,0 +1,74 @@
+package com.finance.app.infrastructure.persistence;
+
+import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.repository.CompetenceSummaryRepository;
+import com.finance.app.infrastructure.persistence.mapper.CompetenceSummaryMapper;
+import com.finance.app.infrastructure.persistence.repository.CompetenceSummaryJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class CompetenceSummaryRepositoryImpl implements CompetenceSummaryRepository {
+
+    // Rows are always locked in the same order so concurrent writers cannot deadlock
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::competenceId)
+            .thenComparing(Key::type)
+            .thenComparing(Key::status)
+            .thenComparing(Key::subtype);
+
+    private final CompetenceSummaryJpaRepository jpaRepository;
+    private final CompetenceSummaryMapper mapper;
+
+    @Override
+    public List<CompetenceTransactionSubtypeSummary> findByUserId(UUID userId) {
+        return jpaRepository.findByUserId(userId).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<CompetenceTransactionSubtypeSummary> findByCompetenceId(UUID competenceId) {
+        return jpaRepository.findByCompetenceId(competenceId).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void apply(UUID userId, Collection<CompetenceTransactionSubtypeSummary> deltas) {
+        // Merge deltas hitting the same row, e.g. the before/after of an edit that kept its key
+        Map<Key, CompetenceTransactionSubtypeSummary> merged = new TreeMap<>(KEY_ORDER);
+        for (CompetenceTransactionSubtypeSummary delta : deltas) {
+            Key key = new Key(delta.competenceId(), delta.type(), delta.status(), mapper.toColumn(delta.subtype()));
+            merged.merge(key, delta, (a, b) -> new CompetenceTransactionSubtypeSummary(a.competenceId(), a.type(),
+                    a.status(), a.subtype(), a.transactionCount() + b.transactionCount(),
+                    a.totalAmount().add(b.totalAmount())));
+        }
+
+        merged.forEach((key, delta) -> {
+            if (delta.transactionCount() == 0 && delta.totalAmount().signum() == 0) {
+                return;
+            }
+            jpaRepository.upsert(key.competenceId(), key.type().name(), key.status().name(), key.subtype(),
+                    userId, delta.transactionCount(), delta.totalAmount());
+        });
+    }
+
+    @Override
+    public int rebuild() {
+        jpaRepository.deleteAllRows();
+        return jpaRepository.insertFromTransactions();
+    }
+
+    private record Key(UUID competenceId, TransactionType type, TransactionStatus status, String subtype) {
+    }
+}
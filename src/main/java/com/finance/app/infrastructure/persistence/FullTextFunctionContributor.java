@@ -0,0 +1,29 @@
+package com.finance.app.infrastructure.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+// Registers fulltext_match(column, booleanModeQuery) for criteria queries
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String FULLTEXT_MATCH = "fulltext_match";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> relevance = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        if (functionContributions.getDialect() instanceof MySQLDialect) {
+            functionContributions.getFunctionRegistry()
+                    .registerPattern(FULLTEXT_MATCH, "match(?1) against(?2 in boolean mode)", relevance);
+        } else {
+            // No FULLTEXT support (H2 in tests): match everything and let the caller's LIKE recheck filter
+            functionContributions.getFunctionRegistry()
+                    .registerPattern(FULLTEXT_MATCH, "(case when ?1 is null or ?2 is null then 0e0 else 1e0 end)", relevance);
+        }
+    }
+
+}
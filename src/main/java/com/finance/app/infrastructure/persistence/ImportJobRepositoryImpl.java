@@ -0,0 +1,41 @@
+package com.finance.app.infrastructure.persistence;
+
+import com.finance.app.domain.entity.ImportJob;
+import com.finance.app.domain.entity.ImportJobStatus;
+import com.finance.app.domain.repository.ImportJobRepository;
+import com.finance.app.infrastructure.persistence.entity.ImportJobEntity;
+import com.finance.app.infrastructure.persistence.mapper.ImportJobMapper;
+import com.finance.app.infrastructure.persistence.repository.ImportJobJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ImportJobRepositoryImpl implements ImportJobRepository {
+
+    private final ImportJobJpaRepository jpaRepository;
+    private final ImportJobMapper mapper;
+
+    @Override
+    public ImportJob save(ImportJob importJob) {
+        ImportJobEntity entity = mapper.toEntity(importJob);
+        ImportJobEntity savedEntity = jpaRepository.save(entity);
+        return mapper.toDomain(savedEntity);
+    }
+
+    @Override
+    public Optional<ImportJob> findByIdAndUserId(UUID id, UUID userId) {
+        return jpaRepository.findByIdAndUserId(id, userId).map(mapper::toDomain);
+    }
+
+    @Override
+    public int failUnfinished(LocalDateTime updatedBefore, String errorMessage) {
+        return jpaRepository.failUnfinished(EnumSet.of(ImportJobStatus.PENDING, ImportJobStatus.RUNNING),
+                ImportJobStatus.FAILED, errorMessage, updatedBefore, LocalDateTime.now());
+    }
+}
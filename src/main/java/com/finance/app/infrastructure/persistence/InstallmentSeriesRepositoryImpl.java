@@ -0,0 +1,63 @@
+package com.finance.app.infrastructure.persistence;
+
+import com.finance.app.domain.entity.InstallmentSeries;
+import com.finance.app.domain.entity.InstallmentSeriesDelta;
+import com.finance.app.domain.repository.InstallmentSeriesRepository;
+import com.finance.app.infrastructure.persistence.mapper.InstallmentSeriesMapper;
+import com.finance.app.infrastructure.persistence.repository.InstallmentSeriesJpaRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class InstallmentSeriesRepositoryImpl implements InstallmentSeriesRepository {
+
+    private final InstallmentSeriesJpaRepository jpaRepository;
+    private final InstallmentSeriesMapper mapper;
+    private final EntityManager entityManager;
+
+    // persist, not save: the id is the root transaction's, so save would SELECT before inserting
+    @Override
+    public void create(UUID userId, InstallmentSeries series) {
+        entityManager.persist(mapper.toEntity(userId, series, LocalDateTime.now()));
+    }
+
+    @Override
+    public Optional<InstallmentSeries> findByParentId(UUID parentId) {
+        return jpaRepository.findById(parentId).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<InstallmentSeries> findActiveByUserId(UUID userId) {
+        return jpaRepository.findActiveByUserId(userId).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void apply(Collection<InstallmentSeriesDelta> deltas) {
+        // One update per series, in key order so concurrent writers lock rows in the same sequence
+        Map<UUID, InstallmentSeriesDelta> merged = new TreeMap<>();
+        deltas.forEach(delta -> merged.merge(delta.parentId(), delta, InstallmentSeriesDelta::plus));
+
+        merged.values().stream()
+                .filter(delta -> !delta.isEmpty())
+                .forEach(delta -> jpaRepository.applyDelta(delta.parentId(), delta.completedInstallments(),
+                        delta.pendingInstallments(), delta.completedAmount(), delta.pendingAmount()));
+    }
+
+    @Override
+    public void updateDescription(UUID parentId, String description) {
+        jpaRepository.updateDescription(parentId, description);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.finance.app.infrastructure.persistence;
+
+import com.finance.app.domain.entity.RefreshToken;
+import com.finance.app.domain.repository.RefreshTokenRepository;
+import com.finance.app.infrastructure.persistence.entity.RefreshTokenEntity;
+import com.finance.app.infrastructure.persistence.mapper.RefreshTokenMapper;
+import com.finance.app.infrastructure.persistence.repository.RefreshTokenJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
+
+    private final RefreshTokenJpaRepository jpaRepository;
+    private final RefreshTokenMapper mapper;
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        RefreshTokenEntity entity = mapper.toEntity(refreshToken);
+        RefreshTokenEntity savedEntity = jpaRepository.save(entity);
+        return mapper.toDomain(savedEntity);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return jpaRepository.findByTokenHash(tokenHash).map(mapper::toDomain);
+    }
+
+    @Override
+    public boolean revoke(UUID id, LocalDateTime revokedAt) {
+        return jpaRepository.revoke(id, revokedAt) == 1;
+    }
+
+    @Override
+    public int revokeDevice(UUID userId, UUID deviceId, LocalDateTime revokedAt) {
+        return jpaRepository.revokeDevice(userId, deviceId, revokedAt);
+    }
+}
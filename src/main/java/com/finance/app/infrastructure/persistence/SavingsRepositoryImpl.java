@@ -8,6 +8,7 @@ import com.finance.app.infrastructure.persistence.repository.SavingsJpaRepositor
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,6 +28,12 @@ public class SavingsRepositoryImpl implements SavingsRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    // Atomic in the database; refuses (returns false) a change that would leave the vault negative
+    @Override
+    public boolean adjustBalance(UUID id, BigDecimal delta) {
+        return jpaRepository.addToBalance(id, delta) == 1;
+    }
+
     @Override
     public Optional<Savings> findById(UUID id) {
         return jpaRepository.findById(id).map(mapper::toDomain);
@@ -8,6 +8,7 @@ import com.finance.app.infrastructure.persistence.repository.SubcategoryJpaRepos
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -59,4 +60,14 @@ public class SubcategoryRepositoryImpl implements SubcategoryRepository {
     public void delete(UUID id) {
         jpaRepository.deleteById(id);
     }
+
+    @Override
+    public int provisionFromTemplate(int templateVersion, UUID userId) {
+        return jpaRepository.insertFromTemplate(templateVersion, userId, LocalDateTime.now());
+    }
+
+    @Override
+    public int provisionFromTemplateForAllUsers(int templateVersion) {
+        return jpaRepository.insertFromTemplate(templateVersion, null, LocalDateTime.now());
+    }
 }
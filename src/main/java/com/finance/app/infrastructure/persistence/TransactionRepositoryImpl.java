@@ -1,11 +1,11 @@
 package com.finance.app.infrastructure.persistence;
 
 import com.finance.app.domain.entity.CategoryExpenseSummary;
+import com.finance.app.domain.entity.CommitmentSummary;
 import com.finance.app.domain.entity.CompetenceAmountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionCountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionAmountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
 import com.finance.app.domain.entity.Transaction;
+import com.finance.app.domain.entity.TransactionCursor;
+import com.finance.app.domain.entity.TransactionPage;
 import com.finance.app.domain.entity.TransactionType;
 import com.finance.app.domain.repository.TransactionRepository;
 import com.finance.app.infrastructure.persistence.entity.AccountEntity;
@@ -19,19 +19,41 @@ import com.finance.app.infrastructure.persistence.repository.TransactionJpaRepos
 import com.finance.app.infrastructure.persistence.repository.specification.TransactionSpecification;
 import com.finance.app.domain.entity.TransactionFilter;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class TransactionRepositoryImpl implements TransactionRepository {
 
+    // Must match hibernate.jdbc.batch_size so each flush ships exactly one JDBC batch
+    static final int BATCH_SIZE = 50;
+
+    static final int STREAM_FETCH_SIZE = 500;
+
     private final TransactionJpaRepository jpaRepository;
     private final TransactionMapper mapper;
     private final EntityManager entityManager;
@@ -42,10 +64,43 @@ public class TransactionRepositoryImpl implements TransactionRepository {
     }
 
     @Override
-    public List<Transaction> findByFilter(TransactionFilter filter) {
-        return jpaRepository.findAll(TransactionSpecification.from(filter)).stream()
+    public TransactionPage findByFilter(TransactionFilter filter) {
+        // One extra row tells whether another page exists without a count query
+        List<Transaction> rows = jpaRepository.findBy(TransactionSpecification.from(filter), query -> query
+                        .sortBy(TransactionSpecification.LISTING_ORDER)
+                        .limit(filter.limit() + 1)
+                        .all()).stream()
                 .map(mapper::toDomain)
                 .toList();
+
+        if (rows.size() <= filter.limit()) {
+            return new TransactionPage(rows, null);
+        }
+        List<Transaction> page = rows.subList(0, filter.limit());
+        return new TransactionPage(page, TransactionCursor.of(page.get(page.size() - 1)));
+    }
+
+    @Override
+    public Stream<Transaction> streamByFilter(TransactionFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionEntity> query = cb.createQuery(TransactionEntity.class);
+        Root<TransactionEntity> root = query.from(TransactionEntity.class);
+        query.where(TransactionSpecification.from(filter).toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(TransactionSpecification.LISTING_ORDER, root, cb));
+
+        // Forward-only cursor; the persistence context is cleared every fetch so heap stays flat
+        AtomicLong rows = new AtomicLong();
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(entity -> {
+                    Transaction transaction = mapper.toDomain(entity);
+                    if (rows.incrementAndGet() % STREAM_FETCH_SIZE == 0) {
+                        entityManager.clear();
+                    }
+                    return transaction;
+                });
     }
 
     @Override
@@ -92,11 +147,6 @@ public class TransactionRepositoryImpl implements TransactionRepository {
         jpaRepository.deleteById(id);
     }
 
-    @Override
-    public BigDecimal sumAmountByCompetenceIdAndType(UUID competenceId, TransactionType type) {
-        return jpaRepository.sumAmountByCompetenceIdAndType(competenceId, type);
-    }
-
     @Override
     public List<CategoryExpenseSummary> sumExpensesByCategory(UUID competenceId) {
         return jpaRepository.sumExpensesByCategory(competenceId);
@@ -107,6 +157,12 @@ public class TransactionRepositoryImpl implements TransactionRepository {
         return jpaRepository.sumAmountByCompetenceIds(competenceIds);
     }
 
+    @Override
+    public List<CommitmentSummary> sumPendingCommitments(UUID userId, YearMonth from, YearMonth to) {
+        return jpaRepository.sumPendingCommitments(userId, from.getYear(), from.getMonthValue(),
+                to.getYear(), to.getMonthValue());
+    }
+
     @Override
     public List<Transaction> findByParentId(UUID parentId) {
         return jpaRepository.findByParentId(parentId).stream()
@@ -125,35 +181,95 @@ public class TransactionRepositoryImpl implements TransactionRepository {
     }
 
     @Override
-    public List<Transaction> saveAll(List<Transaction> transactions) {
-        return transactions.stream()
-                .map(this::save)
-                .toList();
+    public Set<String> findExistingExternalIds(Collection<String> externalIds) {
+        if (externalIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findExternalIdsIn(externalIds));
     }
 
     @Override
-    public long countByCompetenceId(UUID competenceId) {
-        return jpaRepository.countByCompetenceId(competenceId);
+    @Transactional
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        List<Transaction> saved = new ArrayList<>(transactions.size());
+        List<TransactionEntity> chunk = new ArrayList<>(BATCH_SIZE);
+        Map<UUID, Object> references = new HashMap<>();
+
+        for (Transaction transaction : transactions) {
+            TransactionEntity entity = mapper.toEntity(transaction,
+                    reference(references, AccountEntity.class, transaction.getAccountId()),
+                    reference(references, CategoryEntity.class, transaction.getCategoryId()),
+                    reference(references, SubcategoryEntity.class, transaction.getSubcategoryId()),
+                    reference(references, CompetenceEntity.class, transaction.getCompetenceId()),
+                    reference(references, UserEntity.class, transaction.getUserId()),
+                    reference(references, TransactionEntity.class, transaction.getParentId()));
+
+            // New rows get their UUID from the in-memory generator on persist, so no SELECT is issued
+            if (Objects.isNull(entity.getId())) {
+                entityManager.persist(entity);
+            } else {
+                entity = entityManager.merge(entity);
+            }
+            chunk.add(entity);
+
+            if (chunk.size() == BATCH_SIZE) {
+                flushChunk(chunk, saved);
+            }
+        }
+        flushChunk(chunk, saved);
+
+        return saved;
     }
 
-    @Override
-    public List<CompetenceTransactionCountSummary> countTransactionsGroupedByCompetence(UUID userId) {
-        return jpaRepository.countTransactionsGroupedByCompetence(userId);
+    private void flushChunk(List<TransactionEntity> chunk, List<Transaction> saved) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        for (TransactionEntity entity : chunk) {
+            saved.add(mapper.toDomain(entity));
+            entityManager.detach(entity);
+        }
+        chunk.clear();
     }
 
-    @Override
-    public List<CompetenceTransactionAmountSummary> sumAmountsGroupedByCompetence(UUID userId) {
-        return jpaRepository.sumAmountsGroupedByCompetence(userId);
+    private <T> T reference(Map<UUID, Object> references, Class<T> type, UUID id) {
+        if (Objects.isNull(id)) {
+            return null;
+        }
+        return type.cast(references.computeIfAbsent(id, key -> entityManager.getReference(type, key)));
     }
 
+    // One CASE-based UPDATE instead of a merge and an UPDATE per row
     @Override
-    public List<CompetenceTransactionAmountSummary> sumAmountsByCompetenceId(UUID competenceId) {
-        return jpaRepository.sumAmountsByCompetenceId(competenceId);
+    @Transactional
+    public void updateAmounts(Map<UUID, BigDecimal> amountsById) {
+        if (amountsById.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<UUID, BigDecimal>> entries = List.copyOf(amountsById.entrySet());
+        StringBuilder hql = new StringBuilder("UPDATE TransactionEntity t SET t.amount = CASE t.id");
+        for (int i = 0; i < entries.size(); i++) {
+            hql.append(" WHEN :id").append(i).append(" THEN :amount").append(i);
+        }
+        hql.append(" ELSE t.amount END, t.updatedAt = :now WHERE t.id IN :ids");
+
+        Query update = entityManager.createQuery(hql.toString())
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("ids", amountsById.keySet());
+        for (int i = 0; i < entries.size(); i++) {
+            update.setParameter("id" + i, entries.get(i).getKey())
+                    .setParameter("amount" + i, entries.get(i).getValue());
+        }
+
+        entityManager.flush();
+        update.executeUpdate();
+        entityManager.clear();
     }
 
     @Override
-    public List<CompetenceTransactionSubtypeSummary> sumSubtypeAmountsByCompetenceId(UUID competenceId) {
-        return jpaRepository.sumSubtypeAmountsByCompetenceId(competenceId);
+    public void updateTypeByParentId(UUID parentId, TransactionType type) {
+        jpaRepository.updateTypeByParentId(parentId, type, LocalDateTime.now());
     }
 
 }
@@ -0,0 +1,29 @@
+package com.finance.app.infrastructure.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.UUID;
+
+// Registers new_uuid() so INSERT ... SELECT statements can generate ids inside the database
+public class UuidFunctionContributor implements FunctionContributor {
+
+    public static final String NEW_UUID = "new_uuid";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<UUID> uuid = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.UUID);
+
+        if (functionContributions.getDialect() instanceof MySQLDialect) {
+            // Same byte order Hibernate uses for UUIDs in BINARY(16) columns
+            functionContributions.getFunctionRegistry().registerPattern(NEW_UUID, "uuid_to_bin(uuid())", uuid);
+        } else {
+            functionContributions.getFunctionRegistry().registerPattern(NEW_UUID, "random_uuid()", uuid);
+        }
+    }
+
+}
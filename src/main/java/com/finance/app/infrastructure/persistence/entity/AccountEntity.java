@@ -45,7 +45,8 @@ public class AccountEntity {
     @Column(name = "name", length = 50, nullable = false)
     private String name;
 
-    @Column(name = "balance", precision = 12, scale = 2, nullable = false)
+    // Only written on insert; afterwards changed through AccountRepository.adjustBalance
+    @Column(name = "balance", precision = 12, scale = 2, nullable = false, updatable = false)
     private BigDecimal balance;
 
     @Column(name = "currency", length = 10, nullable = false)
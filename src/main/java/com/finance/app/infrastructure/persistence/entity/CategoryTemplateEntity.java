@@ -0,0 +1,36 @@
+package com.finance.app.infrastructure.persistence.entity;
+
+import com.finance.app.domain.entity.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Read-only: rows are shipped by migrations, one set per template version
+@Entity
+@Table(name = "category_templates")
+@Getter
+@NoArgsConstructor
+public class CategoryTemplateEntity {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "version", nullable = false)
+    private int version;
+
+    @Column(name = "name", length = 50, nullable = false)
+    private String name;
+
+    @Column(name = "color_hex", length = 7)
+    private String colorHex;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "`type`", nullable = false, length = 20)
+    private TransactionType type;
+
+}
@@ -0,0 +1,76 @@
+package com.finance.app.infrastructure.persistence.entity;
+
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Rows are only written through the upsert/rebuild queries in CompetenceSummaryJpaRepository
+@Entity
+@Immutable
+@Table(name = "competence_summary")
+@IdClass(CompetenceSummaryEntity.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetenceSummaryEntity {
+
+    @Id
+    @Column(name = "competence_id", nullable = false)
+    private UUID competenceId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionType type;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionStatus status;
+
+    // Empty string when the transactions have no subtype
+    @Id
+    @Column(nullable = false, length = 20)
+    private String subtype;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private UUID competenceId;
+        private TransactionType type;
+        private TransactionStatus status;
+        private String subtype;
+    }
+}
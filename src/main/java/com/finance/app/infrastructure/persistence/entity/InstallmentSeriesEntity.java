@@ -0,0 +1,58 @@
+package com.finance.app.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Inserted once per series; progress columns only change through the delta update in InstallmentSeriesJpaRepository
+@Entity
+@Table(name = "installment_series")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstallmentSeriesEntity {
+
+    @Id
+    @Column(name = "parent_id", nullable = false, updatable = false)
+    private UUID parentId;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(name = "total_installments", nullable = false)
+    private int totalInstallments;
+
+    @Column(name = "completed_installments", nullable = false)
+    private int completedInstallments;
+
+    @Column(name = "pending_installments", nullable = false)
+    private int pendingInstallments;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "completed_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal completedAmount;
+
+    @Column(name = "pending_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal pendingAmount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+}
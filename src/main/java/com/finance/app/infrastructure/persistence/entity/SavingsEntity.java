@@ -37,7 +37,8 @@ public class SavingsEntity {
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, precision = 19, scale = 2)
+    // Only written on insert; afterwards changed through SavingsRepository.adjustBalance
+    @Column(nullable = false, precision = 19, scale = 2, updatable = false)
     private BigDecimal balance;
 
     @Column(name = "color_hex")
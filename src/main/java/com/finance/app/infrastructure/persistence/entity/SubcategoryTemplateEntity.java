@@ -0,0 +1,29 @@
+package com.finance.app.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "subcategory_templates")
+@Getter
+@NoArgsConstructor
+public class SubcategoryTemplateEntity {
+
+    @Id
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_template_id", nullable = false)
+    private CategoryTemplateEntity categoryTemplate;
+
+    @Column(name = "name", length = 50, nullable = false)
+    private String name;
+
+}
@@ -3,6 +3,7 @@ package com.finance.app.infrastructure.persistence.entity;
 import com.finance.app.domain.entity.TransactionStatus;
 import com.finance.app.domain.entity.TransactionSubtype;
 import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.service.SearchTextNormalizer;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -14,6 +15,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -70,6 +73,10 @@ public class TransactionEntity {
     @Column(name = "description", length = 255, nullable = false)
     private String description;
 
+    // Normalized copy of description behind the FULLTEXT index; always derived, never set directly
+    @Column(name = "description_search", length = 255, nullable = false)
+    private String descriptionSearch;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "`type`", nullable = false)
     private TransactionType type;
@@ -105,4 +112,10 @@ public class TransactionEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @PrePersist
+    @PreUpdate
+    void normalizeDescriptionSearch() {
+        descriptionSearch = SearchTextNormalizer.normalize(description);
+    }
+
 }
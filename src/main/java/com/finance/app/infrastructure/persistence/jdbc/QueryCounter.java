@@ -0,0 +1,81 @@
+package com.finance.app.infrastructure.persistence.jdbc;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counts the JDBC statements executed on the current thread while open. Counters nest: a statement is
+// added to every counter that is open, so a test can wrap a request that the filter also counts.
+// Work the request hands to other threads is counted too when wrapped with propagating().
+public final class QueryCounter implements AutoCloseable {
+
+    private static final ThreadLocal<Deque<QueryCounter>> OPEN = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private QueryCounter() {
+    }
+
+    public static QueryCounter start() {
+        Deque<QueryCounter> open = OPEN.get();
+        if (open == null) {
+            open = new ArrayDeque<>();
+            OPEN.set(open);
+        }
+        QueryCounter counter = new QueryCounter();
+        open.push(counter);
+        return counter;
+    }
+
+    static void record(long elapsedNanos) {
+        Deque<QueryCounter> open = OPEN.get();
+        if (open == null) {
+            return;
+        }
+        for (QueryCounter counter : open) {
+            counter.statements.increment();
+            counter.nanos.add(elapsedNanos);
+        }
+    }
+
+    public static Runnable propagating(Runnable task) {
+        Deque<QueryCounter> open = OPEN.get();
+        if (open == null) {
+            return task;
+        }
+        List<QueryCounter> counters = List.copyOf(open);
+        return () -> {
+            Deque<QueryCounter> previous = OPEN.get();
+            OPEN.set(new ArrayDeque<>(counters));
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    OPEN.remove();
+                } else {
+                    OPEN.set(previous);
+                }
+            }
+        };
+    }
+
+    public int statements() {
+        return statements.intValue();
+    }
+
+    public Duration jdbcTime() {
+        return Duration.ofNanos(nanos.sum());
+    }
+
+    @Override
+    public void close() {
+        Deque<QueryCounter> open = OPEN.get();
+        if (open != null && open.remove(this) && open.isEmpty()) {
+            OPEN.remove();
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.finance.app.infrastructure.persistence.mapper;
+
+import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
+import com.finance.app.domain.entity.TransactionSubtype;
+import com.finance.app.infrastructure.persistence.entity.CompetenceSummaryEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CompetenceSummaryMapper {
+
+    private static final String NO_SUBTYPE = "";
+
+    public CompetenceTransactionSubtypeSummary toDomain(CompetenceSummaryEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return new CompetenceTransactionSubtypeSummary(
+                entity.getCompetenceId(),
+                entity.getType(),
+                entity.getStatus(),
+                toSubtype(entity.getSubtype()),
+                entity.getTransactionCount(),
+                entity.getTotalAmount());
+    }
+
+    public String toColumn(TransactionSubtype subtype) {
+        return subtype != null ? subtype.name() : NO_SUBTYPE;
+    }
+
+    private TransactionSubtype toSubtype(String column) {
+        return column == null || column.isEmpty() ? null : TransactionSubtype.valueOf(column);
+    }
+}
@@ -0,0 +1,51 @@
+package com.finance.app.infrastructure.persistence.mapper;
+
+import com.finance.app.domain.entity.ImportJob;
+import com.finance.app.infrastructure.persistence.entity.ImportJobEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportJobMapper {
+
+    public ImportJob toDomain(ImportJobEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return ImportJob.builder()
+                .id(entity.getId())
+                .userId(entity.getUserId())
+                .accountId(entity.getAccountId())
+                .fileName(entity.getFileName())
+                .status(entity.getStatus())
+                .parsedCount(entity.getParsedCount())
+                .importedCount(entity.getImportedCount())
+                .ignoredCount(entity.getIgnoredCount())
+                .errorMessage(entity.getErrorMessage())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .finishedAt(entity.getFinishedAt())
+                .build();
+    }
+
+    public ImportJobEntity toEntity(ImportJob domain) {
+        if (domain == null) {
+            return null;
+        }
+
+        return ImportJobEntity.builder()
+                .id(domain.getId())
+                .userId(domain.getUserId())
+                .accountId(domain.getAccountId())
+                .fileName(domain.getFileName())
+                .status(domain.getStatus())
+                .parsedCount(domain.getParsedCount())
+                .importedCount(domain.getImportedCount())
+                .ignoredCount(domain.getIgnoredCount())
+                .errorMessage(domain.getErrorMessage())
+                .createdAt(domain.getCreatedAt())
+                .updatedAt(domain.getUpdatedAt())
+                .finishedAt(domain.getFinishedAt())
+                .build();
+    }
+}
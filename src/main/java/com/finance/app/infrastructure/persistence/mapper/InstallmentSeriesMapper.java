@@ -0,0 +1,40 @@
+package com.finance.app.infrastructure.persistence.mapper;
+
+import com.finance.app.domain.entity.InstallmentSeries;
+import com.finance.app.infrastructure.persistence.entity.InstallmentSeriesEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Component
+public class InstallmentSeriesMapper {
+
+    public InstallmentSeries toDomain(InstallmentSeriesEntity entity) {
+        return new InstallmentSeries(
+                entity.getParentId(),
+                entity.getDescription(),
+                entity.getTotalAmount(),
+                entity.getTotalInstallments(),
+                entity.getCompletedInstallments(),
+                entity.getPendingInstallments(),
+                entity.getCompletedAmount(),
+                entity.getPendingAmount());
+    }
+
+    public InstallmentSeriesEntity toEntity(UUID userId, InstallmentSeries series, LocalDateTime createdAt) {
+        return InstallmentSeriesEntity.builder()
+                .parentId(series.parentId())
+                .userId(userId)
+                .description(series.description())
+                .totalInstallments(series.totalInstallments())
+                .completedInstallments(series.completedInstallments())
+                .pendingInstallments(series.pendingInstallments())
+                .totalAmount(series.totalAmount())
+                .completedAmount(series.completedAmount())
+                .pendingAmount(series.pendingAmount())
+                .createdAt(createdAt)
+                .build();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.finance.app.infrastructure.persistence.mapper;
+
+import com.finance.app.domain.entity.RefreshToken;
+import com.finance.app.infrastructure.persistence.entity.RefreshTokenEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RefreshTokenMapper {
+
+    public RefreshToken toDomain(RefreshTokenEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return RefreshToken.builder()
+                .id(entity.getId())
+                .userId(entity.getUserId())
+                .deviceId(entity.getDeviceId())
+                .tokenHash(entity.getTokenHash())
+                .expiresAt(entity.getExpiresAt())
+                .revokedAt(entity.getRevokedAt())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+
+    public RefreshTokenEntity toEntity(RefreshToken domain) {
+        if (domain == null) {
+            return null;
+        }
+
+        return RefreshTokenEntity.builder()
+                .id(domain.getId())
+                .userId(domain.getUserId())
+                .deviceId(domain.getDeviceId())
+                .tokenHash(domain.getTokenHash())
+                .expiresAt(domain.getExpiresAt())
+                .revokedAt(domain.getRevokedAt())
+                .createdAt(domain.getCreatedAt())
+                .build();
+    }
+}
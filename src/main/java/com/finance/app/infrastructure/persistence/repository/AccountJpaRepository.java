@@ -2,6 +2,7 @@ package com.finance.app.infrastructure.persistence.repository;
 
 import com.finance.app.infrastructure.persistence.entity.AccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,4 +22,8 @@ public interface AccountJpaRepository extends JpaRepository<AccountEntity, UUID>
     @Query("SELECT COALESCE(SUM(a.balance), 0) FROM AccountEntity a WHERE a.user.id = :userId")
     BigDecimal sumBalanceByUserId(@Param("userId") UUID userId);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountEntity a SET a.balance = a.balance + :delta, a.updatedAt = CURRENT_TIMESTAMP WHERE a.id = :id")
+    int addToBalance(@Param("id") UUID id, @Param("delta") BigDecimal delta);
+
 }
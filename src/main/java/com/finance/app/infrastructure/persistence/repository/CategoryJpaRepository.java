@@ -2,8 +2,12 @@ package com.finance.app.infrastructure.persistence.repository;
 
 import com.finance.app.infrastructure.persistence.entity.CategoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +20,13 @@ public interface CategoryJpaRepository extends JpaRepository<CategoryEntity, UUI
 
     java.util.Optional<CategoryEntity> findByUserIdAndNameAndType(UUID userId, String name, TransactionType type);
 
+    // One statement for the whole template; a null userId provisions every user. Existing categories are kept.
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO CategoryEntity (id, user, name, colorHex, type, createdAt, updatedAt) "
+            + "SELECT new_uuid(), u, t.name, t.colorHex, t.type, :now, :now "
+            + "FROM CategoryTemplateEntity t, UserEntity u "
+            + "WHERE t.version = :version AND (:userId IS NULL OR u.id = :userId) "
+            + "AND NOT EXISTS (SELECT 1 FROM CategoryEntity c WHERE c.user = u AND c.name = t.name AND c.type = t.type)")
+    int insertFromTemplate(@Param("version") int version, @Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
 }
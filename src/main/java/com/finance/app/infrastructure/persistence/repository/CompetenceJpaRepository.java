@@ -1,7 +1,11 @@
 package com.finance.app.infrastructure.persistence.repository;
 
 import com.finance.app.infrastructure.persistence.entity.CompetenceEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +21,16 @@ public interface CompetenceJpaRepository extends JpaRepository<CompetenceEntity,
 
     Optional<CompetenceEntity> findByUserIdAndMonthAndYear(UUID userId, Integer month, Integer year);
 
+    // Compares year and month column by column so the (user, year, month) index bounds the scan. Shared-locks
+    // the rows so it reads the latest committed version rather than the transaction's snapshot.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT c FROM CompetenceEntity c WHERE c.user.id = :userId "
+            + "AND (c.year > :fromYear OR (c.year = :fromYear AND c.month >= :fromMonth)) "
+            + "AND (c.year < :toYear OR (c.year = :toYear AND c.month <= :toMonth))")
+    List<CompetenceEntity> findByUserIdAndPeriodBetween(@Param("userId") UUID userId,
+                                                        @Param("fromYear") int fromYear,
+                                                        @Param("fromMonth") int fromMonth,
+                                                        @Param("toYear") int toYear,
+                                                        @Param("toMonth") int toMonth);
+
 }
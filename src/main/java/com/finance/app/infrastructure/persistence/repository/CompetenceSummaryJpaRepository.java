@@ -0,0 +1,50 @@
+package com.finance.app.infrastructure.persistence.repository;
+
+import com.finance.app.infrastructure.persistence.entity.CompetenceSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CompetenceSummaryJpaRepository extends JpaRepository<CompetenceSummaryEntity, CompetenceSummaryEntity.Key> {
+
+    List<CompetenceSummaryEntity> findByUserId(UUID userId);
+
+    List<CompetenceSummaryEntity> findByCompetenceId(UUID competenceId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO competence_summary " +
+            "(competence_id, `type`, `status`, subtype, user_id, transaction_count, total_amount) " +
+            "VALUES (:competenceId, :type, :status, :subtype, :userId, :countDelta, :amountDelta) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "transaction_count = transaction_count + VALUES(transaction_count), " +
+            "total_amount = total_amount + VALUES(total_amount)",
+            nativeQuery = true)
+    void upsert(@Param("competenceId") UUID competenceId,
+                @Param("type") String type,
+                @Param("status") String status,
+                @Param("subtype") String subtype,
+                @Param("userId") UUID userId,
+                @Param("countDelta") long countDelta,
+                @Param("amountDelta") BigDecimal amountDelta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM competence_summary", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO competence_summary " +
+            "(competence_id, `type`, `status`, subtype, user_id, transaction_count, total_amount) " +
+            "SELECT competence_id, `type`, `status`, COALESCE(subtype, ''), user_id, COUNT(*), SUM(amount) " +
+            "FROM transactions " +
+            "GROUP BY competence_id, `type`, `status`, COALESCE(subtype, ''), user_id",
+            nativeQuery = true)
+    int insertFromTransactions();
+
+}
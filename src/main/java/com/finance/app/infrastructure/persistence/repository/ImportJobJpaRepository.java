@@ -0,0 +1,31 @@
+package com.finance.app.infrastructure.persistence.repository;
+
+import com.finance.app.domain.entity.ImportJobStatus;
+import com.finance.app.infrastructure.persistence.entity.ImportJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ImportJobJpaRepository extends JpaRepository<ImportJobEntity, UUID> {
+
+    Optional<ImportJobEntity> findByIdAndUserId(UUID id, UUID userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ImportJobEntity j SET j.status = :failed, j.errorMessage = :errorMessage, "
+            + "j.finishedAt = :now, j.updatedAt = :now "
+            + "WHERE j.status IN :unfinished AND j.updatedAt < :updatedBefore")
+    int failUnfinished(@Param("unfinished") Collection<ImportJobStatus> unfinished,
+                       @Param("failed") ImportJobStatus failed,
+                       @Param("errorMessage") String errorMessage,
+                       @Param("updatedBefore") LocalDateTime updatedBefore,
+                       @Param("now") LocalDateTime now);
+
+}
@@ -0,0 +1,40 @@
+package com.finance.app.infrastructure.persistence.repository;
+
+import com.finance.app.infrastructure.persistence.entity.InstallmentSeriesEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface InstallmentSeriesJpaRepository extends JpaRepository<InstallmentSeriesEntity, UUID> {
+
+    @Query("SELECT s FROM InstallmentSeriesEntity s WHERE s.userId = :userId AND s.pendingInstallments > 0 "
+            + "ORDER BY s.createdAt DESC, s.parentId")
+    List<InstallmentSeriesEntity> findActiveByUserId(@Param("userId") UUID userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InstallmentSeriesEntity s SET "
+            + "s.completedInstallments = s.completedInstallments + :completedCount, "
+            + "s.pendingInstallments = s.pendingInstallments + :pendingCount, "
+            + "s.totalInstallments = s.totalInstallments + :completedCount + :pendingCount, "
+            + "s.completedAmount = s.completedAmount + :completedAmount, "
+            + "s.pendingAmount = s.pendingAmount + :pendingAmount, "
+            + "s.totalAmount = s.totalAmount + :completedAmount + :pendingAmount "
+            + "WHERE s.parentId = :parentId")
+    int applyDelta(@Param("parentId") UUID parentId,
+                   @Param("completedCount") int completedCount,
+                   @Param("pendingCount") int pendingCount,
+                   @Param("completedAmount") BigDecimal completedAmount,
+                   @Param("pendingAmount") BigDecimal pendingAmount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InstallmentSeriesEntity s SET s.description = :description WHERE s.parentId = :parentId")
+    int updateDescription(@Param("parentId") UUID parentId, @Param("description") String description);
+
+}
@@ -0,0 +1,29 @@
+package com.finance.app.infrastructure.persistence.repository;
+
+import com.finance.app.infrastructure.persistence.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, UUID> {
+
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshTokenEntity r SET r.revokedAt = :revokedAt WHERE r.id = :id AND r.revokedAt IS NULL")
+    int revoke(@Param("id") UUID id, @Param("revokedAt") LocalDateTime revokedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshTokenEntity r SET r.revokedAt = :revokedAt "
+            + "WHERE r.userId = :userId AND r.deviceId = :deviceId AND r.revokedAt IS NULL")
+    int revokeDevice(@Param("userId") UUID userId, @Param("deviceId") UUID deviceId,
+                     @Param("revokedAt") LocalDateTime revokedAt);
+
+}
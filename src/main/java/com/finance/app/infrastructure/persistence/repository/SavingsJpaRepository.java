@@ -2,8 +2,12 @@ package com.finance.app.infrastructure.persistence.repository;
 
 import com.finance.app.infrastructure.persistence.entity.SavingsEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,5 +15,10 @@ import java.util.UUID;
 public interface SavingsJpaRepository extends JpaRepository<SavingsEntity, UUID> {
     
     List<SavingsEntity> findByUserId(UUID userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SavingsEntity s SET s.balance = s.balance + :delta, s.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE s.id = :id AND s.balance + :delta >= 0")
+    int addToBalance(@Param("id") UUID id, @Param("delta") BigDecimal delta);
     
 }
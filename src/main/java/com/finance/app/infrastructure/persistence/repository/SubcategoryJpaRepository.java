@@ -2,8 +2,12 @@ package com.finance.app.infrastructure.persistence.repository;
 
 import com.finance.app.infrastructure.persistence.entity.SubcategoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,4 +15,14 @@ import java.util.UUID;
 public interface SubcategoryJpaRepository extends JpaRepository<SubcategoryEntity, UUID> {
     List<SubcategoryEntity> findByCategoryId(UUID categoryId);
     List<SubcategoryEntity> findByCategoryIdIn(List<UUID> categoryIds);
+
+    // Attaches the template's subcategories to the matching (name, type) categories, skipping the ones already there
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO SubcategoryEntity (id, category, name, createdAt, updatedAt) "
+            + "SELECT new_uuid(), c, st.name, :now, :now "
+            + "FROM SubcategoryTemplateEntity st JOIN st.categoryTemplate t, CategoryEntity c "
+            + "WHERE t.version = :version AND c.name = t.name AND c.type = t.type "
+            + "AND (:userId IS NULL OR c.user.id = :userId) "
+            + "AND NOT EXISTS (SELECT 1 FROM SubcategoryEntity s WHERE s.category = c AND s.name = st.name)")
+    int insertFromTemplate(@Param("version") int version, @Param("userId") UUID userId, @Param("now") LocalDateTime now);
 }
@@ -1,19 +1,19 @@
 package com.finance.app.infrastructure.persistence.repository;
 
 import com.finance.app.domain.entity.CategoryExpenseSummary;
+import com.finance.app.domain.entity.CommitmentSummary;
 import com.finance.app.domain.entity.CompetenceAmountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionCountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionAmountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
 import com.finance.app.domain.entity.TransactionType;
 import com.finance.app.infrastructure.persistence.entity.TransactionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,11 +26,6 @@ public interface TransactionJpaRepository extends JpaRepository<TransactionEntit
 
     List<TransactionEntity> findByCompetenceId(UUID competenceId);
 
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM TransactionEntity t " +
-            "WHERE t.competence.id = :competenceId AND t.type = :type AND t.status = 'COMPLETED'")
-    BigDecimal sumAmountByCompetenceIdAndType(@Param("competenceId") UUID competenceId,
-            @Param("type") TransactionType type);
-
     @Query("SELECT new com.finance.app.domain.entity.CategoryExpenseSummary(t.category.name, t.category.colorHex, COALESCE(SUM(t.amount), 0)) " +
             "FROM TransactionEntity t " +
             "WHERE t.competence.id = :competenceId AND t.type = 'EXPENSE' AND t.status = 'COMPLETED' " +
@@ -44,38 +39,38 @@ public interface TransactionJpaRepository extends JpaRepository<TransactionEntit
             "GROUP BY t.competence.id, t.type")
     List<CompetenceAmountSummary> sumAmountByCompetenceIds(@Param("competenceIds") List<UUID> competenceIds);
 
+    // Driven from the user's competences in the window, so only those months' transactions are read
+    @Query("SELECT new com.finance.app.domain.entity.CommitmentSummary(c.year, c.month, t.category.id, t.category.name, " +
+            "t.category.colorHex, t.type, SUM(t.amount)) " +
+            "FROM TransactionEntity t JOIN t.competence c " +
+            "WHERE c.user.id = :userId " +
+            "AND (c.year > :fromYear OR (c.year = :fromYear AND c.month >= :fromMonth)) " +
+            "AND (c.year < :toYear OR (c.year = :toYear AND c.month <= :toMonth)) " +
+            "AND t.status = 'PENDING' AND (t.installmentCount IS NOT NULL OR t.subtype = 'FIXED') " +
+            "GROUP BY c.year, c.month, t.category.id, t.category.name, t.category.colorHex, t.type " +
+            "ORDER BY c.year, c.month, SUM(t.amount) DESC")
+    List<CommitmentSummary> sumPendingCommitments(@Param("userId") UUID userId,
+                                                  @Param("fromYear") int fromYear,
+                                                  @Param("fromMonth") int fromMonth,
+                                                  @Param("toYear") int toYear,
+                                                  @Param("toMonth") int toMonth);
+
     @Query("SELECT t FROM TransactionEntity t WHERE t.parent.id = :parentId OR t.id = :parentId")
     List<TransactionEntity> findByParentId(@Param("parentId") UUID parentId);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TransactionEntity t SET t.type = :type, t.updatedAt = :now "
+            + "WHERE t.parent.id = :parentId OR t.id = :parentId")
+    int updateTypeByParentId(@Param("parentId") UUID parentId,
+                             @Param("type") TransactionType type,
+                             @Param("now") LocalDateTime now);
+
     @Query("SELECT COUNT(t) > 0 FROM TransactionEntity t WHERE t.account.id = :accountId AND t.status = 'PENDING'")
     boolean existsPendingByAccountId(@Param("accountId") UUID accountId);
 
     boolean existsByExternalId(String externalId);
 
-    long countByCompetenceId(UUID competenceId);
-
-    @Query("SELECT new com.finance.app.domain.entity.CompetenceTransactionCountSummary(t.competence.id, COUNT(t)) " +
-            "FROM TransactionEntity t " +
-            "WHERE t.user.id = :userId " +
-            "GROUP BY t.competence.id")
-    List<CompetenceTransactionCountSummary> countTransactionsGroupedByCompetence(@Param("userId") UUID userId);
-
-    @Query("SELECT new com.finance.app.domain.entity.CompetenceTransactionAmountSummary(t.competence.id, t.type, t.status, COALESCE(SUM(t.amount), 0)) " +
-            "FROM TransactionEntity t " +
-            "WHERE t.user.id = :userId " +
-            "GROUP BY t.competence.id, t.type, t.status")
-    List<CompetenceTransactionAmountSummary> sumAmountsGroupedByCompetence(@Param("userId") UUID userId);
-
-    @Query("SELECT new com.finance.app.domain.entity.CompetenceTransactionAmountSummary(t.competence.id, t.type, t.status, COALESCE(SUM(t.amount), 0)) " +
-            "FROM TransactionEntity t " +
-            "WHERE t.competence.id = :competenceId " +
-            "GROUP BY t.competence.id, t.type, t.status")
-    List<CompetenceTransactionAmountSummary> sumAmountsByCompetenceId(@Param("competenceId") UUID competenceId);
-
-    @Query("SELECT new com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary(t.competence.id, t.type, t.status, t.subtype, COUNT(t), COALESCE(SUM(t.amount), 0)) " +
-            "FROM TransactionEntity t " +
-            "WHERE t.competence.id = :competenceId " +
-            "GROUP BY t.competence.id, t.type, t.status, t.subtype")
-    List<CompetenceTransactionSubtypeSummary> sumSubtypeAmountsByCompetenceId(@Param("competenceId") UUID competenceId);
+    @Query("SELECT t.externalId FROM TransactionEntity t WHERE t.externalId IN :externalIds")
+    List<String> findExternalIdsIn(@Param("externalIds") Collection<String> externalIds);
 
 }
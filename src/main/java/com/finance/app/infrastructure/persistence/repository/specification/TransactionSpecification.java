@@ -1,15 +1,29 @@
 package com.finance.app.infrastructure.persistence.repository.specification;
 
 import com.finance.app.domain.entity.TransactionFilter;
+import com.finance.app.domain.service.SearchTextNormalizer;
+import com.finance.app.infrastructure.persistence.FullTextFunctionContributor;
 import com.finance.app.infrastructure.persistence.entity.TransactionEntity;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 public class TransactionSpecification {
 
+    // Matches ngram_token_size on the MySQL server (default 2); shorter terms cannot use the index
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    // Not a backslash, which MySQL would also treat as a string escape
+    private static final char LIKE_ESCAPE = '!';
+
+    // Newest first; id breaks ties so the order is total and matches idx_transactions_user_date_time_id
+    public static final Sort LISTING_ORDER = Sort.by(Sort.Order.desc("dateTime"), Sort.Order.desc("id"));
+
     public static Specification<TransactionEntity> from(TransactionFilter filter) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -35,8 +49,14 @@ public class TransactionSpecification {
             if (filter.subtype() != null) {
                 predicates.add(cb.equal(root.get("subtype"), filter.subtype()));
             }
-            if (filter.description() != null && !filter.description().isBlank()) {
-                predicates.add(cb.like(cb.lower(root.get("description")), "%" + filter.description().toLowerCase() + "%"));
+            String term = SearchTextNormalizer.normalize(filter.description()).replace("\"", "");
+            if (!term.isEmpty()) {
+                // The ngram FULLTEXT index narrows the rows; the LIKE on the same column keeps exact substring semantics
+                if (term.length() >= NGRAM_TOKEN_SIZE) {
+                    predicates.add(cb.gt(cb.function(FullTextFunctionContributor.FULLTEXT_MATCH, Double.class,
+                            root.get("descriptionSearch"), cb.literal("\"" + term + "\"")), 0));
+                }
+                predicates.add(cb.like(root.get("descriptionSearch"), "%" + escapeLike(term) + "%", LIKE_ESCAPE));
             }
             if (filter.startDate() != null) {
                 predicates.add(cb.greaterThanOrEqualTo(root.get("dateTime"), filter.startDate().atStartOfDay()));
@@ -44,8 +64,19 @@ public class TransactionSpecification {
             if (filter.endDate() != null) {
                 predicates.add(cb.lessThan(root.get("dateTime"), filter.endDate().plusDays(1).atStartOfDay()));
             }
+            if (filter.after() != null) {
+                LocalDateTime dateTime = filter.after().dateTime();
+                predicates.add(cb.or(
+                        cb.lessThan(root.get("dateTime"), dateTime),
+                        cb.and(cb.equal(root.get("dateTime"), dateTime),
+                                cb.lessThan(root.<UUID>get("id"), filter.after().id()))));
+            }
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    private static String escapeLike(String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
 }
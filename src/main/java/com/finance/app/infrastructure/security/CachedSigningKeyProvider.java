@@ -0,0 +1,107 @@
+package com.finance.app.infrastructure.security;
+
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import com.finance.app.infrastructure.security.SigningKeySource.SigningKeySet;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// In-memory copy of the signing keys. Expired keys keep being served while a background refresh runs,
+// so a slow key endpoint never holds up a sign-in; only the very first load blocks.
+@Slf4j
+public class CachedSigningKeyProvider implements RSAKeyProvider {
+
+    // Also the pause after a failed refresh, and the minimum gap between reloads for an unknown kid
+    private static final Duration RETRY_INTERVAL = Duration.ofMinutes(1);
+
+    private final SigningKeySource source;
+    private final Clock clock;
+    private final Executor refresher;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Object loadLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    public CachedSigningKeyProvider(SigningKeySource source) {
+        this(source, Clock.systemUTC(), task -> Thread.ofVirtual().name("signing-keys-refresh").start(task));
+    }
+
+    CachedSigningKeyProvider(SigningKeySource source, Clock clock, Executor refresher) {
+        this.source = source;
+        this.clock = clock;
+        this.refresher = refresher;
+    }
+
+    @Override
+    public RSAPublicKey getPublicKeyById(String keyId) {
+        Instant now = clock.instant();
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = loadBlocking(null);
+        } else if (!current.expiresAt().isAfter(now)) {
+            refreshInBackground(current);
+        }
+
+        RSAPublicKey key = current.keys().get(keyId);
+        if (key == null && current.loadedAt().plus(RETRY_INTERVAL).isBefore(now)) {
+            // Keys were rotated before our copy expired
+            key = loadBlocking(current).keys().get(keyId);
+        }
+        return key;
+    }
+
+    @Override
+    public RSAPrivateKey getPrivateKey() {
+        return null;
+    }
+
+    @Override
+    public String getPrivateKeyId() {
+        return null;
+    }
+
+    private Snapshot loadBlocking(Snapshot stale) {
+        synchronized (loadLock) {
+            // Another caller may have loaded while we waited for the lock
+            if (snapshot != stale) {
+                return snapshot;
+            }
+            snapshot = load();
+            return snapshot;
+        }
+    }
+
+    private void refreshInBackground(Snapshot stale) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refresher.execute(() -> {
+            try {
+                snapshot = load();
+            } catch (RuntimeException exception) {
+                log.atWarn().setCause(exception).log("Signing key refresh failed, keeping {} cached keys", stale.keys().size());
+                snapshot = new Snapshot(stale.keys(), stale.loadedAt(), clock.instant().plus(RETRY_INTERVAL));
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private Snapshot load() {
+        SigningKeySet keySet = source.load();
+        Instant now = clock.instant();
+        log.atInfo().log("Loaded {} signing keys, valid for {}", keySet.keys().size(), keySet.maxAge());
+        return new Snapshot(keySet.keys(), now, now.plus(keySet.maxAge()));
+    }
+
+    private record Snapshot(Map<String, RSAPublicKey> keys, Instant loadedAt, Instant expiresAt) {
+    }
+
+}
@@ -6,11 +6,11 @@ import com.finance.app.domain.port.TokenVerifier;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
 @Component
-@ConditionalOnProperty(name = "app.security.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnExpression("${app.security.enabled:true} and '${app.firebase.verification:local}' == 'sdk'")
 public class FirebaseTokenVerifier implements TokenVerifier {
 
     @Override
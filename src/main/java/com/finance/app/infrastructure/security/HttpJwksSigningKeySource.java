@@ -0,0 +1,56 @@
+package com.finance.app.infrastructure.security;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class HttpJwksSigningKeySource implements SigningKeySource {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI uri;
+    private final Duration defaultMaxAge;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+
+    public HttpJwksSigningKeySource(URI uri, Duration defaultMaxAge) {
+        this.uri = uri;
+        this.defaultMaxAge = defaultMaxAge;
+    }
+
+    @Override
+    public SigningKeySet load() {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(TIMEOUT).GET().build();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new IOException("JWKS endpoint " + uri + " answered " + response.statusCode());
+                }
+                return new SigningKeySet(Jwks.parse(body), maxAge(response));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching " + uri, exception);
+        }
+    }
+
+    // Google rotates the keys and says how long the current set is good for in Cache-Control
+    private Duration maxAge(HttpResponse<?> response) {
+        return response.headers().firstValue("Cache-Control")
+                .map(MAX_AGE::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Duration.ofSeconds(Long.parseLong(matcher.group(1))))
+                .orElse(defaultMaxAge);
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.finance.app.infrastructure.security;
+
+import java.time.Instant;
+
+public record IssuedToken(
+        String token,
+        Instant expiresAt) {
+}
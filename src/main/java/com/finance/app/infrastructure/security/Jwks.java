@@ -0,0 +1,47 @@
+package com.finance.app.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+final class Jwks {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private Jwks() {
+    }
+
+    // Reads the RSA entries of a JSON Web Key Set, indexed by kid
+    static Map<String, RSAPublicKey> parse(InputStream json) throws IOException {
+        JsonNode keys = OBJECT_MAPPER.readTree(json).path("keys");
+        Map<String, RSAPublicKey> result = new HashMap<>();
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+            for (JsonNode key : keys) {
+                if (!"RSA".equals(key.path("kty").asText()) || !key.hasNonNull("kid")) {
+                    continue;
+                }
+                RSAPublicKeySpec spec = new RSAPublicKeySpec(unsigned(key.path("n").asText()), unsigned(key.path("e").asText()));
+                result.put(key.get("kid").asText(), (RSAPublicKey) keyFactory.generatePublic(spec));
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException exception) {
+            throw new IOException("Invalid JWKS document", exception);
+        }
+        return Map.copyOf(result);
+    }
+
+    private static BigInteger unsigned(String base64Url) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(base64Url));
+    }
+
+}
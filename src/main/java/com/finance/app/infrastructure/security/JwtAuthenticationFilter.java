@@ -2,7 +2,6 @@ package com.finance.app.infrastructure.security;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
-import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +15,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Objects;
-import java.util.UUID;
 import org.slf4j.MDC;
 
 @Component
@@ -24,6 +22,7 @@ import org.slf4j.MDC;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -35,21 +34,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (Objects.nonNull(authHeader) && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             try {
-                DecodedJWT decodedJWT = jwtTokenProvider.validateToken(token);
-                
-                String userIdStr = decodedJWT.getClaim("userId").asString();
-                if (Objects.isNull(userIdStr)) {
-                    throw new JWTVerificationException("Missing userId claim in token");
-                }
-                
-                UUID userId = UUID.fromString(userIdStr);
-                String email = jwtTokenProvider.getEmail(decodedJWT);
+                TokenPrincipal principal = verifiedTokenCache.resolve(token, jwtTokenProvider::authenticate);
 
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userId,
-                        email, Collections.emptyList());
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        principal.userId(), principal.email(), Collections.emptyList());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 
-                MDC.put("userId", userId.toString());
+                MDC.put("userId", principal.userId().toString());
             } catch (TokenExpiredException exception) {
                 SecurityContextHolder.clearContext();
                 request.setAttribute("jwt_error_message",
@@ -9,6 +9,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
 import java.util.UUID;
 
 @Component
@@ -26,15 +28,21 @@ public class JwtTokenProvider {
     }
 
     public String generateToken(String email, UUID userId) {
-        Instant now = Instant.now();
-        Instant expiresAt = now.plusMillis(expirationMs);
+        return issueToken(email, userId).token();
+    }
+
+    public IssuedToken issueToken(String email, UUID userId) {
+        // JWT timestamps have second precision; truncating keeps expiresAt equal to the exp claim
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = now.plusMillis(expirationMs).truncatedTo(ChronoUnit.SECONDS);
 
-        return JWT.create()
+        String token = JWT.create()
                 .withSubject(email)
                 .withClaim("userId", userId.toString())
                 .withIssuedAt(now)
                 .withExpiresAt(expiresAt)
                 .sign(algorithm);
+        return new IssuedToken(token, expiresAt);
     }
 
     public DecodedJWT validateToken(String token) throws JWTVerificationException {
@@ -49,9 +57,15 @@ public class JwtTokenProvider {
         return UUID.fromString(decodedJWT.getClaim("userId").asString());
     }
 
-    public Instant getExpiresAt(String token) {
-        DecodedJWT decodedJWT = verifier.verify(token);
-        return decodedJWT.getExpiresAtAsInstant();
+    public TokenPrincipal authenticate(String token) throws JWTVerificationException {
+        DecodedJWT decodedJWT = validateToken(token);
+
+        String userId = decodedJWT.getClaim("userId").asString();
+        if (Objects.isNull(userId)) {
+            throw new JWTVerificationException("Missing userId claim in token");
+        }
+
+        return new TokenPrincipal(UUID.fromString(userId), getEmail(decodedJWT), decodedJWT.getExpiresAtAsInstant());
     }
 
 }
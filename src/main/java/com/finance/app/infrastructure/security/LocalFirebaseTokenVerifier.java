@@ -0,0 +1,63 @@
+package com.finance.app.infrastructure.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import com.finance.app.domain.entity.SocialProfile;
+import com.finance.app.domain.exception.InvalidFirebaseTokenException;
+import com.finance.app.domain.port.TokenVerifier;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Objects;
+
+// Verifies Firebase ID tokens in-process: RS256 signature against Google's published keys plus the
+// audience/issuer/subject/auth_time rules from the Firebase documentation. Registered by FirebaseVerificationConfig.
+@Slf4j
+public class LocalFirebaseTokenVerifier implements TokenVerifier {
+
+    private static final String ISSUER_PREFIX = "https://securetoken.google.com/";
+    private static final long CLOCK_SKEW_SECONDS = 60;
+
+    private final JWTVerifier verifier;
+
+    public LocalFirebaseTokenVerifier(SigningKeySource firebaseSigningKeySource, String projectId) {
+        if (Objects.isNull(projectId) || projectId.isBlank()) {
+            throw new IllegalArgumentException("A Firebase project id is required to verify ID tokens locally");
+        }
+        this.verifier = JWT.require(Algorithm.RSA256(new CachedSigningKeyProvider(firebaseSigningKeySource)))
+                .withIssuer(ISSUER_PREFIX + projectId)
+                .withAudience(projectId)
+                .withClaim("sub", (claim, jwt) -> !claim.isMissing() && !claim.isNull() && !claim.asString().isBlank())
+                .withClaim("auth_time", (claim, jwt) -> Objects.nonNull(claim.asInstant())
+                        && !claim.asInstant().isAfter(Instant.now().plusSeconds(CLOCK_SKEW_SECONDS)))
+                .acceptLeeway(CLOCK_SKEW_SECONDS)
+                .build();
+    }
+
+    @Override
+    public SocialProfile verify(String idToken) {
+        try {
+            DecodedJWT token = verifier.verify(idToken);
+
+            String name = token.getClaim("name").asString();
+            String email = token.getClaim("email").asString();
+            String picture = token.getClaim("picture").asString();
+
+            return new SocialProfile(name, email, picture);
+        } catch (TokenExpiredException exception) {
+            throw InvalidFirebaseTokenException.expired();
+        } catch (JWTVerificationException exception) {
+            throw InvalidFirebaseTokenException.invalid();
+        } catch (UncheckedIOException exception) {
+            // The key set could not be fetched, so the signature cannot be trusted; ask the client to sign in again
+            log.atWarn().setCause(exception).log("Firebase signing keys unavailable, rejecting ID token");
+            throw InvalidFirebaseTokenException.invalid();
+        }
+    }
+
+}
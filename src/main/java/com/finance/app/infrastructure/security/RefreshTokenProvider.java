@@ -0,0 +1,38 @@
+package com.finance.app.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// Opaque refresh tokens: 256 random bits, stored only as their SHA-256
+@Component
+public class RefreshTokenProvider {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Duration ttl;
+
+    public RefreshTokenProvider(@Value("${app.security.refresh-token-ttl:30d}") Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public String hash(String token) {
+        return TokenDigest.sha256Hex(token);
+    }
+
+    public LocalDateTime expiresAt(LocalDateTime now) {
+        return now.plus(ttl);
+    }
+
+}
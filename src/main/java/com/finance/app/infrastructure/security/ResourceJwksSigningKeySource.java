@@ -0,0 +1,30 @@
+package com.finance.app.infrastructure.security;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+// Local JWKS file (file: or classpath:), for tests and offline environments
+public class ResourceJwksSigningKeySource implements SigningKeySource {
+
+    private final Resource resource;
+    private final Duration maxAge;
+
+    public ResourceJwksSigningKeySource(Resource resource, Duration maxAge) {
+        this.resource = resource;
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public SigningKeySet load() {
+        try (InputStream json = resource.getInputStream()) {
+            return new SigningKeySet(Jwks.parse(json), maxAge);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not read JWKS from " + resource, exception);
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.finance.app.infrastructure.security;
+
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Map;
+
+// Where the public keys for ID-token signatures come from (Google's JWKS endpoint, or a local file)
+@FunctionalInterface
+public interface SigningKeySource {
+
+    SigningKeySet load();
+
+    record SigningKeySet(Map<String, RSAPublicKey> keys, Duration maxAge) {
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.finance.app.infrastructure.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record TokenPrincipal(
+        UUID userId,
+        String email,
+        Instant expiresAt) {
+}
@@ -0,0 +1,85 @@
+package com.finance.app.infrastructure.security;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Bounded LRU of tokens that already passed signature verification, keyed by their SHA-256 digest
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<String, TokenPrincipal> verified;
+
+    // Digest -> token expiry; an entry is useless once the token itself has expired
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${app.security.token-cache.max-entries:10000}") int maxEntries) {
+        this(maxEntries, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.verified = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenPrincipal> eldest) {
+                return size() > VerifiedTokenCache.this.maxEntries;
+            }
+        };
+    }
+
+    public TokenPrincipal resolve(String token, Function<String, TokenPrincipal> verifier) {
+        String digest = TokenDigest.sha256Hex(token);
+        if (revoked.containsKey(digest)) {
+            throw new JWTVerificationException("Token has been revoked");
+        }
+
+        Instant now = clock.instant();
+        synchronized (verified) {
+            TokenPrincipal cached = verified.get(digest);
+            if (cached != null && cached.expiresAt().isAfter(now)) {
+                return cached;
+            }
+            verified.remove(digest);
+        }
+
+        // Expired or unknown tokens go through full verification so the caller gets the precise error
+        TokenPrincipal principal = verifier.apply(token);
+        synchronized (verified) {
+            if (!revoked.containsKey(digest)) {
+                verified.put(digest, principal);
+            }
+        }
+        return principal;
+    }
+
+    public void revoke(String token, Instant expiresAt) {
+        String digest = TokenDigest.sha256Hex(token);
+        Instant now = clock.instant();
+        revoked.values().removeIf(expiry -> !expiry.isAfter(now));
+        if (expiresAt.isAfter(now)) {
+            revoked.put(digest, expiresAt);
+        }
+        synchronized (verified) {
+            verified.remove(digest);
+        }
+    }
+
+    int size() {
+        synchronized (verified) {
+            return verified.size();
+        }
+    }
+
+}
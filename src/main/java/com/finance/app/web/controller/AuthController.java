@@ -3,18 +3,23 @@ package com.finance.app.web.controller;
 import com.finance.app.application.usecase.AuthUseCase;
 import com.finance.app.web.dto.request.GoogleAuthRequest;
 import com.finance.app.web.dto.request.LoginRequest;
+import com.finance.app.web.dto.request.RefreshTokenRequest;
 import com.finance.app.web.dto.request.RegisterRequest;
 import com.finance.app.web.dto.response.AuthResponse;
 import com.finance.app.web.dto.response.UserResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Objects;
+
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
@@ -34,6 +39,22 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authUseCase.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request,
+                                       @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String accessToken = Objects.nonNull(authorization) && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authUseCase.logout(request, accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/google")
     public ResponseEntity<AuthResponse> authenticateGoogle(@Valid @RequestBody GoogleAuthRequest request) {
         AuthResponse response = authUseCase.authenticateGoogle(request);
@@ -1,7 +1,10 @@
 package com.finance.app.web.controller;
 
+import com.finance.app.application.usecase.DashboardOverviewUseCase;
 import com.finance.app.application.usecase.DashboardUseCase;
 import com.finance.app.domain.port.UserContext;
+import com.finance.app.web.dto.response.CommitmentMonthResponse;
+import com.finance.app.web.dto.response.DashboardOverviewResponse;
 import com.finance.app.web.dto.response.DashboardSummaryResponse;
 import com.finance.app.web.dto.response.ExpenseByCategoryResponse;
 import com.finance.app.web.dto.response.MonthlyEvolutionResponse;
@@ -21,18 +24,36 @@ import java.util.UUID;
 public class DashboardController {
 
     private final DashboardUseCase dashboardUseCase;
+    private final DashboardOverviewUseCase dashboardOverviewUseCase;
     private final UserContext userContext;
 
+    @GetMapping("/overview")
+    public ResponseEntity<DashboardOverviewResponse> getOverview() {
+        UUID userId = userContext.getAuthenticatedUserId();
+        DashboardOverviewResponse response = dashboardOverviewUseCase.getOverview(userId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/summary")
     public ResponseEntity<DashboardSummaryResponse> getSummary(@RequestParam UUID competenceId) {
-        DashboardSummaryResponse response = dashboardUseCase.getSummary(competenceId);
+        UUID userId = userContext.getAuthenticatedUserId();
+        DashboardSummaryResponse response = dashboardUseCase.getSummary(competenceId, userId);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/expenses-by-category")
     public ResponseEntity<List<ExpenseByCategoryResponse>> getExpensesByCategory(
             @RequestParam UUID competenceId) {
-        List<ExpenseByCategoryResponse> responses = dashboardUseCase.getExpensesByCategory(competenceId);
+        UUID userId = userContext.getAuthenticatedUserId();
+        List<ExpenseByCategoryResponse> responses = dashboardUseCase.getExpensesByCategory(competenceId, userId);
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/commitments")
+    public ResponseEntity<List<CommitmentMonthResponse>> getCommitments(
+            @RequestParam(defaultValue = "6") int months) {
+        UUID userId = userContext.getAuthenticatedUserId();
+        List<CommitmentMonthResponse> responses = dashboardUseCase.getCommitments(userId, months);
         return ResponseEntity.ok(responses);
     }
 
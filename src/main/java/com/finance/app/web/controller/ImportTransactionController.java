@@ -1,9 +1,12 @@
 package com.finance.app.web.controller;
 
+import com.finance.app.application.usecase.ImportJobUseCase;
 import com.finance.app.application.usecase.ImportStatementUseCase;
 import com.finance.app.domain.port.UserContext;
+import com.finance.app.web.dto.response.ImportJobResponse;
 import com.finance.app.web.dto.response.ImportStatementResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,9 +23,11 @@ import java.util.UUID;
 public class ImportTransactionController {
 
     private final ImportStatementUseCase importStatementUseCase;
+    private final ImportJobUseCase importJobUseCase;
     private final UserContext userContext;
 
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10 MB
+    private static final long MAX_JOB_FILE_SIZE = 100 * 1024 * 1024; // 100 MB
 
     @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ImportStatementResponse> importTransactions(
@@ -57,4 +62,48 @@ public class ImportTransactionController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
         }
     }
+
+    @PostMapping(value = "/import/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> submitImportJob(
+            @PathVariable UUID accountId,
+            @RequestParam(required = false) UUID defaultCategoryId,
+            @RequestParam("file") MultipartFile file) {
+
+        if (file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File is empty");
+        }
+
+        if (file.getSize() > MAX_JOB_FILE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File exceeds maximum size of 100MB");
+        }
+
+        UUID userId = userContext.getAuthenticatedUserId();
+
+        try {
+            ImportJobResponse response = importJobUseCase.submit(
+                    file.getInputStream(),
+                    file.getOriginalFilename(),
+                    file.getContentType(),
+                    accountId,
+                    defaultCategoryId,
+                    userId
+            );
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Error reading file", e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (TaskRejectedException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many imports in progress, try again later", e);
+        }
+    }
+
+    @GetMapping("/import/jobs/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(
+            @PathVariable UUID accountId,
+            @PathVariable UUID jobId) {
+        UUID userId = userContext.getAuthenticatedUserId();
+        return ResponseEntity.ok(importJobUseCase.getJob(jobId, accountId, userId));
+    }
 }
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -38,6 +39,15 @@ public class InstallmentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(InstallmentSeriesResponse.fromDomain(series));
     }
 
+    @GetMapping
+    public ResponseEntity<List<InstallmentSeriesResponse>> listActive() {
+        UUID userId = userContext.getAuthenticatedUserId();
+        List<InstallmentSeriesResponse> series = installmentUseCase.listActiveSeries(userId).stream()
+                .map(InstallmentSeriesResponse::fromDomain)
+                .toList();
+        return ResponseEntity.ok(series);
+    }
+
     @GetMapping("/{parentId}")
     public ResponseEntity<InstallmentSeriesResponse> getProgress(@PathVariable UUID parentId) {
         InstallmentSeries series = installmentUseCase.getInstallmentProgress(parentId);
@@ -1,16 +1,22 @@
 package com.finance.app.web.controller;
 
+import com.finance.app.application.usecase.TransactionExportUseCase;
 import com.finance.app.application.usecase.TransactionUseCase;
 import com.finance.app.domain.port.UserContext;
 import com.finance.app.web.dto.request.CreateTransactionRequest;
+import com.finance.app.web.dto.request.ExportFormat;
 import com.finance.app.web.dto.request.UpdateTransactionRequest;
 import com.finance.app.web.dto.request.UpdateTransactionStatusRequest;
 import com.finance.app.web.dto.request.TransactionFilterRequest;
+import com.finance.app.web.dto.response.TransactionPageResponse;
 import com.finance.app.web.dto.response.TransactionResponse;
 import com.finance.app.domain.entity.TransactionFilter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,8 +25,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -30,7 +38,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TransactionController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TransactionUseCase transactionUseCase;
+    private final TransactionExportUseCase transactionExportUseCase;
     private final UserContext userContext;
 
     @PostMapping
@@ -46,12 +57,32 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
+    // The body stays a plain array; the cursor of the next page, if any, travels in X-Next-Cursor
     @GetMapping
     public ResponseEntity<List<TransactionResponse>> listByUser(@Valid @ModelAttribute TransactionFilterRequest request) {
         UUID userId = userContext.getAuthenticatedUserId();
         TransactionFilter filter = request.toDomain(userId);
-        List<TransactionResponse> responses = transactionUseCase.listTransactions(filter);
-        return ResponseEntity.ok(responses);
+        TransactionPageResponse page = transactionUseCase.listTransactions(filter);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.transactions());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@Valid @ModelAttribute TransactionFilterRequest request,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        UUID userId = userContext.getAuthenticatedUserId();
+        TransactionFilter filter = request.toDomain(userId);
+        StreamingResponseBody body = outputStream -> transactionExportUseCase.export(filter, format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("transactions." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @PatchMapping("/{id}")
@@ -0,0 +1,10 @@
+package com.finance.app.web.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+
+        @NotBlank(message = "Refresh token is required") String refreshToken
+
+) {
+}
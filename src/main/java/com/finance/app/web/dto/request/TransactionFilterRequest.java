@@ -1,9 +1,12 @@
 package com.finance.app.web.dto.request;
 
+import com.finance.app.domain.entity.TransactionCursor;
 import com.finance.app.domain.entity.TransactionFilter;
 import com.finance.app.domain.entity.TransactionStatus;
 import com.finance.app.domain.entity.TransactionSubtype;
 import com.finance.app.domain.entity.TransactionType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -17,7 +20,12 @@ public record TransactionFilterRequest(
         UUID accountId,
         String description,
         LocalDate startDate,
-        LocalDate endDate) {
+        LocalDate endDate,
+        String cursor,
+        @Min(1) @Max(MAX_LIMIT) Integer limit) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
 
     public TransactionFilter toDomain(UUID userId) {
         return TransactionFilter.builder()
@@ -31,6 +39,8 @@ public record TransactionFilterRequest(
                 .description(description)
                 .startDate(startDate)
                 .endDate(endDate)
+                .after(cursor == null || cursor.isBlank() ? null : TransactionCursor.decode(cursor))
+                .limit(limit == null ? DEFAULT_LIMIT : limit)
                 .build();
     }
 }
@@ -6,6 +6,8 @@ import java.util.UUID;
 public record AuthResponse(
         String token,
         Instant expiresAt,
+        String refreshToken,
+        Instant refreshTokenExpiresAt,
         UUID userId,
         String email) {
 }
@@ -0,0 +1,15 @@
+package com.finance.app.web.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Builder
+public record CommitmentCategoryResponse(
+        UUID categoryId,
+        String categoryName,
+        String colorHex,
+        BigDecimal outflow,
+        BigDecimal inflow) {
+}
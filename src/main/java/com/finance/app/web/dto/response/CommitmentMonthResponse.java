@@ -0,0 +1,16 @@
+package com.finance.app.web.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Builder
+public record CommitmentMonthResponse(
+        int month,
+        int year,
+        String competenceName,
+        BigDecimal totalOutflow,
+        BigDecimal totalInflow,
+        List<CommitmentCategoryResponse> categories) {
+}
@@ -0,0 +1,13 @@
+package com.finance.app.web.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record DashboardOverviewResponse(
+        CompetenceDetailResponse currentCompetence,
+        DashboardSummaryResponse summary,
+        List<ExpenseByCategoryResponse> expensesByCategory,
+        List<MonthlyEvolutionResponse> evolution) {
+}
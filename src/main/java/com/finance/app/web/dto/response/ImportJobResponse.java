@@ -0,0 +1,36 @@
+package com.finance.app.web.dto.response;
+
+import com.finance.app.domain.entity.ImportJob;
+import com.finance.app.domain.entity.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ImportJobResponse(
+        UUID id,
+        UUID accountId,
+        String fileName,
+        ImportJobStatus status,
+        int parsedCount,
+        int importedCount,
+        int ignoredCount,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {
+    public static ImportJobResponse fromDomain(ImportJob job) {
+        if (job == null) return null;
+        return new ImportJobResponse(
+                job.getId(),
+                job.getAccountId(),
+                job.getFileName(),
+                job.getStatus(),
+                job.getParsedCount(),
+                job.getImportedCount(),
+                job.getIgnoredCount(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.finance.app.web.dto.response;
+
+import com.finance.app.domain.entity.TransactionPage;
+
+import java.util.List;
+
+public record TransactionPageResponse(
+        List<TransactionResponse> transactions,
+        String nextCursor
+) {
+    public static TransactionPageResponse fromDomain(TransactionPage page) {
+        return new TransactionPageResponse(
+                page.transactions().stream().map(TransactionResponse::fromDomain).toList(),
+                page.nextCursor() == null ? null : page.nextCursor().encode()
+        );
+    }
+}
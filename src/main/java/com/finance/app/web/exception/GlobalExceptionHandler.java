@@ -4,7 +4,9 @@ import com.finance.app.domain.exception.AccountNotFoundException;
 import com.finance.app.domain.exception.CategoryNotFoundException;
 import com.finance.app.domain.exception.CompetenceNotFoundException;
 import com.finance.app.domain.exception.DuplicateEmailException;
+import com.finance.app.domain.exception.ImportJobNotFoundException;
 import com.finance.app.domain.exception.InvalidCredentialsException;
+import com.finance.app.domain.exception.InvalidCursorException;
 import com.finance.app.domain.exception.InvalidFirebaseTokenException;
 import com.finance.app.domain.exception.InvalidTokenException;
 import com.finance.app.domain.exception.InvalidTransactionException;
@@ -68,12 +70,24 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleImportJobNotFound(ImportJobNotFoundException ex) {
+        log.atWarn().log("Import job not found: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
     @ExceptionHandler(InvalidTransactionException.class)
     public ResponseEntity<Map<String, Object>> handleInvalidTransaction(InvalidTransactionException ex) {
         log.atWarn().log("Invalid transaction: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursor(InvalidCursorException ex) {
+        log.atWarn().log("Invalid cursor: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
     @ExceptionHandler(DuplicateEmailException.class)
     public ResponseEntity<Map<String, Object>> handleDuplicateEmail(DuplicateEmailException ex) {
         log.atWarn().log("Duplicate email: {}", ex.getMessage());
@@ -142,6 +156,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    @ExceptionHandler(com.finance.app.domain.exception.DashboardTimeoutException.class)
+    public ResponseEntity<Map<String, Object>> handleDashboardTimeout(com.finance.app.domain.exception.DashboardTimeoutException ex) {
+        log.atWarn().log("Dashboard timeout: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
         log.atError().setCause(ex).log("An unexpected error occurred");
@@ -0,0 +1,19 @@
+-- V14__create_import_jobs_table.sql
+-- Tracks background statement imports so clients can poll their progress.
+
+CREATE TABLE import_jobs (
+    id BINARY(16) PRIMARY KEY,
+    user_id BINARY(16) NOT NULL,
+    account_id BINARY(16) NOT NULL,
+    file_name VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    parsed_count INT NOT NULL DEFAULT 0,
+    imported_count INT NOT NULL DEFAULT 0,
+    ignored_count INT NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP NULL,
+    CONSTRAINT fk_import_jobs_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_import_jobs_account FOREIGN KEY (account_id) REFERENCES accounts (id) ON DELETE CASCADE
+) ENGINE=InnoDB;
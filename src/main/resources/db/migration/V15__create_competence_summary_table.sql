@@ -0,0 +1,24 @@
+-- V15__create_competence_summary_table.sql
+-- Per-competence rollup of transaction counts and amounts, kept in step with every
+-- transaction write so competence listings no longer scan the transactions table.
+-- A NULL subtype is stored as '' so it can be part of the primary key.
+
+CREATE TABLE competence_summary (
+    competence_id BINARY(16) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    subtype VARCHAR(20) NOT NULL DEFAULT '',
+    user_id BINARY(16) NOT NULL,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    total_amount DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    PRIMARY KEY (competence_id, type, status, subtype),
+    INDEX idx_competence_summary_user (user_id),
+    CONSTRAINT fk_competence_summary_competence FOREIGN KEY (competence_id) REFERENCES competences (id) ON DELETE CASCADE,
+    CONSTRAINT fk_competence_summary_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+-- Backfill from existing transactions
+INSERT INTO competence_summary (competence_id, type, status, subtype, user_id, transaction_count, total_amount)
+SELECT competence_id, type, status, COALESCE(subtype, ''), user_id, COUNT(*), SUM(amount)
+FROM transactions
+GROUP BY competence_id, type, status, COALESCE(subtype, ''), user_id;
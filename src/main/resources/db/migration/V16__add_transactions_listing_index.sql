@@ -0,0 +1,8 @@
+-- V16__add_transactions_listing_index.sql
+-- Backs the keyset-paginated transaction listing: WHERE user_id = ? ORDER BY date_time DESC, id DESC
+-- with the (date_time, id) cursor predicate, so any page is a short range scan on this index.
+
+CREATE INDEX idx_transactions_user_date_time_id ON transactions (user_id, date_time, id);
+
+-- Covered by the leftmost column of the new index, including for the user foreign key
+DROP INDEX idx_transactions_user_id ON transactions;
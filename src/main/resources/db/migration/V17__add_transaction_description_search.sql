@@ -0,0 +1,17 @@
+-- V17__add_transaction_description_search.sql
+-- Indexed description search. description_search holds the description lower-cased and without
+-- accents (the application keeps it in sync on every insert/update), and an ngram FULLTEXT index
+-- over it lets substring searches such as "acai" find "Açaí do Pará" without scanning the table.
+
+ALTER TABLE transactions ADD COLUMN description_search VARCHAR(255) NOT NULL DEFAULT '';
+
+-- Backfill existing rows with the accents used in Portuguese; new rows are normalized in Java
+UPDATE transactions
+SET description_search = TRIM(REGEXP_REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(LOWER(description), 'á', 'a'), 'à', 'a'), 'â', 'a'), 'ã', 'a'), 'ä', 'a'), 'é', 'e'), 'è', 'e'), 'ê', 'e'), 'ë', 'e'), 'í', 'i'), 'ì', 'i'), 'î', 'i'), 'ï', 'i'), 'ó', 'o'), 'ò', 'o'), 'ô', 'o'), 'õ', 'o'), 'ö', 'o'), 'ú', 'u'), 'ù', 'u'), 'û', 'u'), 'ü', 'u'), 'ç', 'c'), 'ñ', 'n'), '[[:space:]]+', ' '));
+
+-- With the default stopword list the ngram parser drops every bigram containing "a" or "i"
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE transactions ADD FULLTEXT INDEX ft_transactions_description_search (description_search) WITH PARSER ngram;
+
+SET SESSION innodb_ft_enable_stopword = ON;
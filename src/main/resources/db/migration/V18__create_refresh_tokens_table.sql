@@ -0,0 +1,16 @@
+-- V18__create_refresh_tokens_table.sql
+-- Rotating refresh tokens, one chain per signed-in device. Only the SHA-256 of each token is stored.
+
+CREATE TABLE refresh_tokens (
+    id BINARY(16) PRIMARY KEY,
+    user_id BINARY(16) NOT NULL,
+    device_id BINARY(16) NOT NULL,
+    token_hash CHAR(64) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_refresh_tokens_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_refresh_tokens_user_device ON refresh_tokens (user_id, device_id);
@@ -0,0 +1,65 @@
+-- V19__create_category_templates.sql
+-- Default categories given to every new user, versioned so a new taxonomy can ship next to the old one.
+-- Signup copies the current version with one INSERT ... SELECT per table; start once with
+-- --app.categories.backfill=true to add a new version's entries to existing users.
+
+CREATE TABLE category_templates (
+    id INT PRIMARY KEY,
+    version INT NOT NULL,
+    name VARCHAR(50) NOT NULL,
+    color_hex VARCHAR(7),
+    type VARCHAR(20) NOT NULL,
+    CONSTRAINT uk_category_templates_version_name_type UNIQUE (version, name, type)
+) ENGINE=InnoDB;
+
+CREATE TABLE subcategory_templates (
+    id INT PRIMARY KEY,
+    category_template_id INT NOT NULL,
+    name VARCHAR(50) NOT NULL,
+    CONSTRAINT fk_subcategory_templates_category FOREIGN KEY (category_template_id) REFERENCES category_templates (id)
+) ENGINE=InnoDB;
+
+-- Version 1: the taxonomy previously hard-coded in CategoryUseCase.createDefaultCategories
+INSERT INTO category_templates (id, version, name, color_hex, type) VALUES
+    (1, 1, 'Food', '#4CAF50', 'EXPENSE'),
+    (2, 1, 'Housing', '#2196F3', 'EXPENSE'),
+    (3, 1, 'Health', '#E91E63', 'EXPENSE'),
+    (4, 1, 'Services', '#9C27B0', 'EXPENSE'),
+    (5, 1, 'Shopping', '#E67E22', 'EXPENSE'),
+    (6, 1, 'Pets', '#795548', 'EXPENSE'),
+    (7, 1, 'Transportation', '#607D8B', 'EXPENSE'),
+    (8, 1, 'Salary', '#4CAF50', 'REVENUE'),
+    (9, 1, 'Investments', '#2196F3', 'REVENUE'),
+    (10, 1, 'Other Income', '#FF9800', 'REVENUE');
+
+INSERT INTO subcategory_templates (id, category_template_id, name) VALUES
+    (1, 1, 'Delivery'),
+    (2, 1, 'Groceries'),
+    (3, 1, 'Restaurants'),
+    (4, 2, 'Electricity'),
+    (5, 2, 'Rent'),
+    (6, 2, 'Condo'),
+    (7, 2, 'Internet'),
+    (8, 2, 'Water'),
+    (9, 2, 'Gas'),
+    (10, 3, 'Pharmacy'),
+    (11, 3, 'Exams'),
+    (12, 3, 'Appointments'),
+    (13, 3, 'Gym'),
+    (14, 3, 'Supplements'),
+    (15, 4, 'Subscriptions'),
+    (16, 4, 'Service Providers'),
+    (17, 5, 'Clothes'),
+    (18, 5, 'Office Supplies'),
+    (19, 5, 'Shoes'),
+    (20, 5, 'Accessories'),
+    (21, 6, 'Health Insurance'),
+    (22, 6, 'Food'),
+    (23, 6, 'Litter'),
+    (24, 6, 'Toys'),
+    (25, 6, 'Accessories'),
+    (26, 7, 'Fuel'),
+    (27, 7, 'Mechanic'),
+    (28, 7, 'Parts'),
+    (29, 9, 'Dividends'),
+    (30, 9, 'Interest');
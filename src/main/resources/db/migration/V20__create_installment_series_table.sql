@@ -0,0 +1,37 @@
+-- V20__create_installment_series_table.sql
+-- One header row per installment series with its progress, kept in step with every write to its
+-- installments so progress and the list of active series never have to scan transactions.
+
+CREATE TABLE installment_series (
+    parent_id BINARY(16) NOT NULL PRIMARY KEY,
+    user_id BINARY(16) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    total_installments INT NOT NULL DEFAULT 0,
+    completed_installments INT NOT NULL DEFAULT 0,
+    pending_installments INT NOT NULL DEFAULT 0,
+    total_amount DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    completed_amount DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    pending_amount DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_installment_series_user_pending (user_id, pending_installments),
+    CONSTRAINT fk_installment_series_parent FOREIGN KEY (parent_id) REFERENCES transactions (id) ON DELETE CASCADE,
+    CONSTRAINT fk_installment_series_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+-- Backfill from existing installments; the root is the row without a parent
+INSERT INTO installment_series (parent_id, user_id, description, total_installments, completed_installments,
+                                pending_installments, total_amount, completed_amount, pending_amount, created_at)
+SELECT COALESCE(parent_id, id),
+       MIN(user_id),
+       MAX(CASE WHEN parent_id IS NULL THEN description END),
+       COUNT(*),
+       SUM(CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN status = 'COMPLETED' THEN 0 ELSE 1 END),
+       SUM(amount),
+       SUM(CASE WHEN status = 'COMPLETED' THEN amount ELSE 0 END),
+       SUM(CASE WHEN status = 'COMPLETED' THEN 0 ELSE amount END),
+       MIN(created_at)
+FROM transactions
+WHERE installment_count IS NOT NULL
+GROUP BY COALESCE(parent_id, id)
+HAVING SUM(CASE WHEN parent_id IS NULL THEN 1 ELSE 0 END) = 1;
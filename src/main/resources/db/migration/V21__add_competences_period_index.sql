@@ -0,0 +1,6 @@
+-- V21__add_competences_period_index.sql
+-- Backs month-range reads over a user's competences: (year > ? OR (year = ? AND month >= ?)) AND
+-- (year < ? OR (year = ? AND month <= ?)) is a range scan on this index. The (user_id, month, year)
+-- unique key stays, as the competence upserts rely on it.
+
+CREATE INDEX idx_competences_user_year_month ON competences (user_id, `year`, `month`);
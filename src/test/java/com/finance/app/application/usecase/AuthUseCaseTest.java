@@ -1,15 +1,24 @@
 package com.finance.app.application.usecase;
 
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.finance.app.domain.entity.RefreshToken;
 import com.finance.app.domain.entity.SocialProfile;
 import com.finance.app.domain.entity.User;
 import com.finance.app.domain.exception.DuplicateEmailException;
 import com.finance.app.domain.exception.InvalidCredentialsException;
 import com.finance.app.domain.exception.InvalidFirebaseTokenException;
+import com.finance.app.domain.exception.InvalidTokenException;
 import com.finance.app.domain.port.TokenVerifier;
+import com.finance.app.domain.repository.RefreshTokenRepository;
 import com.finance.app.domain.repository.UserRepository;
+import com.finance.app.infrastructure.security.IssuedToken;
 import com.finance.app.infrastructure.security.JwtTokenProvider;
+import com.finance.app.infrastructure.security.RefreshTokenProvider;
+import com.finance.app.infrastructure.security.TokenPrincipal;
+import com.finance.app.infrastructure.security.VerifiedTokenCache;
 import com.finance.app.web.dto.request.GoogleAuthRequest;
 import com.finance.app.web.dto.request.LoginRequest;
+import com.finance.app.web.dto.request.RefreshTokenRequest;
 import com.finance.app.web.dto.request.RegisterRequest;
 import com.finance.app.web.dto.response.AuthResponse;
 import com.finance.app.web.dto.response.UserResponse;
@@ -24,6 +33,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +42,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +66,15 @@ class AuthUseCaseTest {
     @Mock
     private CategoryUseCase categoryUseCase;
 
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private RefreshTokenProvider refreshTokenProvider;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
     @InjectMocks
     private AuthUseCase authUseCase;
 
@@ -123,8 +144,9 @@ class AuthUseCaseTest {
 
             when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(user));
             when(passwordEncoder.matches("password123", "$2a$10$hashedpassword")).thenReturn(true);
-            when(jwtTokenProvider.generateToken("john@example.com", userId)).thenReturn("jwt-token-value");
-            when(jwtTokenProvider.getExpiresAt("jwt-token-value")).thenReturn(Instant.now().plusSeconds(86400));
+            when(jwtTokenProvider.issueToken("john@example.com", userId))
+                    .thenReturn(new IssuedToken("jwt-token-value", Instant.now().plusSeconds(86400)));
+            when(refreshTokenProvider.expiresAt(any(LocalDateTime.class))).thenReturn(LocalDateTime.now().plusDays(30));
 
             // When
             AuthResponse response = authUseCase.login(request);
@@ -135,6 +157,7 @@ class AuthUseCaseTest {
             assertEquals(userId, response.userId());
             assertEquals("john@example.com", response.email());
             assertNotNull(response.expiresAt());
+            assertNotNull(response.refreshTokenExpiresAt());
         }
 
         @Test
@@ -167,7 +190,7 @@ class AuthUseCaseTest {
 
             // When / Then
             assertThrows(InvalidCredentialsException.class, () -> authUseCase.login(request));
-            verify(jwtTokenProvider, never()).generateToken(anyString(), any(UUID.class));
+            verify(jwtTokenProvider, never()).issueToken(anyString(), any(UUID.class));
         }
     }
 
@@ -190,8 +213,9 @@ class AuthUseCaseTest {
                 user.setId(userId);
                 return user;
             });
-            when(jwtTokenProvider.generateToken("google@example.com", userId)).thenReturn("jwt-token");
-            when(jwtTokenProvider.getExpiresAt("jwt-token")).thenReturn(Instant.now().plusSeconds(86400));
+            when(jwtTokenProvider.issueToken("google@example.com", userId))
+                    .thenReturn(new IssuedToken("jwt-token", Instant.now().plusSeconds(86400)));
+            when(refreshTokenProvider.expiresAt(any(LocalDateTime.class))).thenReturn(LocalDateTime.now().plusDays(30));
 
             // When
             AuthResponse response = authUseCase.authenticateGoogle(request);
@@ -221,8 +245,9 @@ class AuthUseCaseTest {
 
             when(tokenVerifier.verify("firebase-id-token")).thenReturn(profile);
             when(userRepository.findByEmail("google@example.com")).thenReturn(Optional.of(existingUser));
-            when(jwtTokenProvider.generateToken("google@example.com", userId)).thenReturn("jwt-token");
-            when(jwtTokenProvider.getExpiresAt("jwt-token")).thenReturn(Instant.now().plusSeconds(86400));
+            when(jwtTokenProvider.issueToken("google@example.com", userId))
+                    .thenReturn(new IssuedToken("jwt-token", Instant.now().plusSeconds(86400)));
+            when(refreshTokenProvider.expiresAt(any(LocalDateTime.class))).thenReturn(LocalDateTime.now().plusDays(30));
 
             // When
             AuthResponse response = authUseCase.authenticateGoogle(request);
@@ -247,4 +272,129 @@ class AuthUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("refresh")
+    class Refresh {
+
+        private final UUID userId = UUID.randomUUID();
+        private final UUID deviceId = UUID.randomUUID();
+
+        private RefreshToken storedToken(LocalDateTime expiresAt, LocalDateTime revokedAt) {
+            return RefreshToken.builder()
+                    .id(UUID.randomUUID())
+                    .userId(userId)
+                    .deviceId(deviceId)
+                    .tokenHash("old-hash")
+                    .expiresAt(expiresAt)
+                    .revokedAt(revokedAt)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should spend the presented token and issue a new pair for the same device without checking the password")
+        void givenActiveRefreshToken_whenRefresh_thenRotatesTokens() {
+            // Given
+            RefreshToken current = storedToken(LocalDateTime.now().plusDays(1), null);
+            User user = User.builder().id(userId).email("john@example.com").build();
+            LocalDateTime newExpiry = LocalDateTime.now().plusDays(30);
+
+            when(refreshTokenProvider.hash("old-token")).thenReturn("old-hash");
+            when(refreshTokenRepository.findByTokenHash("old-hash")).thenReturn(Optional.of(current));
+            when(refreshTokenRepository.revoke(any(UUID.class), any(LocalDateTime.class))).thenReturn(true);
+            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+            when(jwtTokenProvider.issueToken("john@example.com", userId))
+                    .thenReturn(new IssuedToken("jwt-token", Instant.now().plusSeconds(86400)));
+            when(refreshTokenProvider.generate()).thenReturn("new-token");
+            when(refreshTokenProvider.hash("new-token")).thenReturn("new-hash");
+            when(refreshTokenProvider.expiresAt(any(LocalDateTime.class))).thenReturn(newExpiry);
+
+            // When
+            AuthResponse response = authUseCase.refresh(new RefreshTokenRequest("old-token"));
+
+            // Then
+            assertEquals("jwt-token", response.token());
+            assertEquals("new-token", response.refreshToken());
+            assertEquals(newExpiry.atZone(ZoneId.systemDefault()).toInstant(), response.refreshTokenExpiresAt());
+            verify(refreshTokenRepository).revoke(any(UUID.class), any(LocalDateTime.class));
+            verify(refreshTokenRepository).save(argThat(saved ->
+                    saved.getDeviceId().equals(deviceId) && saved.getTokenHash().equals("new-hash")));
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should revoke the whole device when a spent refresh token is presented again")
+        void givenSpentRefreshToken_whenRefresh_thenRevokesDeviceAndThrows() {
+            // Given
+            RefreshToken spent = storedToken(LocalDateTime.now().plusDays(1), LocalDateTime.now().minusMinutes(5));
+            when(refreshTokenProvider.hash("old-token")).thenReturn("old-hash");
+            when(refreshTokenRepository.findByTokenHash("old-hash")).thenReturn(Optional.of(spent));
+
+            // When / Then
+            InvalidTokenException exception = assertThrows(InvalidTokenException.class,
+                    () -> authUseCase.refresh(new RefreshTokenRequest("old-token")));
+            assertEquals(InvalidTokenException.refreshInvalid().getMessage(), exception.getMessage());
+            verify(refreshTokenRepository).revokeDevice(any(UUID.class), any(UUID.class), any(LocalDateTime.class));
+            verify(jwtTokenProvider, never()).issueToken(anyString(), any(UUID.class));
+        }
+
+        @Test
+        @DisplayName("Should reject an expired refresh token")
+        void givenExpiredRefreshToken_whenRefresh_thenThrowsExpired() {
+            // Given
+            RefreshToken expired = storedToken(LocalDateTime.now().minusMinutes(1), null);
+            when(refreshTokenProvider.hash("old-token")).thenReturn("old-hash");
+            when(refreshTokenRepository.findByTokenHash("old-hash")).thenReturn(Optional.of(expired));
+
+            // When / Then
+            InvalidTokenException exception = assertThrows(InvalidTokenException.class,
+                    () -> authUseCase.refresh(new RefreshTokenRequest("old-token")));
+            assertEquals(InvalidTokenException.refreshExpired().getMessage(), exception.getMessage());
+            verify(refreshTokenRepository, never()).revoke(any(UUID.class), any(LocalDateTime.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("logout")
+    class Logout {
+
+        private final UUID userId = UUID.randomUUID();
+        private final UUID deviceId = UUID.randomUUID();
+
+        @Test
+        @DisplayName("Should revoke the device's refresh tokens and the access token sent with the request")
+        void givenBearerToken_whenLogout_thenRevokesBothTokens() {
+            // Given
+            RefreshToken stored = RefreshToken.builder().id(UUID.randomUUID()).userId(userId).deviceId(deviceId)
+                    .tokenHash("refresh-hash").expiresAt(LocalDateTime.now().plusDays(1)).build();
+            Instant accessExpiry = Instant.now().plusSeconds(3600);
+            when(refreshTokenProvider.hash("refresh-token")).thenReturn("refresh-hash");
+            when(refreshTokenRepository.findByTokenHash("refresh-hash")).thenReturn(Optional.of(stored));
+            when(verifiedTokenCache.resolve(eq("access-token"), any()))
+                    .thenReturn(new TokenPrincipal(userId, "john@example.com", accessExpiry));
+
+            // When
+            authUseCase.logout(new RefreshTokenRequest("refresh-token"), "access-token");
+
+            // Then
+            verify(refreshTokenRepository).revokeDevice(eq(userId), eq(deviceId), any(LocalDateTime.class));
+            verify(verifiedTokenCache).revoke("access-token", accessExpiry);
+        }
+
+        @Test
+        @DisplayName("Should still log out when the access token has already expired")
+        void givenExpiredBearerToken_whenLogout_thenOnlyRevokesRefreshTokens() {
+            // Given
+            when(refreshTokenProvider.hash("refresh-token")).thenReturn("refresh-hash");
+            when(refreshTokenRepository.findByTokenHash("refresh-hash")).thenReturn(Optional.empty());
+            when(verifiedTokenCache.resolve(eq("access-token"), any()))
+                    .thenThrow(new TokenExpiredException("expired", Instant.now()));
+
+            // When
+            authUseCase.logout(new RefreshTokenRequest("refresh-token"), "access-token");
+
+            // Then
+            verify(verifiedTokenCache, never()).revoke(anyString(), any(Instant.class));
+        }
+    }
+
 }
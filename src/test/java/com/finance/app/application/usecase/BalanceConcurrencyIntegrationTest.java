@@ -0,0 +1,169 @@
+package com.finance.app.application.usecase;
+
+import com.finance.app.domain.entity.Account;
+import com.finance.app.domain.entity.Category;
+import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.entity.User;
+import com.finance.app.domain.repository.AccountRepository;
+import com.finance.app.domain.repository.CategoryRepository;
+import com.finance.app.domain.repository.CompetenceRepository;
+import com.finance.app.domain.repository.SavingsRepository;
+import com.finance.app.domain.repository.UserRepository;
+import com.finance.app.web.dto.request.CreateSavingsRequest;
+import com.finance.app.web.dto.request.CreateTransactionRequest;
+import com.finance.app.web.dto.request.SavingsTransactionRequest;
+import com.finance.app.web.dto.response.SavingsResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Runs without a test transaction so every call commits on its own, like concurrent requests would
+@SpringBootTest
+@ActiveProfiles("test")
+class BalanceConcurrencyIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int TRANSACTIONS = 2000;
+
+    @Autowired
+    private TransactionUseCase transactionUseCase;
+
+    @Autowired
+    private SavingsUseCase savingsUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CompetenceRepository competenceRepository;
+
+    @Autowired
+    private SavingsRepository savingsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID accountId;
+    private UUID categoryId;
+    private UUID competenceId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        userId = userRepository.save(User.create("Load", "load-" + UUID.randomUUID() + "@example.com", "hash")).getId();
+        accountId = accountRepository.save(Account.builder().userId(userId).name("Checking")
+                .balance(new BigDecimal("1000.00")).currency("BRL").createdAt(now).updatedAt(now).build()).getId();
+        categoryId = categoryRepository.save(Category.builder().userId(userId).name("Misc")
+                .type(TransactionType.EXPENSE).createdAt(now).updatedAt(now).build()).getId();
+        competenceId = competenceRepository.save(Competence.builder().userId(userId).month(5).year(2026)
+                .createdAt(now).updatedAt(now).build()).getId();
+    }
+
+    // Everything here was committed, so nothing rolls it back; the user's other rows go with it by cascade
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM transactions WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("Should not lose balance updates when thousands of transactions are created in parallel")
+    void givenParallelTransactions_whenCreated_thenFinalBalanceMatchesTheirSum() throws Exception {
+        // Given
+        List<Callable<Void>> tasks = new ArrayList<>();
+        BigDecimal expected = new BigDecimal("1000.00");
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            TransactionType type = i % 3 == 0 ? TransactionType.REVENUE : TransactionType.EXPENSE;
+            BigDecimal amount = new BigDecimal((i % 50) + 1 + ".25");
+            expected = type == TransactionType.REVENUE ? expected.add(amount) : expected.subtract(amount);
+
+            CreateTransactionRequest request = new CreateTransactionRequest(accountId, categoryId, null, competenceId,
+                    "Load " + i, amount, LocalDateTime.now(), type, null, TransactionStatus.COMPLETED, null);
+            tasks.add(() -> {
+                transactionUseCase.create(request, userId);
+                return null;
+            });
+        }
+
+        // When
+        runInParallel(tasks);
+
+        // Then
+        Account account = accountRepository.findByIdAndUserId(accountId, userId).orElseThrow();
+        assertEquals(0, expected.compareTo(account.getBalance()),
+                "expected " + expected + " but was " + account.getBalance());
+    }
+
+    @Test
+    @DisplayName("Should never overdraw a savings vault under concurrent withdrawals")
+    void givenParallelWithdrawals_whenVaultRunsOut_thenOnlyFundedOnesSucceed() throws Exception {
+        // Given
+        SavingsResponse savings = savingsUseCase.create(
+                new CreateSavingsRequest("Vault", new BigDecimal("1000.00"), null, null), userId);
+        SavingsTransactionRequest request = new SavingsTransactionRequest(
+                accountId, competenceId, new BigDecimal("100.00"), "Withdrawal");
+        // First withdrawal creates the vault category before the race starts
+        savingsUseCase.withdraw(savings.id(), request, userId);
+
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(() -> {
+                try {
+                    savingsUseCase.withdraw(savings.id(), request, userId);
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        // When
+        runInParallel(tasks);
+
+        // Then
+        assertEquals(11, rejected.get());
+        assertEquals(0, BigDecimal.ZERO.compareTo(savingsRepository.findById(savings.id()).orElseThrow().getBalance()));
+        // 1000 initial + 10 withdrawals of 100 credited to the account
+        assertEquals(0, new BigDecimal("2000.00").compareTo(accountRepository.findByIdAndUserId(accountId, userId).orElseThrow().getBalance()));
+    }
+
+    private static void runInParallel(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
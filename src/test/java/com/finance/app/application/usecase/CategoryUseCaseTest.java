@@ -1,6 +1,7 @@
 package com.finance.app.application.usecase;
 
 import com.finance.app.domain.entity.Category;
+import com.finance.app.domain.port.DashboardCache;
 import com.finance.app.domain.repository.CategoryRepository;
 import com.finance.app.web.dto.request.CreateCategoryRequest;
 import com.finance.app.web.dto.response.CategoryResponse;
@@ -33,6 +34,9 @@ class CategoryUseCaseTest {
     @Mock
     private com.finance.app.domain.repository.SubcategoryRepository subcategoryRepository;
 
+    @Mock
+    private DashboardCache dashboardCache;
+
     @InjectMocks
     private CategoryUseCase categoryUseCase;
 
@@ -143,6 +147,7 @@ class CategoryUseCaseTest {
             assertEquals("New Name", response.name());
             assertEquals("#FFFFFF", response.colorHex());
             verify(categoryRepository).save(any(Category.class));
+            verify(dashboardCache).evictUser(userId);
         }
 
         @Test
@@ -1,14 +1,13 @@
 package com.finance.app.application.usecase;
 
 import com.finance.app.domain.entity.Competence;
-import com.finance.app.domain.entity.CompetenceTransactionCountSummary;
-import com.finance.app.domain.entity.CompetenceTransactionAmountSummary;
 import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
 import com.finance.app.domain.entity.TransactionType;
 import com.finance.app.domain.entity.TransactionStatus;
 import com.finance.app.domain.entity.TransactionSubtype;
+import com.finance.app.domain.port.CompetenceCache;
 import com.finance.app.domain.repository.CompetenceRepository;
-import com.finance.app.domain.repository.TransactionRepository;
+import com.finance.app.domain.repository.CompetenceSummaryRepository;
 import com.finance.app.web.dto.request.CreateCompetenceRequest;
 import com.finance.app.web.dto.response.CompetenceResponse;
 import com.finance.app.web.dto.response.CompetenceDetailResponse;
@@ -24,9 +23,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import com.finance.app.domain.exception.CompetenceNotFoundException;
 
@@ -35,8 +38,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,7 +51,10 @@ class CompetenceUseCaseTest {
     private CompetenceRepository competenceRepository;
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private CompetenceSummaryRepository competenceSummaryRepository;
+
+    @Mock
+    private CompetenceCache competenceCache;
 
     @InjectMocks
     private CompetenceUseCase competenceUseCase;
@@ -64,6 +72,16 @@ class CompetenceUseCaseTest {
                 .build();
     }
 
+    private void stubCacheMiss() {
+        when(competenceCache.get(eq(userId), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Competence>>getArgument(2).get());
+    }
+
+    private void stubUpsert(Competence competence) {
+        YearMonth period = YearMonth.of(competence.getYear(), competence.getMonth());
+        when(competenceRepository.findOrCreateAll(userId, List.of(period))).thenReturn(Map.of(period, competence));
+    }
+
     @Nested
     @DisplayName("create")
     class Create {
@@ -73,18 +91,15 @@ class CompetenceUseCaseTest {
         void givenNewCompetence_whenCreate_thenSavesAndReturns() {
             // Given
             CreateCompetenceRequest request = new CreateCompetenceRequest(2, 2026);
-            when(competenceRepository.findByUserIdAndMonthAndYear(userId, 2, 2026))
-                    .thenReturn(Optional.empty());
-            when(competenceRepository.save(any(Competence.class)))
-                    .thenAnswer(invocation -> invocation.getArgument(0));
-            when(transactionRepository.countByCompetenceId(any()))
-                    .thenReturn(5L);
-            when(transactionRepository.sumAmountsByCompetenceId(any()))
+            stubCacheMiss();
+            stubUpsert(createCompetence(UUID.randomUUID(), 2, 2026));
+            when(competenceSummaryRepository.findByCompetenceId(any()))
                     .thenReturn(List.of(
-                            new CompetenceTransactionAmountSummary(UUID.randomUUID(), TransactionType.REVENUE, TransactionStatus.COMPLETED, new BigDecimal("100.00")),
-                            new CompetenceTransactionAmountSummary(UUID.randomUUID(), TransactionType.EXPENSE, TransactionStatus.COMPLETED, new BigDecimal("40.00")),
-                            new CompetenceTransactionAmountSummary(UUID.randomUUID(), TransactionType.REVENUE, TransactionStatus.PENDING, new BigDecimal("50.00")),
-                            new CompetenceTransactionAmountSummary(UUID.randomUUID(), TransactionType.EXPENSE, TransactionStatus.PENDING, new BigDecimal("10.00"))
+                            new CompetenceTransactionSubtypeSummary(UUID.randomUUID(), TransactionType.REVENUE, TransactionStatus.COMPLETED, TransactionSubtype.FIXED, 1L, new BigDecimal("60.00")),
+                            new CompetenceTransactionSubtypeSummary(UUID.randomUUID(), TransactionType.REVENUE, TransactionStatus.COMPLETED, TransactionSubtype.VARIABLE, 1L, new BigDecimal("40.00")),
+                            new CompetenceTransactionSubtypeSummary(UUID.randomUUID(), TransactionType.EXPENSE, TransactionStatus.COMPLETED, TransactionSubtype.VARIABLE, 1L, new BigDecimal("40.00")),
+                            new CompetenceTransactionSubtypeSummary(UUID.randomUUID(), TransactionType.REVENUE, TransactionStatus.PENDING, TransactionSubtype.FIXED, 1L, new BigDecimal("50.00")),
+                            new CompetenceTransactionSubtypeSummary(UUID.randomUUID(), TransactionType.EXPENSE, TransactionStatus.PENDING, null, 1L, new BigDecimal("10.00"))
                     ));
 
             // When
@@ -101,7 +116,7 @@ class CompetenceUseCaseTest {
             assertEquals(new BigDecimal("100.00"), response.totalAmount());
             assertEquals(new BigDecimal("150.00"), response.totalRevenue());
             assertEquals(new BigDecimal("50.00"), response.totalExpense());
-            verify(competenceRepository).save(any(Competence.class));
+            verify(competenceRepository).findOrCreateAll(userId, List.of(YearMonth.of(2026, 2)));
         }
 
         @Test
@@ -111,12 +126,13 @@ class CompetenceUseCaseTest {
             UUID existingId = UUID.randomUUID();
             Competence existing = createCompetence(existingId, 2, 2026);
             CreateCompetenceRequest request = new CreateCompetenceRequest(2, 2026);
-            when(competenceRepository.findByUserIdAndMonthAndYear(userId, 2, 2026))
-                    .thenReturn(Optional.of(existing));
-            when(transactionRepository.countByCompetenceId(existingId))
-                    .thenReturn(10L);
-            when(transactionRepository.sumAmountsByCompetenceId(existingId))
-                    .thenReturn(List.of());
+            stubCacheMiss();
+            stubUpsert(existing);
+            when(competenceSummaryRepository.findByCompetenceId(existingId))
+                    .thenReturn(List.of(
+                            new CompetenceTransactionSubtypeSummary(existingId, TransactionType.REVENUE, TransactionStatus.COMPLETED, TransactionSubtype.FIXED, 4L, new BigDecimal("300.00")),
+                            new CompetenceTransactionSubtypeSummary(existingId, TransactionType.EXPENSE, TransactionStatus.PENDING, TransactionSubtype.VARIABLE, 6L, new BigDecimal("120.00"))
+                    ));
 
             // When
             CompetenceDetailResponse response = competenceUseCase.create(request, userId);
@@ -125,8 +141,8 @@ class CompetenceUseCaseTest {
             assertEquals(existingId, response.id());
             assertEquals("02/2026", response.name());
             assertEquals(10L, response.transactionCount());
-            assertEquals(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_EVEN), response.totalRevenue());
-            assertEquals(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_EVEN), response.totalExpense());
+            assertEquals(new BigDecimal("300.00"), response.totalRevenue());
+            assertEquals(new BigDecimal("120.00"), response.totalExpense());
             verify(competenceRepository, never()).save(any(Competence.class));
         }
 
@@ -135,13 +151,9 @@ class CompetenceUseCaseTest {
         void givenSingleDigitMonth_whenCreate_thenFormatsNameWithLeadingZero() {
             // Given
             CreateCompetenceRequest request = new CreateCompetenceRequest(3, 2026);
-            when(competenceRepository.findByUserIdAndMonthAndYear(userId, 3, 2026))
-                    .thenReturn(Optional.empty());
-            when(competenceRepository.save(any(Competence.class)))
-                    .thenAnswer(invocation -> invocation.getArgument(0));
-            when(transactionRepository.countByCompetenceId(any()))
-                    .thenReturn(0L);
-            when(transactionRepository.sumAmountsByCompetenceId(any()))
+            stubCacheMiss();
+            stubUpsert(createCompetence(UUID.randomUUID(), 3, 2026));
+            when(competenceSummaryRepository.findByCompetenceId(any()))
                     .thenReturn(List.of());
 
             // When
@@ -157,13 +169,9 @@ class CompetenceUseCaseTest {
         void givenDoubleDigitMonth_whenCreate_thenFormatsNameCorrectly() {
             // Given
             CreateCompetenceRequest request = new CreateCompetenceRequest(12, 2025);
-            when(competenceRepository.findByUserIdAndMonthAndYear(userId, 12, 2025))
-                    .thenReturn(Optional.empty());
-            when(competenceRepository.save(any(Competence.class)))
-                    .thenAnswer(invocation -> invocation.getArgument(0));
-            when(transactionRepository.countByCompetenceId(any()))
-                    .thenReturn(0L);
-            when(transactionRepository.sumAmountsByCompetenceId(any()))
+            stubCacheMiss();
+            stubUpsert(createCompetence(UUID.randomUUID(), 12, 2025));
+            when(competenceSummaryRepository.findByCompetenceId(any()))
                     .thenReturn(List.of());
 
             // When
@@ -173,6 +181,28 @@ class CompetenceUseCaseTest {
             assertEquals("12/2025", response.name());
             assertEquals(0L, response.transactionCount());
         }
+
+        @Test
+        @DisplayName("Should answer from the competence cache without resolving the competence again")
+        void givenCachedCompetence_whenCreate_thenSkipsRepository() {
+            // Given
+            UUID cachedId = UUID.randomUUID();
+            Competence cached = createCompetence(cachedId, 4, 2026);
+            CreateCompetenceRequest request = new CreateCompetenceRequest(4, 2026);
+            when(competenceCache.get(eq(userId), eq(YearMonth.of(2026, 4)), any())).thenReturn(cached);
+            when(competenceSummaryRepository.findByCompetenceId(cachedId))
+                    .thenReturn(List.of());
+
+            // When
+            CompetenceDetailResponse response = competenceUseCase.create(request, userId);
+
+            // Then
+            assertEquals(cachedId, response.id());
+            assertEquals("04/2026", response.name());
+            assertEquals(cached.getCreatedAt(), response.createdAt());
+            assertEquals(cached.getUpdatedAt(), response.updatedAt());
+            verifyNoInteractions(competenceRepository);
+        }
     }
 
     @Nested
@@ -187,7 +217,7 @@ class CompetenceUseCaseTest {
             Competence competence = createCompetence(compId, 6, 2026);
             when(competenceRepository.findById(compId)).thenReturn(Optional.of(competence));
 
-            when(transactionRepository.sumSubtypeAmountsByCompetenceId(compId)).thenReturn(List.of(
+            when(competenceSummaryRepository.findByCompetenceId(compId)).thenReturn(List.of(
                     new CompetenceTransactionSubtypeSummary(compId, TransactionType.REVENUE, TransactionStatus.PENDING, TransactionSubtype.FIXED, 5L, new BigDecimal("1500.00")),
                     new CompetenceTransactionSubtypeSummary(compId, TransactionType.EXPENSE, TransactionStatus.PENDING, TransactionSubtype.FIXED, 7L, new BigDecimal("770.00")),
                     new CompetenceTransactionSubtypeSummary(compId, TransactionType.REVENUE, TransactionStatus.PENDING, TransactionSubtype.VARIABLE, 2L, new BigDecimal("250.00")),
@@ -246,17 +276,13 @@ class CompetenceUseCaseTest {
 
             when(competenceRepository.findByUserIdOrderByYearDescMonthDesc(userId))
                     .thenReturn(List.of(feb2026, jan2026, dec2025));
-            when(transactionRepository.countTransactionsGroupedByCompetence(userId))
-                    .thenReturn(List.of(
-                            new CompetenceTransactionCountSummary(febId, 3L),
-                            new CompetenceTransactionCountSummary(janId, 1L)
-                    ));
-            when(transactionRepository.sumAmountsGroupedByCompetence(userId))
+            when(competenceSummaryRepository.findByUserId(userId))
                     .thenReturn(List.of(
-                            new CompetenceTransactionAmountSummary(febId, TransactionType.REVENUE, TransactionStatus.COMPLETED, new BigDecimal("200.00")),
-                            new CompetenceTransactionAmountSummary(febId, TransactionType.EXPENSE, TransactionStatus.COMPLETED, new BigDecimal("50.00")),
-                            new CompetenceTransactionAmountSummary(janId, TransactionType.REVENUE, TransactionStatus.PENDING, new BigDecimal("150.00")),
-                            new CompetenceTransactionAmountSummary(janId, TransactionType.EXPENSE, TransactionStatus.COMPLETED, new BigDecimal("30.00"))
+                            new CompetenceTransactionSubtypeSummary(febId, TransactionType.REVENUE, TransactionStatus.COMPLETED, TransactionSubtype.FIXED, 1L, new BigDecimal("120.00")),
+                            new CompetenceTransactionSubtypeSummary(febId, TransactionType.REVENUE, TransactionStatus.COMPLETED, TransactionSubtype.VARIABLE, 1L, new BigDecimal("80.00")),
+                            new CompetenceTransactionSubtypeSummary(febId, TransactionType.EXPENSE, TransactionStatus.COMPLETED, null, 1L, new BigDecimal("50.00")),
+                            new CompetenceTransactionSubtypeSummary(janId, TransactionType.REVENUE, TransactionStatus.PENDING, TransactionSubtype.FIXED, 1L, new BigDecimal("150.00")),
+                            new CompetenceTransactionSubtypeSummary(janId, TransactionType.EXPENSE, TransactionStatus.COMPLETED, TransactionSubtype.VARIABLE, 1L, new BigDecimal("30.00"))
                     ));
 
             // When
@@ -270,7 +296,7 @@ class CompetenceUseCaseTest {
             assertEquals(new BigDecimal("50.00"), responses.get(0).totalExpense());
 
             assertEquals("01/2026", responses.get(1).name());
-            assertEquals(1L, responses.get(1).transactionCount());
+            assertEquals(2L, responses.get(1).transactionCount());
             assertEquals(new BigDecimal("150.00"), responses.get(1).totalRevenue());
             assertEquals(new BigDecimal("30.00"), responses.get(1).totalExpense());
 
@@ -286,9 +312,7 @@ class CompetenceUseCaseTest {
             // Given
             when(competenceRepository.findByUserIdOrderByYearDescMonthDesc(userId))
                     .thenReturn(List.of());
-            when(transactionRepository.countTransactionsGroupedByCompetence(userId))
-                    .thenReturn(List.of());
-            when(transactionRepository.sumAmountsGroupedByCompetence(userId))
+            when(competenceSummaryRepository.findByUserId(userId))
                     .thenReturn(List.of());
 
             // When
@@ -313,12 +337,12 @@ class CompetenceUseCaseTest {
             UUID existingId = UUID.randomUUID();
             Competence existing = createCompetence(existingId, currentMonth, currentYear);
 
-            when(competenceRepository.findByUserIdAndMonthAndYear(userId, currentMonth, currentYear))
-                    .thenReturn(Optional.of(existing));
-            when(transactionRepository.countByCompetenceId(existingId))
-                    .thenReturn(7L);
-            when(transactionRepository.sumAmountsByCompetenceId(existingId))
-                    .thenReturn(List.of());
+            stubCacheMiss();
+            stubUpsert(existing);
+            when(competenceSummaryRepository.findByCompetenceId(existingId))
+                    .thenReturn(List.of(
+                            new CompetenceTransactionSubtypeSummary(existingId, TransactionType.EXPENSE, TransactionStatus.COMPLETED, TransactionSubtype.VARIABLE, 7L, new BigDecimal("70.00"))
+                    ));
 
             // When
             CompetenceDetailResponse response = competenceUseCase.getCurrent(userId);
@@ -329,7 +353,7 @@ class CompetenceUseCaseTest {
             assertEquals(currentYear, response.year());
             assertEquals(7L, response.transactionCount());
             assertEquals(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_EVEN), response.totalRevenue());
-            assertEquals(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_EVEN), response.totalExpense());
+            assertEquals(new BigDecimal("70.00"), response.totalExpense());
             verify(competenceRepository, never()).save(any(Competence.class));
         }
 
@@ -341,10 +365,8 @@ class CompetenceUseCaseTest {
             Integer currentMonth = now.getMonthValue();
             Integer currentYear = now.getYear();
 
-            when(competenceRepository.findByUserIdAndMonthAndYear(userId, currentMonth, currentYear))
-                    .thenReturn(Optional.empty());
-            when(competenceRepository.save(any(Competence.class)))
-                    .thenAnswer(invocation -> invocation.getArgument(0));
+            stubCacheMiss();
+            stubUpsert(createCompetence(UUID.randomUUID(), currentMonth, currentYear));
 
             // When
             CompetenceDetailResponse response = competenceUseCase.getCurrent(userId);
@@ -354,8 +376,44 @@ class CompetenceUseCaseTest {
             assertEquals(currentMonth, response.month());
             assertEquals(currentYear, response.year());
             assertEquals(0L, response.transactionCount());
-            verify(competenceRepository).save(any(Competence.class));
+            verify(competenceRepository).findOrCreateAll(userId, List.of(YearMonth.of(currentYear, currentMonth)));
+        }
+    }
+
+    @Nested
+    @DisplayName("getOrCreateAll")
+    class GetOrCreateAll {
+
+        @Test
+        @DisplayName("Should resolve every period through a single repository call")
+        void givenPeriods_whenGetOrCreateAll_thenDelegatesOnceToRepository() {
+            // Given
+            Set<YearMonth> periods = Set.of(YearMonth.of(2026, 5), YearMonth.of(2026, 6));
+            Map<YearMonth, Competence> resolved = Map.of(
+                    YearMonth.of(2026, 5), createCompetence(UUID.randomUUID(), 5, 2026),
+                    YearMonth.of(2026, 6), createCompetence(UUID.randomUUID(), 6, 2026));
+            when(competenceRepository.findOrCreateAll(userId, periods)).thenReturn(resolved);
+
+            // When
+            Map<YearMonth, Competence> result = competenceUseCase.getOrCreateAll(periods, userId);
+
+            // Then
+            assertEquals(resolved, result);
+            verify(competenceRepository, never()).findByUserIdAndMonthAndYear(any(), any(), any());
+            verify(competenceRepository, never()).findByUserId(any());
         }
+
+        @Test
+        @DisplayName("Should not touch the repository when there is nothing to resolve")
+        void givenNoPeriods_whenGetOrCreateAll_thenReturnsEmpty() {
+            // When
+            Map<YearMonth, Competence> result = competenceUseCase.getOrCreateAll(Set.of(), userId);
+
+            // Then
+            assertTrue(result.isEmpty());
+            verifyNoInteractions(competenceRepository);
+        }
+
     }
 
 }
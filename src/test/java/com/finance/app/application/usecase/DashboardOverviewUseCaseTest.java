@@ -0,0 +1,182 @@
+package com.finance.app.application.usecase;
+
+import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.exception.CompetenceNotFoundException;
+import com.finance.app.domain.exception.DashboardTimeoutException;
+import com.finance.app.web.dto.response.CompetenceDetailResponse;
+import com.finance.app.web.dto.response.DashboardOverviewResponse;
+import com.finance.app.web.dto.response.DashboardSummaryResponse;
+import com.finance.app.web.dto.response.ExpenseByCategoryResponse;
+import com.finance.app.web.dto.response.MonthlyEvolutionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardOverviewUseCaseTest {
+
+    @Mock
+    private DashboardUseCase dashboardUseCase;
+
+    @Mock
+    private CompetenceUseCase competenceUseCase;
+
+    private DashboardOverviewUseCase dashboardOverviewUseCase;
+
+    private final UUID userId = UUID.randomUUID();
+    private final Competence competence = Competence.builder().id(UUID.randomUUID()).userId(userId).month(5).year(2026).build();
+
+    @BeforeEach
+    void setUp() {
+        dashboardOverviewUseCase = new DashboardOverviewUseCase(dashboardUseCase, competenceUseCase,
+                runnable -> runnable, Duration.ofMillis(500), 4);
+        when(competenceUseCase.getOrCreateCurrent(userId)).thenReturn(competence);
+    }
+
+    @Test
+    @DisplayName("Should combine the four aggregates, resolving the current competence only once")
+    void givenAggregates_whenGetOverview_thenReturnsCombinedPayload() {
+        // Given
+        CompetenceDetailResponse detail = CompetenceDetailResponse.builder().id(competence.getId()).transactionCount(3L).build();
+        DashboardSummaryResponse summary = DashboardSummaryResponse.builder().totalRevenue(BigDecimal.TEN).status("POSITIVE").build();
+        List<ExpenseByCategoryResponse> expenses = List.of(ExpenseByCategoryResponse.builder().categoryName("Food").build());
+        List<MonthlyEvolutionResponse> evolution = List.of(MonthlyEvolutionResponse.builder().month(5).year(2026).build());
+        when(competenceUseCase.getDetail(competence)).thenReturn(detail);
+        when(dashboardUseCase.getSummary(competence)).thenReturn(summary);
+        when(dashboardUseCase.getExpensesByCategory(competence)).thenReturn(expenses);
+        when(dashboardUseCase.getEvolution(userId)).thenReturn(evolution);
+
+        // When
+        DashboardOverviewResponse overview = dashboardOverviewUseCase.getOverview(userId);
+
+        // Then
+        assertEquals(detail, overview.currentCompetence());
+        assertEquals(summary, overview.summary());
+        assertEquals(expenses, overview.expensesByCategory());
+        assertEquals(evolution, overview.evolution());
+        verify(competenceUseCase).getOrCreateCurrent(userId);
+    }
+
+    @Test
+    @DisplayName("Should fail with the subtask's own exception without waiting for the slower ones")
+    void givenFailingSubtask_whenGetOverview_thenRethrowsAndCancelsTheRest() throws InterruptedException {
+        // Given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        // Fail only once the slow subtask is running, so it is interrupted rather than never started
+        when(dashboardUseCase.getSummary(competence)).thenAnswer(invocation -> {
+            running.await(1, TimeUnit.SECONDS);
+            throw new CompetenceNotFoundException(competence.getId());
+        });
+        when(dashboardUseCase.getEvolution(userId)).thenAnswer(invocation -> {
+            running.countDown();
+            return blockUntilInterrupted(interrupted);
+        });
+
+        // When
+        long started = System.nanoTime();
+        assertThrows(CompetenceNotFoundException.class, () -> dashboardOverviewUseCase.getOverview(userId));
+
+        // Then
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofMillis(500)) < 0);
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should give up at the deadline and interrupt the subtasks still running")
+    void givenSlowSubtask_whenDeadlinePasses_thenThrowsTimeout() throws InterruptedException {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(dashboardUseCase.getEvolution(userId)).thenAnswer(invocation -> blockUntilInterrupted(interrupted));
+
+        // When / Then
+        assertThrows(DashboardTimeoutException.class, () -> dashboardOverviewUseCase.getOverview(userId));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should answer at the deadline even when a subtask ignores the interrupt")
+    void givenUninterruptibleSubtask_whenDeadlinePasses_thenReturnsWithoutWaitingForIt() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(dashboardUseCase.getEvolution(userId)).thenAnswer(invocation -> blockIgnoringInterrupts(release));
+
+        // When
+        long started = System.nanoTime();
+        try {
+            assertThrows(DashboardTimeoutException.class, () -> dashboardOverviewUseCase.getOverview(userId));
+
+            // Then
+            assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(2)) < 0);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should never run more subtasks at once than there are query slots")
+    void givenSingleQuerySlot_whenGetOverview_thenSubtasksRunOneAtATime() {
+        // Given
+        DashboardOverviewUseCase throttled = new DashboardOverviewUseCase(dashboardUseCase, competenceUseCase,
+                runnable -> runnable, Duration.ofSeconds(5), 1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(competenceUseCase.getDetail(competence)).thenAnswer(invocation -> track(running, peak, null));
+        when(dashboardUseCase.getSummary(competence)).thenAnswer(invocation -> track(running, peak, null));
+        when(dashboardUseCase.getExpensesByCategory(competence)).thenAnswer(invocation -> track(running, peak, List.of()));
+        when(dashboardUseCase.getEvolution(userId)).thenAnswer(invocation -> track(running, peak, List.of()));
+
+        // When
+        throttled.getOverview(userId);
+
+        // Then
+        assertEquals(1, peak.get());
+    }
+
+    private static <T> T track(AtomicInteger running, AtomicInteger peak, T result) throws InterruptedException {
+        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.sleep(20);
+        running.decrementAndGet();
+        return result;
+    }
+
+    // Stands in for a JDBC call that does not react to Thread.interrupt()
+    private static List<MonthlyEvolutionResponse> blockIgnoringInterrupts(CountDownLatch release) {
+        boolean done = false;
+        while (!done) {
+            try {
+                done = release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                // keep waiting, like a driver blocked on the socket
+            }
+        }
+        return List.of();
+    }
+
+    private static List<MonthlyEvolutionResponse> blockUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(Duration.ofSeconds(30));
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return List.of();
+    }
+
+}
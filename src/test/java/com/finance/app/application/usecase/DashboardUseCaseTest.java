@@ -1,12 +1,16 @@
 package com.finance.app.application.usecase;
 
 import com.finance.app.domain.entity.CategoryExpenseSummary;
+import com.finance.app.domain.entity.CommitmentSummary;
 import com.finance.app.domain.entity.Competence;
 import com.finance.app.domain.entity.CompetenceAmountSummary;
 import com.finance.app.domain.entity.TransactionType;
 import com.finance.app.domain.exception.CompetenceNotFoundException;
+import com.finance.app.domain.port.DashboardCache;
 import com.finance.app.domain.repository.CompetenceRepository;
 import com.finance.app.domain.repository.TransactionRepository;
+import com.finance.app.infrastructure.cache.InMemoryDashboardCache;
+import com.finance.app.web.dto.response.CommitmentMonthResponse;
 import com.finance.app.web.dto.response.DashboardSummaryResponse;
 import com.finance.app.web.dto.response.ExpenseByCategoryResponse;
 import com.finance.app.web.dto.response.MonthlyEvolutionResponse;
@@ -16,10 +20,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +35,8 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +48,9 @@ class DashboardUseCaseTest {
         @Mock
         private CompetenceRepository competenceRepository;
 
+        @Spy
+        private DashboardCache dashboardCache = new InMemoryDashboardCache(100, Duration.ofMinutes(5));
+
         @InjectMocks
         private DashboardUseCase dashboardUseCase;
 
@@ -66,15 +78,14 @@ class DashboardUseCaseTest {
                         UUID competenceId = UUID.randomUUID();
                         Competence competence = createCompetence(competenceId, 2, 2026);
                         when(competenceRepository.findById(competenceId)).thenReturn(Optional.of(competence));
-                        when(transactionRepository.sumAmountByCompetenceIdAndType(competenceId,
-                                        TransactionType.REVENUE))
-                                        .thenReturn(BigDecimal.valueOf(5000.00));
-                        when(transactionRepository.sumAmountByCompetenceIdAndType(competenceId,
-                                        TransactionType.EXPENSE))
-                                        .thenReturn(BigDecimal.valueOf(3250.00));
+                        when(transactionRepository.sumAmountByCompetenceIds(List.of(competenceId))).thenReturn(List.of(
+                                        new CompetenceAmountSummary(competenceId, TransactionType.REVENUE,
+                                                        BigDecimal.valueOf(5000.00)),
+                                        new CompetenceAmountSummary(competenceId, TransactionType.EXPENSE,
+                                                        BigDecimal.valueOf(3250.00))));
 
                         // When
-                        DashboardSummaryResponse response = dashboardUseCase.getSummary(competenceId);
+                        DashboardSummaryResponse response = dashboardUseCase.getSummary(competenceId, userId);
 
                         // Then
                         assertEquals(BigDecimal.valueOf(5000.00).setScale(2), response.totalRevenue());
@@ -90,15 +101,14 @@ class DashboardUseCaseTest {
                         UUID competenceId = UUID.randomUUID();
                         Competence competence = createCompetence(competenceId, 2, 2026);
                         when(competenceRepository.findById(competenceId)).thenReturn(Optional.of(competence));
-                        when(transactionRepository.sumAmountByCompetenceIdAndType(competenceId,
-                                        TransactionType.REVENUE))
-                                        .thenReturn(BigDecimal.valueOf(1000.00));
-                        when(transactionRepository.sumAmountByCompetenceIdAndType(competenceId,
-                                        TransactionType.EXPENSE))
-                                        .thenReturn(BigDecimal.valueOf(3000.00));
+                        when(transactionRepository.sumAmountByCompetenceIds(List.of(competenceId))).thenReturn(List.of(
+                                        new CompetenceAmountSummary(competenceId, TransactionType.REVENUE,
+                                                        BigDecimal.valueOf(1000.00)),
+                                        new CompetenceAmountSummary(competenceId, TransactionType.EXPENSE,
+                                                        BigDecimal.valueOf(3000.00))));
 
                         // When
-                        DashboardSummaryResponse response = dashboardUseCase.getSummary(competenceId);
+                        DashboardSummaryResponse response = dashboardUseCase.getSummary(competenceId, userId);
 
                         // Then
                         assertEquals(BigDecimal.valueOf(-2000.00).setScale(2), response.monthlyBalance());
@@ -112,15 +122,14 @@ class DashboardUseCaseTest {
                         UUID competenceId = UUID.randomUUID();
                         Competence competence = createCompetence(competenceId, 2, 2026);
                         when(competenceRepository.findById(competenceId)).thenReturn(Optional.of(competence));
-                        when(transactionRepository.sumAmountByCompetenceIdAndType(competenceId,
-                                        TransactionType.REVENUE))
-                                        .thenReturn(BigDecimal.valueOf(2000.00));
-                        when(transactionRepository.sumAmountByCompetenceIdAndType(competenceId,
-                                        TransactionType.EXPENSE))
-                                        .thenReturn(BigDecimal.valueOf(2000.00));
+                        when(transactionRepository.sumAmountByCompetenceIds(List.of(competenceId))).thenReturn(List.of(
+                                        new CompetenceAmountSummary(competenceId, TransactionType.REVENUE,
+                                                        BigDecimal.valueOf(2000.00)),
+                                        new CompetenceAmountSummary(competenceId, TransactionType.EXPENSE,
+                                                        BigDecimal.valueOf(2000.00))));
 
                         // When
-                        DashboardSummaryResponse response = dashboardUseCase.getSummary(competenceId);
+                        DashboardSummaryResponse response = dashboardUseCase.getSummary(competenceId, userId);
 
                         // Then
                         assertEquals(BigDecimal.ZERO.setScale(2), response.monthlyBalance());
@@ -134,15 +143,14 @@ class DashboardUseCaseTest {
                         UUID competenceId = UUID.randomUUID();
                         Competence competence = createCompetence(competenceId, 2, 2026);
                         when(competenceRepository.findById(competenceId)).thenReturn(Optional.of(competence));
-                        when(transactionRepository.sumAmountByCompetenceIdAndType(competenceId,
-                                        TransactionType.REVENUE))
-                                        .thenReturn(BigDecimal.ZERO);
-                        when(transactionRepository.sumAmountByCompetenceIdAndType(competenceId,
-                                        TransactionType.EXPENSE))
-                                        .thenReturn(BigDecimal.ZERO);
+                        when(transactionRepository.sumAmountByCompetenceIds(List.of(competenceId))).thenReturn(List.of(
+                                        new CompetenceAmountSummary(competenceId, TransactionType.REVENUE,
+                                                        BigDecimal.ZERO),
+                                        new CompetenceAmountSummary(competenceId, TransactionType.EXPENSE,
+                                                        BigDecimal.ZERO)));
 
                         // When
-                        DashboardSummaryResponse response = dashboardUseCase.getSummary(competenceId);
+                        DashboardSummaryResponse response = dashboardUseCase.getSummary(competenceId, userId);
 
                         // Then
                         assertEquals(BigDecimal.ZERO.setScale(2), response.totalRevenue());
@@ -160,7 +168,47 @@ class DashboardUseCaseTest {
 
                         // When / Then
                         assertThrows(CompetenceNotFoundException.class,
-                                        () -> dashboardUseCase.getSummary(competenceId));
+                                        () -> dashboardUseCase.getSummary(competenceId, userId));
+                }
+
+                @Test
+                @DisplayName("Should not expose a competence that belongs to another user")
+                void givenCompetenceOfOtherUser_whenGetSummary_thenThrows() {
+                        // Given
+                        UUID competenceId = UUID.randomUUID();
+                        Competence competence = createCompetence(competenceId, 2, 2026);
+                        competence.setUserId(UUID.randomUUID());
+                        when(competenceRepository.findById(competenceId)).thenReturn(Optional.of(competence));
+
+                        // When / Then
+                        assertThrows(CompetenceNotFoundException.class,
+                                        () -> dashboardUseCase.getSummary(competenceId, userId));
+                }
+
+                @Test
+                @DisplayName("Should serve repeated reads from the cache until the competence is evicted")
+                void givenCachedSummary_whenReadAgain_thenQueriesOnlyAfterEviction() {
+                        // Given
+                        UUID competenceId = UUID.randomUUID();
+                        Competence competence = createCompetence(competenceId, 2, 2026);
+                        when(competenceRepository.findById(competenceId)).thenReturn(Optional.of(competence));
+                        when(transactionRepository.sumAmountByCompetenceIds(List.of(competenceId)))
+                                        .thenReturn(List.of(new CompetenceAmountSummary(competenceId,
+                                                        TransactionType.REVENUE, BigDecimal.valueOf(100.00))))
+                                        .thenReturn(List.of(new CompetenceAmountSummary(competenceId,
+                                                        TransactionType.REVENUE, BigDecimal.valueOf(250.00))));
+
+                        // When
+                        DashboardSummaryResponse first = dashboardUseCase.getSummary(competenceId, userId);
+                        DashboardSummaryResponse cached = dashboardUseCase.getSummary(competenceId, userId);
+                        dashboardCache.evict(userId, List.of(competenceId));
+                        DashboardSummaryResponse reloaded = dashboardUseCase.getSummary(competenceId, userId);
+
+                        // Then
+                        assertEquals(first, cached);
+                        assertEquals(BigDecimal.valueOf(250.00).setScale(2), reloaded.totalRevenue());
+                        verify(competenceRepository, times(2)).findById(competenceId);
+                        verify(transactionRepository, times(2)).sumAmountByCompetenceIds(List.of(competenceId));
                 }
         }
 
@@ -185,7 +233,7 @@ class DashboardUseCaseTest {
 
                         // When
                         List<ExpenseByCategoryResponse> responses = dashboardUseCase
-                                        .getExpensesByCategory(competenceId);
+                                        .getExpensesByCategory(competenceId, userId);
 
                         // Then
                         assertEquals(2, responses.size());
@@ -208,7 +256,7 @@ class DashboardUseCaseTest {
 
                         // When
                         List<ExpenseByCategoryResponse> responses = dashboardUseCase
-                                        .getExpensesByCategory(competenceId);
+                                        .getExpensesByCategory(competenceId, userId);
 
                         // Then
                         assertTrue(responses.isEmpty());
@@ -223,7 +271,7 @@ class DashboardUseCaseTest {
 
                         // When / Then
                         assertThrows(CompetenceNotFoundException.class,
-                                        () -> dashboardUseCase.getExpensesByCategory(competenceId));
+                                        () -> dashboardUseCase.getExpensesByCategory(competenceId, userId));
                 }
 
                 @Test
@@ -241,7 +289,7 @@ class DashboardUseCaseTest {
 
                         // When
                         List<ExpenseByCategoryResponse> responses = dashboardUseCase
-                                        .getExpensesByCategory(competenceId);
+                                        .getExpensesByCategory(competenceId, userId);
 
                         // Then
                         assertEquals(1, responses.size());
@@ -380,4 +428,64 @@ class DashboardUseCaseTest {
                 }
         }
 
+        @Nested
+        @DisplayName("getCommitments")
+        class GetCommitments {
+
+                private final YearMonth current = YearMonth.now();
+
+                @Test
+                @DisplayName("Should list every month of the window, splitting each category into outflow and inflow")
+                void givenCommitments_whenGetCommitments_thenReturnsOneEntryPerMonth() {
+                        // Given
+                        UUID housing = UUID.randomUUID();
+                        UUID salary = UUID.randomUUID();
+                        YearMonth next = current.plusMonths(1);
+                        when(transactionRepository.sumPendingCommitments(userId, current, current.plusMonths(2)))
+                                        .thenReturn(List.of(
+                                                        new CommitmentSummary(next.getYear(), next.getMonthValue(), housing,
+                                                                        "Housing", "#FF0000", TransactionType.EXPENSE, new BigDecimal("1200")),
+                                                        new CommitmentSummary(next.getYear(), next.getMonthValue(), salary,
+                                                                        "Salary", "#00FF00", TransactionType.REVENUE, new BigDecimal("5000")),
+                                                        new CommitmentSummary(next.getYear(), next.getMonthValue(), housing,
+                                                                        "Housing", "#FF0000", TransactionType.REVENUE, new BigDecimal("150.5"))));
+
+                        // When
+                        List<CommitmentMonthResponse> responses = dashboardUseCase.getCommitments(userId, 3);
+
+                        // Then
+                        assertEquals(3, responses.size());
+                        assertTrue(responses.get(0).categories().isEmpty());
+                        assertEquals(BigDecimal.ZERO.setScale(2), responses.get(0).totalOutflow());
+
+                        CommitmentMonthResponse month = responses.get(1);
+                        assertEquals(next.getMonthValue(), month.month());
+                        assertEquals(new BigDecimal("1200.00"), month.totalOutflow());
+                        assertEquals(new BigDecimal("5150.50"), month.totalInflow());
+                        assertEquals(2, month.categories().size());
+                        assertEquals(housing, month.categories().get(0).categoryId());
+                        assertEquals(new BigDecimal("1200.00"), month.categories().get(0).outflow());
+                        assertEquals(new BigDecimal("150.50"), month.categories().get(0).inflow());
+                        assertEquals(new BigDecimal("0.00"), month.categories().get(1).outflow());
+                }
+
+                @Test
+                @DisplayName("Should cap the window and serve repeated reads from the cache until a competence is written")
+                void givenCachedCommitments_whenReadAgain_thenQueriesOnlyAfterEviction() {
+                        // Given
+                        YearMonth last = current.plusMonths(23);
+                        when(transactionRepository.sumPendingCommitments(userId, current, last)).thenReturn(List.of());
+
+                        // When
+                        List<CommitmentMonthResponse> first = dashboardUseCase.getCommitments(userId, 120);
+                        dashboardUseCase.getCommitments(userId, 120);
+                        dashboardCache.evict(userId, List.of(UUID.randomUUID()));
+                        dashboardUseCase.getCommitments(userId, 120);
+
+                        // Then
+                        assertEquals(24, first.size());
+                        verify(transactionRepository, times(2)).sumPendingCommitments(userId, current, last);
+                }
+        }
+
 }
@@ -0,0 +1,237 @@
+package com.finance.app.application.usecase;
+
+import com.finance.app.domain.entity.Account;
+import com.finance.app.domain.entity.ImportJob;
+import com.finance.app.domain.entity.ImportJobStatus;
+import com.finance.app.domain.entity.ParsedTransaction;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.exception.ImportJobNotFoundException;
+import com.finance.app.domain.repository.AccountRepository;
+import com.finance.app.domain.repository.CategoryRepository;
+import com.finance.app.domain.repository.ImportJobRepository;
+import com.finance.app.domain.service.StatementParser;
+import com.finance.app.web.dto.response.ImportJobResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportJobUseCaseTest {
+
+    @Mock
+    private ImportStatementUseCase importStatementUseCase;
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private StatementParser parser;
+
+    @TempDir
+    Path spoolDirectory;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID jobId = UUID.randomUUID();
+    private final AtomicReference<ImportJob> savedJob = new AtomicReference<>();
+
+    private ImportJobUseCase createUseCase(TaskExecutor executor) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        return new ImportJobUseCase(importStatementUseCase, importJobRepository, accountRepository,
+                categoryRepository, transactionTemplate, executor, spoolDirectory);
+    }
+
+    private Account createAccount() {
+        return Account.builder().id(accountId).userId(userId).balance(BigDecimal.ZERO).build();
+    }
+
+    private Stream<ParsedTransaction> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ParsedTransaction("id-" + i, "Row " + i, BigDecimal.ONE,
+                        LocalDateTime.of(2026, 5, 1, 0, 0), TransactionType.EXPENSE));
+    }
+
+    private InputStream upload() {
+        return new ByteArrayInputStream("statement".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("submit")
+    class Submit {
+
+        @BeforeEach
+        void setUp() {
+            when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(createAccount()));
+            when(importStatementUseCase.resolveParser("statement.csv", "text/csv")).thenReturn(parser);
+            when(importJobRepository.save(any(ImportJob.class))).thenAnswer(invocation -> {
+                ImportJob job = invocation.getArgument(0);
+                if (job.getId() == null) {
+                    job.setId(jobId);
+                }
+                savedJob.set(job);
+                return job;
+            });
+        }
+
+        @Test
+        @DisplayName("Should return a pending job and commit the statement chunk by chunk in the background")
+        void givenStatement_whenSubmit_thenProcessesInCommittedChunks() throws IOException {
+            // Given
+            ImportJobUseCase useCase = createUseCase(Runnable::run);
+            when(parser.stream(any())).thenAnswer(invocation -> rows(700));
+            when(importStatementUseCase.importChunk(anyList(), any(), isNull(), eq(userId), anyMap(), anyMap()))
+                    .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size() - 1);
+
+            // When
+            ImportJobResponse response = useCase.submit(upload(), "statement.csv", "text/csv", accountId, null, userId);
+
+            // Then
+            assertEquals(jobId, response.id());
+            assertEquals(ImportJobStatus.PENDING, response.status());
+
+            ImportJob job = savedJob.get();
+            assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+            assertEquals(700, job.getParsedCount());
+            assertEquals(698, job.getImportedCount());
+            assertEquals(2, job.getIgnoredCount());
+            assertNotNull(job.getFinishedAt());
+            verify(importStatementUseCase, times(2)).importChunk(anyList(), any(), isNull(), eq(userId), anyMap(), anyMap());
+            verify(accountRepository, never()).save(any(Account.class));
+        }
+
+        @Test
+        @DisplayName("Should keep committed chunks and report the error when parsing fails midway")
+        void givenBrokenRow_whenJobRuns_thenJobFailsWithError() throws IOException {
+            // Given
+            ImportJobUseCase useCase = createUseCase(Runnable::run);
+            when(parser.stream(any())).thenAnswer(invocation -> Stream.concat(rows(500),
+                    Stream.<ParsedTransaction>generate(() -> {
+                        throw new RuntimeException("Failed to parse CSV file", new NumberFormatException("abc"));
+                    }).limit(1)));
+            when(importStatementUseCase.importChunk(anyList(), any(), isNull(), eq(userId), anyMap(), anyMap()))
+                    .thenReturn(500);
+
+            // When
+            useCase.submit(upload(), "statement.csv", "text/csv", accountId, null, userId);
+
+            // Then
+            ImportJob job = savedJob.get();
+            assertEquals(ImportJobStatus.FAILED, job.getStatus());
+            assertEquals(500, job.getImportedCount());
+            assertEquals("Failed to parse CSV file: abc", job.getErrorMessage());
+        }
+
+        @Test
+        @DisplayName("Should mark the job as failed and rethrow when the import queue is full")
+        void givenFullQueue_whenSubmit_thenRejects() {
+            // Given
+            ImportJobUseCase useCase = createUseCase(task -> {
+                throw new TaskRejectedException("queue full");
+            });
+
+            // When / Then
+            assertThrows(TaskRejectedException.class,
+                    () -> useCase.submit(upload(), "statement.csv", "text/csv", accountId, null, userId));
+            assertEquals(ImportJobStatus.FAILED, savedJob.get().getStatus());
+            assertTrue(savedJob.get().getErrorMessage().contains("queue is full"));
+            verify(parser, never()).stream(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getJob")
+    class GetJob {
+
+        @Test
+        @DisplayName("Should not expose a job through another account's path")
+        void givenJobOfOtherAccount_whenGetJob_thenThrowsNotFound() {
+            // Given
+            ImportJobUseCase useCase = createUseCase(Runnable::run);
+            ImportJob job = ImportJob.create(userId, UUID.randomUUID(), "statement.csv");
+            job.setId(jobId);
+            when(importJobRepository.findByIdAndUserId(jobId, userId)).thenReturn(Optional.of(job));
+
+            // When / Then
+            assertThrows(ImportJobNotFoundException.class, () -> useCase.getJob(jobId, accountId, userId));
+        }
+    }
+
+    @Nested
+    @DisplayName("recoverInterruptedJobs")
+    class RecoverInterruptedJobs {
+
+        @Test
+        @DisplayName("Should fail the jobs and delete the uploads left behind by the previous process")
+        void givenLeftoversFromPreviousRun_whenRecover_thenFailsJobsAndDeletesOrphanedFiles() throws IOException {
+            // Given
+            ImportJobUseCase useCase = createUseCase(Runnable::run);
+            Instant processStart = Instant.now().minus(Duration.ofMinutes(5));
+            Path orphaned = Files.createFile(spoolDirectory.resolve("julius-import-orphaned.tmp"));
+            Files.setLastModifiedTime(orphaned, FileTime.from(processStart.minus(Duration.ofHours(1))));
+            Path current = Files.createFile(spoolDirectory.resolve("julius-import-current.tmp"));
+            when(importJobRepository.failUnfinished(any(LocalDateTime.class), anyString())).thenReturn(2);
+
+            // When
+            useCase.recoverInterruptedJobs(processStart);
+
+            // Then
+            verify(importJobRepository).failUnfinished(eq(LocalDateTime.ofInstant(processStart, ZoneId.systemDefault())),
+                    argThat(message -> message.contains("server restart")));
+            assertFalse(Files.exists(orphaned));
+            assertTrue(Files.exists(current));
+        }
+    }
+
+}
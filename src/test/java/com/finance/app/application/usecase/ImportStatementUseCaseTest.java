@@ -0,0 +1,228 @@
+package com.finance.app.application.usecase;
+
+import com.finance.app.domain.entity.Account;
+import com.finance.app.domain.entity.Category;
+import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.entity.ParsedTransaction;
+import com.finance.app.domain.entity.Transaction;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.exception.AccountNotFoundException;
+import com.finance.app.domain.port.DashboardCache;
+import com.finance.app.domain.repository.AccountRepository;
+import com.finance.app.domain.repository.CompetenceSummaryRepository;
+import com.finance.app.domain.repository.CategoryRepository;
+import com.finance.app.domain.repository.TransactionRepository;
+import com.finance.app.domain.service.StatementParser;
+import com.finance.app.domain.service.TransactionService;
+import com.finance.app.web.dto.response.ImportStatementResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportStatementUseCaseTest {
+
+    @Mock
+    private StatementParser parser;
+
+    @Mock
+    private CategoryUseCase categoryUseCase;
+
+    @Mock
+    private CompetenceUseCase competenceUseCase;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private CompetenceSummaryRepository competenceSummaryRepository;
+
+    @Mock
+    private DashboardCache dashboardCache;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Captor
+    private ArgumentCaptor<List<Transaction>> transactionsCaptor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ImportStatementUseCase importStatementUseCase;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID uncategorizedExpenseId = UUID.randomUUID();
+    private final UUID uncategorizedRevenueId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        importStatementUseCase = new ImportStatementUseCase(List.of(parser), categoryUseCase, competenceUseCase,
+                accountRepository, categoryRepository, transactionRepository, competenceSummaryRepository,
+                dashboardCache, new TransactionService(), meterRegistry);
+    }
+
+    private Account createAccount(BigDecimal balance) {
+        return Account.builder()
+                .id(accountId)
+                .userId(userId)
+                .balance(balance.setScale(2, RoundingMode.HALF_EVEN))
+                .build();
+    }
+
+    private Competence createCompetence(int month, int year) {
+        return Competence.builder().id(UUID.randomUUID()).userId(userId).month(month).year(year).build();
+    }
+
+    private ParsedTransaction parsed(String externalId, String amount, TransactionType type, LocalDateTime dateTime) {
+        return new ParsedTransaction(externalId, "Row " + externalId, new BigDecimal(amount), dateTime, type);
+    }
+
+    private ImportStatementResponse runImport() {
+        return importStatementUseCase.importStatement(new ByteArrayInputStream(new byte[0]), "statement.csv",
+                "text/csv", accountId, null, userId);
+    }
+
+    @Test
+    @DisplayName("Should import new rows in one batch, skip duplicates and apply a single balance delta")
+    void givenStatementWithDuplicates_whenImport_thenBatchesNewRowsOnly() {
+        // Given
+        Account account = createAccount(BigDecimal.valueOf(1000));
+        Competence may = createCompetence(5, 2026);
+        Competence june = createCompetence(6, 2026);
+        List<ParsedTransaction> rows = List.of(
+                parsed("a", "100.00", TransactionType.EXPENSE, LocalDateTime.of(2026, 5, 2, 0, 0)),
+                parsed("b", "40.00", TransactionType.EXPENSE, LocalDateTime.of(2026, 5, 3, 0, 0)),
+                parsed("c", "500.00", TransactionType.REVENUE, LocalDateTime.of(2026, 6, 1, 0, 0)),
+                parsed("c", "500.00", TransactionType.REVENUE, LocalDateTime.of(2026, 6, 1, 0, 0)));
+
+        when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(account));
+        when(parser.supports(any(), any())).thenReturn(true);
+        when(parser.stream(any())).thenReturn(rows.stream());
+        when(transactionRepository.findExistingExternalIds(anyCollection())).thenReturn(Set.of("b"));
+        when(competenceUseCase.getOrCreateAll(eq(Set.of(YearMonth.of(2026, 5), YearMonth.of(2026, 6))), eq(userId)))
+                .thenReturn(Map.of(YearMonth.of(2026, 5), may, YearMonth.of(2026, 6), june));
+        when(categoryUseCase.getOrCreateUncategorized(userId, TransactionType.EXPENSE))
+                .thenReturn(Category.builder().id(uncategorizedExpenseId).build());
+        when(categoryUseCase.getOrCreateUncategorized(userId, TransactionType.REVENUE))
+                .thenReturn(Category.builder().id(uncategorizedRevenueId).build());
+
+        // When
+        ImportStatementResponse response = runImport();
+
+        // Then
+        assertEquals(2, response.importedCount());
+        assertEquals(2, response.ignoredCount());
+
+        verify(transactionRepository).saveAll(transactionsCaptor.capture());
+        List<Transaction> saved = transactionsCaptor.getValue();
+        assertEquals(2, saved.size());
+        assertEquals(may.getId(), saved.get(0).getCompetenceId());
+        assertEquals(uncategorizedExpenseId, saved.get(0).getCategoryId());
+        assertEquals(june.getId(), saved.get(1).getCompetenceId());
+        assertEquals(uncategorizedRevenueId, saved.get(1).getCategoryId());
+
+        verify(transactionRepository, never()).existsByExternalId(any());
+        verify(accountRepository).adjustBalance(accountId, new BigDecimal("400.00"));
+        verify(competenceSummaryRepository).apply(eq(userId), argThat(deltas -> deltas.size() == 2));
+        verify(accountRepository, never()).save(any());
+
+        assertEquals(2, meterRegistry.counter(ImportStatementUseCase.IMPORT_ROWS_METRIC, "outcome", "imported").count());
+        assertEquals(2, meterRegistry.counter(ImportStatementUseCase.IMPORT_ROWS_METRIC, "outcome", "ignored").count());
+    }
+
+    @Test
+    @DisplayName("Should not write anything when every row is a duplicate")
+    void givenOnlyDuplicates_whenImport_thenNothingIsSaved() {
+        // Given
+        when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(createAccount(BigDecimal.ZERO)));
+        when(parser.supports(any(), any())).thenReturn(true);
+        when(parser.stream(any())).thenReturn(Stream.of(
+                parsed("a", "10.00", TransactionType.EXPENSE, LocalDateTime.of(2026, 5, 2, 0, 0))));
+        when(transactionRepository.findExistingExternalIds(anyCollection())).thenReturn(Set.of("a"));
+
+        // When
+        ImportStatementResponse response = runImport();
+
+        // Then
+        assertEquals(0, response.importedCount());
+        assertEquals(1, response.ignoredCount());
+        verify(transactionRepository, never()).saveAll(any());
+        verify(accountRepository, never()).adjustBalance(any(), any());
+        verify(competenceUseCase, never()).getOrCreateAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should persist large statements in chunks while resolving competences only once")
+    void givenLargeStatement_whenImport_thenPersistsInChunks() {
+        // Given
+        Account account = createAccount(BigDecimal.ZERO);
+        Competence may = createCompetence(5, 2026);
+        Stream<ParsedTransaction> rows = IntStream.range(0, 1200)
+                .mapToObj(i -> parsed("id-" + i, "1.00", TransactionType.REVENUE, LocalDateTime.of(2026, 5, 1, 0, 0)));
+
+        when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(account));
+        when(parser.supports(any(), any())).thenReturn(true);
+        when(parser.stream(any())).thenReturn(rows);
+        when(transactionRepository.findExistingExternalIds(anyCollection())).thenReturn(Set.of());
+        when(competenceUseCase.getOrCreateAll(eq(Set.of(YearMonth.of(2026, 5))), eq(userId)))
+                .thenReturn(Map.of(YearMonth.of(2026, 5), may));
+        when(categoryUseCase.getOrCreateUncategorized(userId, TransactionType.REVENUE))
+                .thenReturn(Category.builder().id(uncategorizedRevenueId).build());
+
+        // When
+        ImportStatementResponse response = runImport();
+
+        // Then
+        assertEquals(1200, response.importedCount());
+        verify(transactionRepository, times(3)).findExistingExternalIds(anyCollection());
+        verify(transactionRepository, times(3)).saveAll(any());
+        verify(competenceUseCase, times(1)).getOrCreateAll(any(), any());
+        // One delta per committed chunk: 500 + 500 + 200
+        verify(accountRepository, times(2)).adjustBalance(accountId, new BigDecimal("500.00"));
+        verify(accountRepository).adjustBalance(accountId, new BigDecimal("200.00"));
+    }
+
+    @Test
+    @DisplayName("Should throw AccountNotFoundException when account does not belong to the user")
+    void givenUnknownAccount_whenImport_thenThrows() {
+        when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.empty());
+
+        assertThrows(AccountNotFoundException.class, this::runImport);
+        verify(parser, never()).stream(any());
+    }
+
+}
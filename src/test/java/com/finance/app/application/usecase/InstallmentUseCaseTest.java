@@ -4,13 +4,18 @@ import com.finance.app.domain.entity.Account;
 import com.finance.app.domain.entity.Category;
 import com.finance.app.domain.entity.Competence;
 import com.finance.app.domain.entity.InstallmentSeries;
+import com.finance.app.domain.entity.InstallmentSeriesDelta;
 import com.finance.app.domain.entity.Transaction;
 import com.finance.app.domain.entity.TransactionStatus;
 import com.finance.app.domain.entity.TransactionType;
 import com.finance.app.domain.exception.InstallmentValidationException;
+import com.finance.app.domain.exception.TransactionNotFoundException;
+import com.finance.app.domain.port.DashboardCache;
 import com.finance.app.domain.repository.AccountRepository;
 import com.finance.app.domain.repository.CategoryRepository;
 import com.finance.app.domain.repository.CompetenceRepository;
+import com.finance.app.domain.repository.CompetenceSummaryRepository;
+import com.finance.app.domain.repository.InstallmentSeriesRepository;
 import com.finance.app.domain.repository.TransactionRepository;
 import com.finance.app.domain.service.TransactionService;
 import com.finance.app.web.dto.request.CreateInstallmentRequest;
@@ -23,22 +28,27 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class InstallmentUseCaseTest {
@@ -56,7 +66,16 @@ class InstallmentUseCaseTest {
     private CompetenceRepository competenceRepository;
 
     @Mock
-    private TransactionService transactionService;
+    private CompetenceSummaryRepository competenceSummaryRepository;
+
+    @Mock
+    private InstallmentSeriesRepository installmentSeriesRepository;
+
+    @Mock
+    private DashboardCache dashboardCache;
+
+    @Spy
+    private TransactionService transactionService = new TransactionService();
 
     @InjectMocks
     private InstallmentUseCase installmentUseCase;
@@ -81,6 +100,14 @@ class InstallmentUseCaseTest {
         return Competence.builder().id(UUID.randomUUID()).userId(userId).month(month).year(year).build();
     }
 
+    private void stubCompetenceRange() {
+        when(competenceRepository.findOrCreateAll(eq(userId), any())).thenAnswer(i -> {
+            Collection<YearMonth> periods = i.getArgument(1);
+            return periods.stream().collect(Collectors.toMap(Function.identity(),
+                    period -> mockCompetence(period.getMonthValue(), period.getYear())));
+        });
+    }
+
     @Nested
     @DisplayName("Create Installment Series")
     class CreateSeries {
@@ -91,8 +118,7 @@ class InstallmentUseCaseTest {
              when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(mockAccount()));
              when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(mockCategory()));
              when(competenceRepository.findById(competenceId)).thenReturn(Optional.of(mockCompetence(1, 2026)));
-             when(competenceRepository.findByUserIdAndMonthAndYear(eq(userId), anyInt(), anyInt()))
-                    .thenAnswer(i -> Optional.of(mockCompetence(i.getArgument(1), i.getArgument(2))));
+             stubCompetenceRange();
              
              when(transactionRepository.save(any())).thenAnswer(i -> i.getArgument(0));
              when(transactionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
@@ -106,12 +132,15 @@ class InstallmentUseCaseTest {
 
              verify(transactionRepository).save(any(Transaction.class));
              verify(transactionRepository).saveAll(transactionsCaptor.capture());
+             // Pending installments leave the balance untouched
+             verify(accountRepository).adjustBalance(accountId, BigDecimal.ZERO);
              
              List<Transaction> savedChildren = transactionsCaptor.getValue();
              assertEquals(2, savedChildren.size()); // 3 total - 1 root = 2 children
              
              assertEquals(new BigDecimal("300.00"), series.totalAmount());
              assertEquals(3, series.totalInstallments());
+             verify(installmentSeriesRepository).create(userId, series);
         }
 
         @Test
@@ -120,8 +149,7 @@ class InstallmentUseCaseTest {
              when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(mockAccount()));
              when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(mockCategory()));
              when(competenceRepository.findById(competenceId)).thenReturn(Optional.of(mockCompetence(1, 2026)));
-             when(competenceRepository.findByUserIdAndMonthAndYear(eq(userId), anyInt(), anyInt()))
-                    .thenAnswer(i -> Optional.of(mockCompetence(i.getArgument(1), i.getArgument(2))));
+             stubCompetenceRange();
              
              when(transactionRepository.save(any())).thenAnswer(i -> i.getArgument(0));
              when(transactionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
@@ -153,10 +181,13 @@ class InstallmentUseCaseTest {
                      new BigDecimal("400.00"), null, 4, LocalDateTime.now(), TransactionType.EXPENSE, null, TransactionStatus.PENDING
              );
 
-             // Only mock findByUserIdAndMonthAndYear matching the Rollover checks.
-             when(competenceRepository.findByUserIdAndMonthAndYear(userId, 12, 2026)).thenReturn(Optional.of(mockCompetence(12, 2026)));
-             when(competenceRepository.findByUserIdAndMonthAndYear(userId, 1, 2027)).thenReturn(Optional.of(mockCompetence(1, 2027)));
-             when(competenceRepository.findByUserIdAndMonthAndYear(userId, 2, 2027)).thenReturn(Optional.of(mockCompetence(2, 2027)));
+             Competence december = mockCompetence(12, 2026);
+             Competence january = mockCompetence(1, 2027);
+             Competence february = mockCompetence(2, 2027);
+             when(competenceRepository.findOrCreateAll(userId,
+                     List.of(YearMonth.of(2026, 12), YearMonth.of(2027, 1), YearMonth.of(2027, 2))))
+                     .thenReturn(Map.of(YearMonth.of(2026, 12), december, YearMonth.of(2027, 1), january,
+                             YearMonth.of(2027, 2), february));
 
              when(transactionRepository.save(any())).thenAnswer(i -> i.getArgument(0));
              when(transactionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
@@ -168,7 +199,9 @@ class InstallmentUseCaseTest {
              
              List<Transaction> savedChildren = transactionsCaptor.getValue();
              assertEquals(3, savedChildren.size()); // 4 total - 1 root = 3 children
-             // Competence interactions validated via strict mocks/returns above.
+             assertEquals(List.of(december.getId(), january.getId(), february.getId()),
+                     savedChildren.stream().map(Transaction::getCompetenceId).toList());
+             verify(competenceRepository, never()).findByUserIdAndMonthAndYear(any(), any(), any());
         }
 
         @Test
@@ -204,8 +237,7 @@ class InstallmentUseCaseTest {
              when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(mockAccount()));
              when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(mockCategory()));
              when(competenceRepository.findById(competenceId)).thenReturn(Optional.of(mockCompetence(1, 2026)));
-             when(competenceRepository.findByUserIdAndMonthAndYear(eq(userId), anyInt(), anyInt()))
-                    .thenAnswer(i -> Optional.of(mockCompetence(i.getArgument(1), i.getArgument(2))));
+             stubCompetenceRange();
              
              when(transactionRepository.save(any())).thenAnswer(i -> i.getArgument(0));
              when(transactionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
@@ -257,7 +289,46 @@ class InstallmentUseCaseTest {
             assertEquals(new BigDecimal("200.00"), pending3.getAmount());
             assertEquals(new BigDecimal("200.00"), pending4.getAmount());
             
-            verify(transactionRepository, times(2)).save(any(Transaction.class));
+            verify(transactionRepository).updateAmounts(Map.of(
+                    pending3.getId(), new BigDecimal("200.00"),
+                    pending4.getId(), new BigDecimal("200.00")));
+            verify(transactionRepository, never()).save(any(Transaction.class));
+            // Pending sum goes from 200 to 400; counts are untouched
+            verify(installmentSeriesRepository).apply(List.of(
+                    new InstallmentSeriesDelta(parentId, 0, 0, BigDecimal.ZERO, new BigDecimal("200.00"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Installment Progress")
+    class Progress {
+
+        @Test
+        @DisplayName("Should read progress from the series header without loading the installments")
+        void shouldReadProgressFromHeader() {
+            // Given
+            UUID parentId = UUID.randomUUID();
+            InstallmentSeries header = new InstallmentSeries(parentId, "Purchase", new BigDecimal("400.00"), 4, 1, 3,
+                    new BigDecimal("100.00"), new BigDecimal("300.00"));
+            when(installmentSeriesRepository.findByParentId(parentId)).thenReturn(Optional.of(header));
+
+            // When
+            InstallmentSeries series = installmentUseCase.getInstallmentProgress(parentId);
+
+            // Then
+            assertEquals(header, series);
+            verify(transactionRepository, never()).findByParentId(any());
+        }
+
+        @Test
+        @DisplayName("Should throw when the series has no header")
+        void shouldThrowWhenSeriesIsUnknown() {
+            // Given
+            UUID parentId = UUID.randomUUID();
+            when(installmentSeriesRepository.findByParentId(parentId)).thenReturn(Optional.empty());
+
+            // When / Then
+            assertThrows(TransactionNotFoundException.class, () -> installmentUseCase.getInstallmentProgress(parentId));
         }
     }
     
@@ -269,24 +340,23 @@ class InstallmentUseCaseTest {
         @DisplayName("Should invert balance for paid installments when changing type")
         void shouldInvertBalanceForPaid() {
             UUID parentId = UUID.randomUUID();
-            Account account = mockAccount();
             Transaction paid = Transaction.builder().id(parentId).parentId(parentId).accountId(accountId).userId(userId)
                     .amount(BigDecimal.valueOf(100.00)).type(TransactionType.EXPENSE).status(TransactionStatus.COMPLETED).build();
             Transaction pending = Transaction.builder().id(UUID.randomUUID()).parentId(parentId).accountId(accountId).userId(userId)
                     .amount(BigDecimal.valueOf(100.00)).type(TransactionType.EXPENSE).status(TransactionStatus.PENDING).build();
 
             when(transactionRepository.findByParentId(parentId)).thenReturn(List.of(paid, pending));
-            when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(account));
             
             installmentUseCase.changeInstallmentType(parentId, TransactionType.REVENUE);
 
             assertEquals(TransactionType.REVENUE, paid.getType());
             assertEquals(TransactionType.REVENUE, pending.getType());
 
-            verify(transactionService).reverseTransaction(paid, account);
-            verify(transactionService).processTransaction(paid, account);
-            verify(transactionRepository).saveAll(any());
-            verify(accountRepository).save(account);
+            // Paid expense of 100 becomes a revenue of 100
+            verify(accountRepository).adjustBalance(accountId, new BigDecimal("200.0"));
+            verify(transactionRepository).updateTypeByParentId(parentId, TransactionType.REVENUE);
+            verify(transactionRepository, never()).saveAll(any());
+            verify(accountRepository, never()).save(any());
         }
     }
 }
@@ -31,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -92,7 +93,8 @@ class SavingsUseCaseTest {
             SavingsTransactionRequest request = new SavingsTransactionRequest(accountId, competenceId, new BigDecimal("200.00"), "Monthly deposit");
             
             Savings savings = Savings.builder().id(savingsId).userId(userId).balance(new BigDecimal("1000.00")).build();
-            when(savingsRepository.findById(savingsId)).thenReturn(Optional.of(savings));
+            Savings updated = Savings.builder().id(savingsId).userId(userId).balance(new BigDecimal("1200.00")).build();
+            when(savingsRepository.findById(savingsId)).thenReturn(Optional.of(savings)).thenReturn(Optional.of(updated));
             
             Category category = Category.builder().id(categoryId).name("Savings Vault").userId(userId).type(TransactionType.EXPENSE).build();
             when(categoryRepository.findByUserIdAndNameAndType(userId, "Savings Vault", TransactionType.EXPENSE)).thenReturn(Optional.of(category));
@@ -102,18 +104,17 @@ class SavingsUseCaseTest {
                     "Monthly deposit", new BigDecimal("200.00"), LocalDateTime.now(), "EXPENSE", null, "COMPLETED",
                     LocalDateTime.now(), LocalDateTime.now());
             when(transactionUseCase.create(any(CreateTransactionRequest.class), eq(userId))).thenReturn(txResponse);
-            
-            when(savingsRepository.save(any(Savings.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
             SavingsResponse response = savingsUseCase.deposit(savingsId, request, userId);
 
             // Then
             assertNotNull(response);
-            assertEquals(new BigDecimal("1200.00"), savings.getBalance()); // Savings increased
+            assertEquals(new BigDecimal("1200.00"), response.balance()); // Savings increased
             
             verify(transactionUseCase).create(any(CreateTransactionRequest.class), eq(userId));
-            verify(savingsRepository).save(savings);
+            verify(savingsRepository).adjustBalance(savingsId, new BigDecimal("200.00"));
+            verify(savingsRepository, never()).save(any());
             verify(savingsHistoryRepository).save(any(SavingsHistory.class));
         }
 
@@ -138,7 +139,9 @@ class SavingsUseCaseTest {
             SavingsTransactionRequest request = new SavingsTransactionRequest(accountId, competenceId, new BigDecimal("200.00"), "Need cash");
             
             Savings savings = Savings.builder().id(savingsId).userId(userId).balance(new BigDecimal("1000.00")).build();
-            when(savingsRepository.findById(savingsId)).thenReturn(Optional.of(savings));
+            Savings updated = Savings.builder().id(savingsId).userId(userId).balance(new BigDecimal("800.00")).build();
+            when(savingsRepository.findById(savingsId)).thenReturn(Optional.of(savings)).thenReturn(Optional.of(updated));
+            when(savingsRepository.adjustBalance(savingsId, new BigDecimal("-200.00"))).thenReturn(true);
             
             Category category = Category.builder().id(categoryId).name("Savings Vault").userId(userId).type(TransactionType.REVENUE).build();
             when(categoryRepository.findByUserIdAndNameAndType(userId, "Savings Vault", TransactionType.REVENUE)).thenReturn(Optional.of(category));
@@ -148,18 +151,16 @@ class SavingsUseCaseTest {
                     "Need cash", new BigDecimal("200.00"), LocalDateTime.now(), "REVENUE", null, "COMPLETED",
                     LocalDateTime.now(), LocalDateTime.now());
             when(transactionUseCase.create(any(CreateTransactionRequest.class), eq(userId))).thenReturn(txResponse);
-            
-            when(savingsRepository.save(any(Savings.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
             SavingsResponse response = savingsUseCase.withdraw(savingsId, request, userId);
 
             // Then
             assertNotNull(response);
-            assertEquals(new BigDecimal("800.00"), savings.getBalance()); // Savings decreased
+            assertEquals(new BigDecimal("800.00"), response.balance()); // Savings decreased
             
             verify(transactionUseCase).create(any(CreateTransactionRequest.class), eq(userId));
-            verify(savingsRepository).save(savings);
+            verify(savingsRepository, never()).save(any());
             verify(savingsHistoryRepository).save(any(SavingsHistory.class));
         }
 
@@ -173,5 +174,21 @@ class SavingsUseCaseTest {
 
             assertThrows(IllegalArgumentException.class, () -> savingsUseCase.withdraw(savingsId, request, userId));
         }
+
+        @Test
+        @DisplayName("Should reject withdrawal when a concurrent withdrawal drained the vault first")
+        void givenVaultDrainedConcurrently_whenWithdraw_thenThrowsWithoutTransaction() {
+            // Given
+            SavingsTransactionRequest request = new SavingsTransactionRequest(accountId, competenceId, new BigDecimal("800.00"), "Need cash");
+
+            Savings savings = Savings.builder().id(savingsId).userId(userId).balance(new BigDecimal("1000.00")).build();
+            when(savingsRepository.findById(savingsId)).thenReturn(Optional.of(savings));
+            when(savingsRepository.adjustBalance(savingsId, new BigDecimal("-800.00"))).thenReturn(false);
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class, () -> savingsUseCase.withdraw(savingsId, request, userId));
+            verify(transactionUseCase, never()).create(any(), any());
+            verify(savingsHistoryRepository, never()).save(any());
+        }
     }
 }
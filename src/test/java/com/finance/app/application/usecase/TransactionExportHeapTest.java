@@ -0,0 +1,135 @@
+package com.finance.app.application.usecase;
+
+import com.finance.app.domain.entity.Account;
+import com.finance.app.domain.entity.Category;
+import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.entity.TransactionFilter;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.entity.User;
+import com.finance.app.domain.repository.AccountRepository;
+import com.finance.app.domain.repository.CategoryRepository;
+import com.finance.app.domain.repository.CompetenceRepository;
+import com.finance.app.domain.repository.UserRepository;
+import com.finance.app.web.dto.request.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Run with: gradle constrainedHeapTest (192 MB heap). The database lives in a file so the rows are not on the heap.
+@Tag("constrained-heap")
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionExportHeapTest {
+
+    private static final int ROWS = 300_000;
+    private static final int INSERT_CHUNK = 50_000;
+
+    @DynamicPropertySource
+    static void fileDatabase(DynamicPropertyRegistry registry) {
+        Path file = Path.of("build", "tmp", "export-heap-" + UUID.randomUUID(), "julius").toAbsolutePath();
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + file
+                + ";MODE=MySQL;NON_KEYWORDS=USER,MONTH,YEAR,VALUE,TYPE;CASE_INSENSITIVE_IDENTIFIERS=TRUE"
+                + ";LAZY_QUERY_EXECUTION=TRUE;MAX_MEMORY_ROWS=10000;CACHE_SIZE=8192");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @Autowired
+    private TransactionExportUseCase transactionExportUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CompetenceRepository competenceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        userId = userRepository.save(User.create("Export", "export-" + UUID.randomUUID() + "@example.com", "hash")).getId();
+        UUID accountId = accountRepository.save(Account.builder().userId(userId).name("Checking")
+                .balance(BigDecimal.ZERO).currency("BRL").createdAt(now).updatedAt(now).build()).getId();
+        UUID categoryId = categoryRepository.save(Category.builder().userId(userId).name("Misc")
+                .type(TransactionType.EXPENSE).createdAt(now).updatedAt(now).build()).getId();
+        UUID competenceId = competenceRepository.save(Competence.builder().userId(userId).month(5).year(2026)
+                .createdAt(now).updatedAt(now).build()).getId();
+
+        for (int from = 1; from <= ROWS; from += INSERT_CHUNK) {
+            jdbcTemplate.update("INSERT INTO transactions "
+                            + "(id, account_id, category_id, competence_id, user_id, description, \"type\", amount, date_time, \"status\") "
+                            + "SELECT RANDOM_UUID(), ?, ?, ?, ?, CONCAT('Synthetic, \"row\" ', X), 'EXPENSE', MOD(X, 500) + 0.99, "
+                            + "DATEADD('MINUTE', X, TIMESTAMP '2020-01-01 00:00:00'), 'COMPLETED' "
+                            + "FROM SYSTEM_RANGE(?, ?)",
+                    accountId, categoryId, competenceId, userId, from, from + INSERT_CHUNK - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream hundreds of thousands of rows as NDJSON and CSV without running out of a small heap")
+    void givenLargeHistory_whenExported_thenEveryRowIsWrittenWithFlatHeap() throws Exception {
+        assertTrue(Runtime.getRuntime().maxMemory() <= 256L * 1024 * 1024,
+                "run through the constrainedHeapTest task so the heap limit applies");
+
+        // Given
+        TransactionFilter filter = TransactionFilter.builder().userId(userId).build();
+
+        // When
+        LineCountingOutputStream ndjson = new LineCountingOutputStream();
+        long ndjsonRows = transactionExportUseCase.export(filter, ExportFormat.NDJSON, ndjson);
+        LineCountingOutputStream csv = new LineCountingOutputStream();
+        long csvRows = transactionExportUseCase.export(filter, ExportFormat.CSV, csv);
+
+        // Then
+        assertEquals(ROWS, ndjsonRows);
+        assertEquals(ROWS, ndjson.lines);
+        assertEquals(ROWS, csvRows);
+        assertEquals(ROWS + 1, csv.lines);
+    }
+
+    // Discards the export, keeping only what the assertions need
+    private static final class LineCountingOutputStream extends OutputStream {
+
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+        }
+    }
+
+}
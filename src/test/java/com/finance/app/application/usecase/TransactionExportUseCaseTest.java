@@ -0,0 +1,107 @@
+package com.finance.app.application.usecase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.app.domain.entity.Transaction;
+import com.finance.app.domain.entity.TransactionFilter;
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.repository.TransactionRepository;
+import com.finance.app.web.dto.request.ExportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportUseCaseTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @InjectMocks
+    private TransactionExportUseCase transactionExportUseCase;
+
+    private final UUID userId = UUID.randomUUID();
+    private final TransactionFilter filter = TransactionFilter.builder().userId(userId).build();
+
+    private Transaction createTransaction(String description, String amount) {
+        return Transaction.builder()
+                .id(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .categoryId(UUID.randomUUID())
+                .competenceId(UUID.randomUUID())
+                .userId(userId)
+                .description(description)
+                .amount(new BigDecimal(amount))
+                .dateTime(LocalDateTime.of(2026, 5, 1, 10, 30))
+                .type(TransactionType.EXPENSE)
+                .status(TransactionStatus.COMPLETED)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line and close the repository stream")
+    void givenTransactions_whenExportNdjson_thenWritesOneObjectPerLine() throws IOException {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(transactionRepository.streamByFilter(filter)).thenReturn(Stream.of(
+                        createTransaction("Market", "10.50"), createTransaction("Pharmacy", "3.00"))
+                .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long rows = transactionExportUseCase.export(filter, ExportFormat.NDJSON, output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Market", first.get("description").asText());
+        assertTrue(lines[0].contains("\"amount\":10.50"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("Should write a header and quote CSV values that contain separators or quotes")
+    void givenDescriptionWithSeparators_whenExportCsv_thenValueIsQuoted() throws IOException {
+        // Given
+        Transaction transaction = createTransaction("Compra \"Mercado\", Centro", "1250.00");
+        when(transactionRepository.streamByFilter(filter)).thenReturn(Stream.of(transaction));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long rows = transactionExportUseCase.export(filter, ExportFormat.CSV, output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, rows);
+        assertTrue(lines[0].startsWith("id,dateTime,description,amount"));
+        assertEquals(transaction.getId() + ",2026-05-01T10:30,\"Compra \"\"Mercado\"\", Centro\",1250.00,EXPENSE,,COMPLETED,"
+                        + transaction.getAccountId() + "," + transaction.getCategoryId() + ",,"
+                        + transaction.getCompetenceId() + ",,,,",
+                lines[1]);
+    }
+
+}
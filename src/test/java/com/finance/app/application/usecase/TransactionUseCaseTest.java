@@ -1,6 +1,9 @@
 package com.finance.app.application.usecase;
 
 import com.finance.app.domain.entity.Account;
+import com.finance.app.domain.entity.Competence;
+import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
+import com.finance.app.domain.entity.InstallmentSeriesDelta;
 import com.finance.app.domain.entity.Transaction;
 import com.finance.app.domain.entity.TransactionStatus;
 import com.finance.app.domain.entity.TransactionType;
@@ -8,9 +11,12 @@ import com.finance.app.domain.exception.AccountNotFoundException;
 import com.finance.app.domain.exception.CategoryNotFoundException;
 import com.finance.app.domain.exception.CompetenceNotFoundException;
 import com.finance.app.domain.exception.TransactionNotFoundException;
+import com.finance.app.domain.port.DashboardCache;
 import com.finance.app.domain.repository.AccountRepository;
 import com.finance.app.domain.repository.CategoryRepository;
 import com.finance.app.domain.repository.CompetenceRepository;
+import com.finance.app.domain.repository.CompetenceSummaryRepository;
+import com.finance.app.domain.repository.InstallmentSeriesRepository;
 import com.finance.app.domain.repository.TransactionRepository;
 import com.finance.app.domain.service.TransactionService;
 import com.finance.app.web.dto.request.CreateTransactionRequest;
@@ -22,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -36,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -56,7 +64,16 @@ class TransactionUseCaseTest {
     private CompetenceRepository competenceRepository;
 
     @Mock
-    private TransactionService transactionService;
+    private CompetenceSummaryRepository competenceSummaryRepository;
+
+    @Mock
+    private InstallmentSeriesRepository installmentSeriesRepository;
+
+    @Mock
+    private DashboardCache dashboardCache;
+
+    @Spy
+    private TransactionService transactionService = new TransactionService();
 
     @InjectMocks
     private TransactionUseCase transactionUseCase;
@@ -124,8 +141,10 @@ class TransactionUseCaseTest {
             assertNotNull(response);
             assertEquals("EXPENSE", response.type());
             assertEquals("COMPLETED", response.status());
-            verify(transactionService).processTransaction(any(Transaction.class), any(Account.class));
-            verify(accountRepository).save(account);
+            verify(accountRepository).adjustBalance(accountId, new BigDecimal("-50.00"));
+            verify(accountRepository, never()).save(any());
+            verify(competenceSummaryRepository).apply(userId, List.of(new CompetenceTransactionSubtypeSummary(
+                    competenceId, TransactionType.EXPENSE, TransactionStatus.COMPLETED, null, 1L, new BigDecimal("50.00"))));
         }
 
         @Test
@@ -152,8 +171,8 @@ class TransactionUseCaseTest {
             // Then
             assertNotNull(response);
             assertEquals("PENDING", response.status());
-            verify(transactionService).processTransaction(any(Transaction.class), any(Account.class));
-            verify(accountRepository).save(account);
+            verify(accountRepository).adjustBalance(accountId, BigDecimal.ZERO);
+            verify(accountRepository, never()).save(any());
         }
 
         @Test
@@ -235,8 +254,7 @@ class TransactionUseCaseTest {
             assertNotNull(response);
             assertEquals("REVENUE", response.type());
             assertEquals("COMPLETED", response.status());
-            verify(transactionService).processTransaction(any(Transaction.class), any(Account.class));
-            verify(accountRepository).save(account);
+            verify(accountRepository).adjustBalance(accountId, new BigDecimal("3000.00"));
         }
 
         @Test
@@ -265,8 +283,7 @@ class TransactionUseCaseTest {
             assertEquals("EXPENSE", response.type());
             assertEquals("FIXED", response.subtype());
             assertEquals("COMPLETED", response.status());
-            verify(transactionService).processTransaction(any(Transaction.class), any(Account.class));
-            verify(accountRepository).save(account);
+            verify(accountRepository).adjustBalance(accountId, new BigDecimal("-100.00"));
         }
     }
 
@@ -346,10 +363,8 @@ class TransactionUseCaseTest {
             UUID transactionId = UUID.randomUUID();
             Transaction transaction = createTransaction(transactionId, TransactionType.EXPENSE,
                     TransactionStatus.PENDING);
-            Account account = createAccount(BigDecimal.valueOf(1000.00));
 
             when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
-            when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(account));
             when(transactionRepository.save(any(Transaction.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -360,8 +375,39 @@ class TransactionUseCaseTest {
 
             // Then
             assertEquals("COMPLETED", response.status());
-            verify(transactionService).processTransaction(any(Transaction.class), any(Account.class));
-            verify(accountRepository).save(account);
+            verify(accountRepository).adjustBalance(accountId, new BigDecimal("-50.00"));
+            verify(accountRepository, never()).save(any());
+            // Moves the transaction from the pending row to the completed row
+            verify(competenceSummaryRepository).apply(userId, List.of(
+                    new CompetenceTransactionSubtypeSummary(competenceId, TransactionType.EXPENSE,
+                            TransactionStatus.PENDING, null, -1L, new BigDecimal("-50.00")),
+                    new CompetenceTransactionSubtypeSummary(competenceId, TransactionType.EXPENSE,
+                            TransactionStatus.COMPLETED, null, 1L, new BigDecimal("50.00"))));
+            verify(installmentSeriesRepository, never()).apply(any());
+        }
+
+        @Test
+        @DisplayName("Should move an installment from pending to completed on its series header")
+        void givenPendingInstallment_whenPaid_thenSeriesHeaderIsUpdated() {
+            // Given
+            UUID transactionId = UUID.randomUUID();
+            UUID parentId = UUID.randomUUID();
+            Transaction transaction = createTransaction(transactionId, TransactionType.EXPENSE, TransactionStatus.PENDING);
+            transaction.setParentId(parentId);
+            transaction.setInstallmentNumber(2);
+            transaction.setInstallmentCount(3);
+
+            when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
+            when(transactionRepository.save(any(Transaction.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            transactionUseCase.updateStatus(transactionId, new UpdateTransactionStatusRequest(TransactionStatus.COMPLETED));
+
+            // Then
+            verify(installmentSeriesRepository).apply(List.of(
+                    new InstallmentSeriesDelta(parentId, 0, -1, BigDecimal.ZERO, new BigDecimal("-50.00")),
+                    new InstallmentSeriesDelta(parentId, 1, 0, new BigDecimal("50.00"), BigDecimal.ZERO)));
         }
 
         @Test
@@ -370,10 +416,8 @@ class TransactionUseCaseTest {
             // Given
             UUID transactionId = UUID.randomUUID();
             Transaction transaction = createTransaction(transactionId, TransactionType.EXPENSE, TransactionStatus.COMPLETED);
-            Account account = createAccount(BigDecimal.valueOf(950.00));
 
             when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
-            when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(account));
             when(transactionRepository.save(any(Transaction.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -384,8 +428,8 @@ class TransactionUseCaseTest {
 
             // Then
             assertEquals("PENDING", response.status());
-            verify(transactionService).reverseTransaction(any(Transaction.class), any(Account.class));
-            verify(accountRepository).save(account);
+            verify(accountRepository).adjustBalance(accountId, new BigDecimal("50.00"));
+            verify(accountRepository, never()).save(any());
         }
 
         @Test
@@ -407,9 +451,7 @@ class TransactionUseCaseTest {
             // Given
             UUID transactionId = UUID.randomUUID();
             Transaction transaction = createTransaction(transactionId, TransactionType.EXPENSE, TransactionStatus.COMPLETED);
-            Account account = createAccount(BigDecimal.valueOf(1000.00));
             when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
-            when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(account));
 
             UpdateTransactionStatusRequest request = new UpdateTransactionStatusRequest(TransactionStatus.COMPLETED);
 
@@ -418,8 +460,7 @@ class TransactionUseCaseTest {
 
             // Then
             assertEquals("COMPLETED", response.status());
-            verify(transactionService, never()).processTransaction(any(), any());
-            verify(transactionService, never()).reverseTransaction(any(), any());
+            verify(accountRepository, never()).adjustBalance(any(), any());
             verify(transactionRepository, never()).save(any());
         }
     }
@@ -443,8 +484,7 @@ class TransactionUseCaseTest {
             TransactionResponse response = transactionUseCase.update(transactionId, request);
 
             assertEquals("Updated desc", response.description());
-            verify(transactionService, never()).reverseTransaction(any(), any());
-            verify(transactionService, never()).processTransaction(any(), any());
+            verify(accountRepository).adjustBalance(accountId, BigDecimal.ZERO);
             verify(accountRepository, never()).save(any());
         }
 
@@ -453,9 +493,7 @@ class TransactionUseCaseTest {
         void givenPaidTransaction_whenUpdateAmount_thenAdjustsBalance() {
             UUID transactionId = UUID.randomUUID();
             Transaction transaction = createTransaction(transactionId, TransactionType.EXPENSE, TransactionStatus.COMPLETED);
-            Account account = createAccount(BigDecimal.valueOf(1000.00));
             when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
-            when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(account));
             when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArgument(0));
 
             com.finance.app.web.dto.request.UpdateTransactionRequest request = com.finance.app.web.dto.request.UpdateTransactionRequest.builder()
@@ -465,9 +503,9 @@ class TransactionUseCaseTest {
             TransactionResponse response = transactionUseCase.update(transactionId, request);
 
             assertEquals(new BigDecimal("100.00"), response.amount());
-            verify(transactionService).reverseTransaction(any(Transaction.class), any(Account.class));
-            verify(transactionService).processTransaction(any(Transaction.class), any(Account.class));
-            verify(accountRepository, org.mockito.Mockito.atLeastOnce()).save(account);
+            // One net delta: reverse -50.00, apply -100.00
+            verify(accountRepository).adjustBalance(accountId, new BigDecimal("-50.00"));
+            verify(accountRepository, never()).save(any());
         }
 
         @Test
@@ -486,10 +524,77 @@ class TransactionUseCaseTest {
             TransactionResponse response = transactionUseCase.update(transactionId, request);
 
             assertEquals("VARIABLE", response.subtype());
-            verify(transactionService, never()).reverseTransaction(any(), any());
-            verify(transactionService, never()).processTransaction(any(), any());
+            verify(accountRepository).adjustBalance(accountId, BigDecimal.ZERO);
             verify(accountRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("Should evict the cached dashboards of both competences when a transaction moves between them")
+        void givenTransaction_whenMovedToAnotherCompetence_thenEvictsBothDashboards() {
+            // Given
+            UUID transactionId = UUID.randomUUID();
+            UUID newCompetenceId = UUID.randomUUID();
+            Transaction transaction = createTransaction(transactionId, TransactionType.EXPENSE, TransactionStatus.COMPLETED);
+            when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
+            when(competenceRepository.findById(newCompetenceId)).thenReturn(Optional.of(
+                    Competence.builder().id(newCompetenceId).userId(userId).month(6).year(2026).build()));
+            when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArgument(0));
+
+            com.finance.app.web.dto.request.UpdateTransactionRequest request = com.finance.app.web.dto.request.UpdateTransactionRequest.builder()
+                    .competenceId(newCompetenceId)
+                    .build();
+
+            // When
+            transactionUseCase.update(transactionId, request);
+
+            // Then
+            verify(dashboardCache).evict(userId, List.of(competenceId, newCompetenceId));
+        }
+
+        @Test
+        @DisplayName("Should rename the series header when the root installment's description changes")
+        void givenSeriesRoot_whenDescriptionChanges_thenSeriesHeaderIsRenamed() {
+            // Given
+            UUID transactionId = UUID.randomUUID();
+            Transaction transaction = createTransaction(transactionId, TransactionType.EXPENSE, TransactionStatus.PENDING);
+            transaction.setInstallmentNumber(1);
+            transaction.setInstallmentCount(3);
+            when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
+            when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArgument(0));
+
+            com.finance.app.web.dto.request.UpdateTransactionRequest request = com.finance.app.web.dto.request.UpdateTransactionRequest.builder()
+                    .description("New phone")
+                    .build();
+
+            // When
+            transactionUseCase.update(transactionId, request);
+
+            // Then
+            verify(installmentSeriesRepository).updateDescription(transactionId, "New phone");
+        }
+
+        @Test
+        @DisplayName("Should leave the series header alone when a later installment is renamed")
+        void givenLaterInstallment_whenDescriptionChanges_thenSeriesHeaderIsUntouched() {
+            // Given
+            UUID transactionId = UUID.randomUUID();
+            Transaction transaction = createTransaction(transactionId, TransactionType.EXPENSE, TransactionStatus.PENDING);
+            transaction.setParentId(UUID.randomUUID());
+            transaction.setInstallmentNumber(2);
+            transaction.setInstallmentCount(3);
+            when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
+            when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArgument(0));
+
+            com.finance.app.web.dto.request.UpdateTransactionRequest request = com.finance.app.web.dto.request.UpdateTransactionRequest.builder()
+                    .description("New phone")
+                    .build();
+
+            // When
+            transactionUseCase.update(transactionId, request);
+
+            // Then
+            verify(installmentSeriesRepository, never()).updateDescription(any(), any());
+        }
     }
 
     @Nested
@@ -502,17 +607,17 @@ class TransactionUseCaseTest {
             // Given
             UUID transactionId = UUID.randomUUID();
             Transaction transaction = createTransaction(transactionId, TransactionType.EXPENSE, TransactionStatus.COMPLETED);
-            Account account = createAccount(BigDecimal.valueOf(950.00));
 
             when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
-            when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.of(account));
 
             // When
             transactionUseCase.delete(transactionId);
 
             // Then
-            verify(transactionService).reverseTransaction(transaction, account);
-            verify(accountRepository).save(account);
+            verify(accountRepository).adjustBalance(accountId, new BigDecimal("50.00"));
+            verify(accountRepository, never()).save(any());
+            verify(competenceSummaryRepository).apply(userId, List.of(new CompetenceTransactionSubtypeSummary(
+                    competenceId, TransactionType.EXPENSE, TransactionStatus.COMPLETED, null, -1L, new BigDecimal("-50.00"))));
             verify(transactionRepository).delete(transactionId);
         }
 
@@ -530,7 +635,7 @@ class TransactionUseCaseTest {
             transactionUseCase.delete(transactionId);
 
             // Then
-            verify(transactionService, never()).reverseTransaction(any(), any());
+            verify(accountRepository).adjustBalance(accountId, BigDecimal.ZERO);
             verify(accountRepository, never()).save(any());
             verify(transactionRepository).delete(transactionId);
         }
@@ -0,0 +1,26 @@
+package com.finance.app.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchTextNormalizerTest {
+
+    @Test
+    @DisplayName("Should drop accents, lower-case and collapse whitespace of Portuguese merchant names")
+    void givenAccentedMixedCaseText_whenNormalize_thenReturnsPlainLowerCase() {
+        // When / Then
+        assertEquals("acai do para", SearchTextNormalizer.normalize("  Açaí  do PARÁ "));
+        assertEquals("padaria sao joao", SearchTextNormalizer.normalize("Padaria São João"));
+        assertEquals("farmacia pague menos", SearchTextNormalizer.normalize("FARMÁCIA\tPAGUE MENOS"));
+    }
+
+    @Test
+    @DisplayName("Should return an empty string for null")
+    void givenNull_whenNormalize_thenReturnsEmpty() {
+        // When / Then
+        assertEquals("", SearchTextNormalizer.normalize(null));
+    }
+
+}
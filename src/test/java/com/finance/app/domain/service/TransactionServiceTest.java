@@ -1,6 +1,6 @@
 package com.finance.app.domain.service;
 
-import com.finance.app.domain.entity.Account;
+import com.finance.app.domain.entity.InstallmentSeriesDelta;
 import com.finance.app.domain.entity.Transaction;
 import com.finance.app.domain.entity.TransactionStatus;
 import com.finance.app.domain.entity.TransactionType;
@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class TransactionServiceTest {
 
@@ -25,18 +26,6 @@ class TransactionServiceTest {
         transactionService = new TransactionService();
     }
 
-    private Account createAccountWithBalance(BigDecimal balance) {
-        return Account.builder()
-                .id(UUID.randomUUID())
-                .userId(UUID.randomUUID())
-                .name("Test Account")
-                .balance(balance.setScale(2, RoundingMode.HALF_EVEN))
-                .currency("BRL")
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-    }
-
     private Transaction createTransaction(BigDecimal amount, TransactionType type, TransactionStatus status) {
         return Transaction.builder()
                 .id(UUID.randomUUID())
@@ -55,137 +44,83 @@ class TransactionServiceTest {
     }
 
     @Nested
-    @DisplayName("processTransaction")
-    class ProcessTransaction {
+    @DisplayName("balanceEffect")
+    class BalanceEffect {
 
         @Test
-        @DisplayName("Given balance 100.00 and EXPENSE of 30.55 COMPLETED, then balance should be 69.45")
-        void givenExpensePaid_whenProcess_thenSubtractsFromBalance() {
+        @DisplayName("Given EXPENSE of 30.55 COMPLETED, then the balance moves by -30.55")
+        void givenExpensePaid_whenBalanceEffect_thenNegative() {
             // Given
-            Account account = createAccountWithBalance(BigDecimal.valueOf(100.00));
             Transaction transaction = createTransaction(
                     BigDecimal.valueOf(30.55), TransactionType.EXPENSE, TransactionStatus.COMPLETED);
 
             // When
-            transactionService.processTransaction(transaction, account);
+            BigDecimal effect = transactionService.balanceEffect(transaction);
 
             // Then
-            assertEquals(BigDecimal.valueOf(69.45).setScale(2, RoundingMode.HALF_EVEN), account.getBalance());
+            assertEquals(new BigDecimal("-30.55"), effect);
         }
 
         @Test
-        @DisplayName("Given balance 100.00 and REVENUE of 50.00 COMPLETED, then balance should be 150.00")
-        void givenRevenuePaid_whenProcess_thenAddsToBalance() {
+        @DisplayName("Given REVENUE of 0.01 COMPLETED, then the balance moves by 0.01")
+        void givenRevenuePaid_whenBalanceEffect_thenPositive() {
             // Given
-            Account account = createAccountWithBalance(BigDecimal.valueOf(100.00));
             Transaction transaction = createTransaction(
-                    BigDecimal.valueOf(50.00), TransactionType.REVENUE, TransactionStatus.COMPLETED);
+                    BigDecimal.valueOf(0.01), TransactionType.REVENUE, TransactionStatus.COMPLETED);
 
             // When
-            transactionService.processTransaction(transaction, account);
+            BigDecimal effect = transactionService.balanceEffect(transaction);
 
             // Then
-            assertEquals(BigDecimal.valueOf(150.00).setScale(2, RoundingMode.HALF_EVEN), account.getBalance());
+            assertEquals(new BigDecimal("0.01"), effect);
         }
 
         @Test
-        @DisplayName("Given PENDING transaction, then balance should not change")
-        void givenPendingTransaction_whenProcess_thenBalanceUnchanged() {
+        @DisplayName("Given PENDING transaction, then the balance does not move")
+        void givenPendingTransaction_whenBalanceEffect_thenZero() {
             // Given
-            Account account = createAccountWithBalance(BigDecimal.valueOf(100.00));
             Transaction transaction = createTransaction(
-                    BigDecimal.valueOf(30.55), TransactionType.EXPENSE, TransactionStatus.PENDING);
+                    BigDecimal.valueOf(200.00), TransactionType.EXPENSE, TransactionStatus.PENDING);
 
             // When
-            transactionService.processTransaction(transaction, account);
+            BigDecimal effect = transactionService.balanceEffect(transaction);
 
             // Then
-            assertEquals(BigDecimal.valueOf(100.00).setScale(2, RoundingMode.HALF_EVEN), account.getBalance());
+            assertEquals(BigDecimal.ZERO, effect);
         }
     }
 
     @Nested
-    @DisplayName("reverseTransaction")
-    class ReverseTransaction {
+    @DisplayName("seriesContribution")
+    class SeriesContribution {
 
         @Test
-        @DisplayName("Given EXPENSE reversal, then balance should increase")
-        void givenPaidExpense_whenReverse_thenAddsToBalance() {
+        @DisplayName("Given a pending later installment, then it counts as pending on its root's series")
+        void givenPendingInstallment_whenSeriesContribution_thenPendingOnRoot() {
             // Given
-            Account account = createAccountWithBalance(BigDecimal.valueOf(69.45));
+            UUID rootId = UUID.randomUUID();
             Transaction transaction = createTransaction(
-                    BigDecimal.valueOf(30.55), TransactionType.EXPENSE, TransactionStatus.COMPLETED);
+                    BigDecimal.valueOf(99.99), TransactionType.EXPENSE, TransactionStatus.PENDING);
+            transaction.setParentId(rootId);
+            transaction.setInstallmentNumber(2);
+            transaction.setInstallmentCount(3);
 
             // When
-            transactionService.reverseTransaction(transaction, account);
+            InstallmentSeriesDelta delta = transactionService.seriesContribution(transaction);
 
             // Then
-            assertEquals(BigDecimal.valueOf(100.00).setScale(2, RoundingMode.HALF_EVEN), account.getBalance());
+            assertEquals(new InstallmentSeriesDelta(rootId, 0, 1, BigDecimal.ZERO, new BigDecimal("99.99")), delta);
         }
 
         @Test
-        @DisplayName("Given REVENUE reversal, then balance should decrease")
-        void givenPaidRevenue_whenReverse_thenSubtractsFromBalance() {
+        @DisplayName("Given a transaction outside any series, then it contributes nothing")
+        void givenPlainTransaction_whenSeriesContribution_thenNull() {
             // Given
-            Account account = createAccountWithBalance(BigDecimal.valueOf(150.00));
             Transaction transaction = createTransaction(
                     BigDecimal.valueOf(50.00), TransactionType.REVENUE, TransactionStatus.COMPLETED);
 
-            // When
-            transactionService.reverseTransaction(transaction, account);
-
-            // Then
-            assertEquals(BigDecimal.valueOf(100.00).setScale(2, RoundingMode.HALF_EVEN), account.getBalance());
-        }
-
-        @Test
-        @DisplayName("Given PENDING transaction, then reversal should not change balance")
-        void givenPendingTransaction_whenReverse_thenBalanceUnchanged() {
-            // Given
-            Account account = createAccountWithBalance(BigDecimal.valueOf(500.00));
-            Transaction transaction = createTransaction(
-                    BigDecimal.valueOf(200.00), TransactionType.EXPENSE, TransactionStatus.PENDING);
-
-            // When
-            transactionService.reverseTransaction(transaction, account);
-
-            // Then
-            assertEquals(BigDecimal.valueOf(500.00).setScale(2, RoundingMode.HALF_EVEN), account.getBalance());
-        }
-
-        @Test
-        @DisplayName("Given EXPENSE reversal with fractional amount 99.99, balance 400.01 should become 500.00")
-        void givenPaidExpenseWithFractionalAmount_whenReverse_thenPreciseBalance() {
-            // Given
-            Account account = createAccountWithBalance(BigDecimal.valueOf(400.01));
-            Transaction transaction = createTransaction(
-                    BigDecimal.valueOf(99.99), TransactionType.EXPENSE, TransactionStatus.COMPLETED);
-
-            // When
-            transactionService.reverseTransaction(transaction, account);
-
-            // Then
-            assertEquals(BigDecimal.valueOf(500.00).setScale(2, RoundingMode.HALF_EVEN), account.getBalance());
-        }
-    }
-
-    @Nested
-    @DisplayName("processTransaction - precision")
-    class ProcessTransactionPrecision {
-
-        @Test
-        @DisplayName("Given balance 1234.56 and REVENUE of 0.01 COMPLETED, then balance should be 1234.57")
-        void givenRevenuePaidWithMinimalAmount_whenProcess_thenPreciseBalance() {
-            // Given
-            Account account = createAccountWithBalance(BigDecimal.valueOf(1234.56));
-            Transaction transaction = createTransaction(
-                    BigDecimal.valueOf(0.01), TransactionType.REVENUE, TransactionStatus.COMPLETED);
-
-            // When
-            transactionService.processTransaction(transaction, account);
-
-            // Then
-            assertEquals(BigDecimal.valueOf(1234.57).setScale(2, RoundingMode.HALF_EVEN), account.getBalance());
+            // When / Then
+            assertNull(transactionService.seriesContribution(transaction));
         }
     }
 
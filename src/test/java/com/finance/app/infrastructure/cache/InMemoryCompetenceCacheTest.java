@@ -0,0 +1,112 @@
+package com.finance.app.infrastructure.cache;
+
+import com.finance.app.domain.entity.Competence;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class InMemoryCompetenceCacheTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final YearMonth may = YearMonth.of(2026, 5);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final InMemoryCompetenceCache cache = new InMemoryCompetenceCache(2);
+
+    private Competence load() {
+        loads.incrementAndGet();
+        return Competence.builder().id(UUID.randomUUID()).userId(userId).month(5).year(2026)
+                .createdAt(LocalDateTime.of(2026, 5, 1, 9, 0)).updatedAt(LocalDateTime.of(2026, 5, 1, 9, 0)).build();
+    }
+
+    @Test
+    @DisplayName("Should load a month once and serve later lookups from memory")
+    void givenResolvedMonth_whenLookedUpAgain_thenLoaderIsNotCalled() {
+        // Given
+        Competence first = cache.get(userId, may, this::load);
+
+        // When
+        Competence second = cache.get(userId, may, this::load);
+
+        // Then
+        assertEquals(first.getId(), second.getId());
+        assertEquals(first.getCreatedAt(), second.getCreatedAt());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should keep at most the configured number of months, dropping the least recently used")
+    void givenFullCache_whenNewMonthIsLoaded_thenEvictsLeastRecentlyUsed() {
+        // Given
+        YearMonth june = YearMonth.of(2026, 6);
+        cache.get(userId, may, this::load);
+        cache.get(userId, june, this::load);
+        cache.get(userId, may, this::load);
+
+        // When
+        cache.get(userId, YearMonth.of(2026, 7), this::load);
+        cache.get(userId, june, this::load);
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should only remember an id loaded inside a transaction once that transaction commits")
+    void givenActiveTransaction_whenLoaded_thenStoredAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Given
+            UUID uncommitted = cache.get(userId, may, this::load).getId();
+
+            // When
+            int sizeBeforeCommit = cache.size();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            assertEquals(0, sizeBeforeCommit);
+            assertEquals(uncommitted, cache.get(userId, may, this::load).getId());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the same month of different users apart")
+    void givenTwoUsers_whenSameMonthIsLoaded_thenIdsDoNotLeak() {
+        // Given
+        UUID mine = cache.get(userId, may, this::load).getId();
+
+        // When
+        UUID theirs = cache.get(UUID.randomUUID(), may, this::load).getId();
+
+        // Then
+        assertNotEquals(mine, theirs);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should hand out copies, so a caller changing its competence does not change the cached one")
+    void givenCachedMonth_whenCallerMutatesResult_thenCacheIsUnaffected() {
+        // Given
+        Competence first = cache.get(userId, may, this::load);
+        UUID id = first.getId();
+
+        // When
+        cache.get(userId, may, this::load).setId(UUID.randomUUID());
+
+        // Then
+        assertEquals(id, cache.get(userId, may, this::load).getId());
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.finance.app.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InMemoryDashboardCacheTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID competenceId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private MutableClock clock;
+    private InMemoryDashboardCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-05-01T12:00:00Z"));
+        cache = new InMemoryDashboardCache(2, Duration.ofMinutes(5), clock);
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    @Test
+    @DisplayName("Should keep one value per view and reload after the entry expires")
+    void givenCachedViews_whenTtlPasses_thenReloads() {
+        // Given
+        cache.get(userId, competenceId, "summary", () -> load("summary"));
+        cache.get(userId, competenceId, "categories", () -> load("categories"));
+
+        // When
+        String cached = cache.get(userId, competenceId, "summary", () -> load("stale"));
+        clock.advance(Duration.ofMinutes(6));
+        String reloaded = cache.get(userId, competenceId, "summary", () -> load("fresh"));
+
+        // Then
+        assertEquals("summary", cached);
+        assertEquals("fresh", reloaded);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should drop the least recently used competence when the cache is full")
+    void givenFullCache_whenNewCompetenceIsLoaded_thenEvictsLeastRecentlyUsed() {
+        // Given
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        cache.get(userId, competenceId, "summary", () -> load("a"));
+        cache.get(userId, second, "summary", () -> load("b"));
+        cache.get(userId, competenceId, "summary", () -> load("a"));
+
+        // When
+        cache.get(userId, third, "summary", () -> load("c"));
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.get(userId, competenceId, "summary", () -> load("a2")));
+        assertEquals("b2", cache.get(userId, second, "summary", () -> load("b2")));
+    }
+
+    @Test
+    @DisplayName("Should not store a value loaded while the competence was being evicted")
+    void givenEvictionDuringLoad_whenLoadFinishes_thenValueIsNotCached() {
+        // Given
+        cache.get(userId, competenceId, "summary", () -> {
+            cache.evict(userId, List.of(competenceId));
+            return load("pre-commit");
+        });
+
+        // When
+        String value = cache.get(userId, competenceId, "summary", () -> load("committed"));
+
+        // Then
+        assertEquals("committed", value);
+    }
+
+    @Test
+    @DisplayName("Should still store a value loaded while another user was being evicted")
+    void givenOtherUserEvictedDuringLoad_whenLoadFinishes_thenValueIsCached() {
+        // Given
+        cache.get(userId, competenceId, "summary", () -> {
+            cache.evict(UUID.randomUUID(), List.of(competenceId));
+            return load("loaded");
+        });
+
+        // When
+        String value = cache.get(userId, competenceId, "summary", () -> load("reloaded"));
+
+        // Then
+        assertEquals("loaded", value);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not store a stale value even after the user's eviction was pushed out by other users")
+    void givenEvictionForgottenDuringLoad_whenLoadFinishes_thenValueIsNotCached() {
+        // Given
+        cache.get(userId, competenceId, "summary", () -> {
+            cache.evict(userId, List.of(competenceId));
+            cache.evictUser(UUID.randomUUID());
+            cache.evictUser(UUID.randomUUID());
+            return load("pre-commit");
+        });
+
+        // When
+        String value = cache.get(userId, competenceId, "summary", () -> load("committed"));
+
+        // Then
+        assertEquals("committed", value);
+    }
+
+    @Test
+    @DisplayName("Should evict again once the writing transaction commits")
+    void givenActiveTransaction_whenEvicted_thenEvictsAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Given
+            cache.evict(userId, List.of(competenceId));
+            cache.get(userId, competenceId, "summary", () -> load("pre-commit"));
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            assertEquals("committed", cache.get(userId, competenceId, "summary", () -> load("committed")));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict every competence of a user and leave other users untouched")
+    void givenTwoUsers_whenEvictUser_thenOnlyThatUserIsEvicted() {
+        // Given
+        UUID otherUser = UUID.randomUUID();
+        cache.get(userId, competenceId, "summary", () -> load("mine"));
+        cache.get(otherUser, competenceId, "summary", () -> load("theirs"));
+
+        // When
+        cache.evictUser(userId);
+
+        // Then
+        assertEquals(1, cache.size());
+        assertEquals("theirs", cache.get(otherUser, competenceId, "summary", () -> load("reloaded")));
+    }
+
+    @Test
+    @DisplayName("Should drop views spanning the user's competences when any of their competences is written")
+    void givenUserWideView_whenCompetenceIsEvicted_thenViewReloads() {
+        // Given
+        cache.get(userId, "commitments", () -> load("before"));
+        cache.get(userId, competenceId, "summary", () -> load("summary"));
+
+        // When
+        cache.evict(userId, List.of(UUID.randomUUID()));
+
+        // Then
+        assertEquals("after", cache.get(userId, "commitments", () -> load("after")));
+        assertEquals("summary", cache.get(userId, competenceId, "summary", () -> load("reloaded")));
+        assertEquals(3, loads.get());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+}
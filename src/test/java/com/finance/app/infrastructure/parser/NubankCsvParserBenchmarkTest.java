@@ -0,0 +1,110 @@
+package com.finance.app.infrastructure.parser;
+
+import com.finance.app.domain.entity.ParsedTransaction;
+import com.finance.app.domain.entity.TransactionType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Run with: gradle benchmark
+@Tag("benchmark")
+class NubankCsvParserBenchmarkTest {
+
+    private static final int ROWS = 200_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static byte[] statement;
+
+    @BeforeAll
+    static void generateStatement() {
+        StringBuilder csv = new StringBuilder("Data,Valor,Identificador,Descrição\n");
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(start.plusDays(i % 2000).format(formatter)).append(',')
+                    .append(i % 7 == 0 ? "1250.00" : "-" + (i % 500) + ".90").append(',')
+                    .append(UUID.randomUUID()).append(',')
+                    .append(i % 3 == 0 ? "\"Compra no débito - Mercado, Centro\"" : "Transferência enviada pelo Pix")
+                    .append('\n');
+        }
+        statement = csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Benchmark: streaming tokenizer vs regex split parser")
+    void compareParsers() {
+        NubankCsvParser parser = new NubankCsvParser();
+        ToLongFunction<InputStream> streaming = input -> {
+            try (Stream<ParsedTransaction> rows = parser.stream(input)) {
+                return rows.count();
+            }
+        };
+        ToLongFunction<InputStream> regex = input -> legacyParse(input).size();
+
+        double regexMillis = measure("regex split", regex);
+        double streamingMillis = measure("streaming tokenizer", streaming);
+
+        System.out.printf("CSV parse of %d rows (%d KB): regex split %.1f ms, streaming tokenizer %.1f ms (%.2fx)%n",
+                ROWS, statement.length / 1024, regexMillis, streamingMillis, regexMillis / streamingMillis);
+    }
+
+    private static double measure(String name, ToLongFunction<InputStream> parse) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            assertEquals(ROWS, parse.applyAsLong(new ByteArrayInputStream(statement)), name);
+        }
+        long total = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            parse.applyAsLong(new ByteArrayInputStream(statement));
+            total += System.nanoTime() - start;
+        }
+        return total / 1_000_000.0 / MEASURED_ROUNDS;
+    }
+
+    // Copy of the previous line-based implementation, kept as the baseline
+    private static List<ParsedTransaction> legacyParse(InputStream inputStream) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        List<ParsedTransaction> transactions = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String[] parts = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
+                if (parts.length < 4) {
+                    continue;
+                }
+                String description = parts[3].trim().replaceAll("^\"|\"$", "");
+                BigDecimal amount = new BigDecimal(parts[1].trim());
+                TransactionType type = amount.compareTo(BigDecimal.ZERO) < 0 ? TransactionType.EXPENSE : TransactionType.REVENUE;
+                transactions.add(new ParsedTransaction(parts[2].trim(), description, amount.abs(),
+                        LocalDate.parse(parts[0].trim(), formatter).atStartOfDay(), type));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return transactions;
+    }
+
+}
@@ -5,11 +5,17 @@ import com.finance.app.domain.entity.TransactionType;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NubankCsvParserTest {
@@ -38,4 +44,57 @@ class NubankCsvParserTest {
         assertEquals(new BigDecimal("8578.00"), credit.amount());
         assertEquals(TransactionType.REVENUE, credit.type());
     }
+
+    @Test
+    void shouldParseQuotedFieldsWithCommasEscapedQuotesAndLineBreaks() {
+        String csvContent = "Data,Valor,Identificador,Descrição\r\n" +
+                "01/05/2026,-10.50,id-1,\"Padaria, Café e Cia\"\r\n" +
+                "\r\n" +
+                "02/05/2026,-20.00,id-2,\"Loja \"\"Central\"\"\"\r\n" +
+                "03/05/2026,300.00,id-3,\"Pix recebido\nreferente a maio\"\n";
+
+        List<ParsedTransaction> transactions = parser.parse(new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, transactions.size());
+        assertEquals("Padaria, Café e Cia", transactions.get(0).description());
+        assertEquals(new BigDecimal("10.50"), transactions.get(0).amount());
+        assertEquals("Loja \"Central\"", transactions.get(1).description());
+        assertEquals("Pix recebido\nreferente a maio", transactions.get(2).description());
+        assertEquals(LocalDate.of(2026, 5, 3).atStartOfDay(), transactions.get(2).dateTime());
+        assertEquals(TransactionType.REVENUE, transactions.get(2).type());
+    }
+
+    @Test
+    void shouldSkipRecordsWithMissingFields() {
+        String csvContent = "Data,Valor,Identificador,Descrição\n" +
+                "01/05/2026,-10.50\n" +
+                "02/05/2026,-20.00,id-2,Mercado\n";
+
+        List<ParsedTransaction> transactions = parser.parse(new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, transactions.size());
+        assertEquals("id-2", transactions.get(0).externalId());
+    }
+
+    @Test
+    void shouldStreamRowsLazilyAndCloseTheInput() {
+        AtomicBoolean closed = new AtomicBoolean();
+        String csvContent = "Data,Valor,Identificador,Descrição\n" +
+                "01/05/2026,-10.50,id-1,Padaria\n" +
+                "02/05/2026,not-a-number,id-2,Mercado\n";
+        InputStream input = new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        try (Stream<ParsedTransaction> stream = parser.stream(input)) {
+            Iterator<ParsedTransaction> iterator = stream.iterator();
+            assertEquals("id-1", iterator.next().externalId());
+            assertThrows(RuntimeException.class, iterator::hasNext);
+        }
+
+        assertTrue(closed.get());
+    }
 }
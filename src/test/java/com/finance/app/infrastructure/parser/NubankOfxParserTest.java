@@ -5,11 +5,16 @@ import com.finance.app.domain.entity.TransactionType;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NubankOfxParserTest {
 
@@ -54,4 +59,89 @@ class NubankOfxParserTest {
         assertEquals(new BigDecimal("150.00"), t2.amount());
         assertEquals(TransactionType.REVENUE, t2.type());
     }
+
+    @Test
+    void shouldParseSgmlOfxWithUnclosedElements() {
+        String ofxContent = "OFXHEADER:100\r\n" +
+                "DATA:OFXSGML\r\n" +
+                "VERSION:102\r\n" +
+                "\r\n" +
+                "<OFX>\r\n" +
+                "<BANKTRANLIST>\r\n" +
+                "<DTSTART>20260501\r\n" +
+                "<STMTTRN>\r\n" +
+                "<TRNTYPE>DEBIT\r\n" +
+                "<DTPOSTED>20260502\r\n" +
+                "<TRNAMT>-42.90\r\n" +
+                "<FITID>sgml-1\r\n" +
+                "<MEMO>Padaria &amp; Cia\r\n" +
+                "</STMTTRN>\r\n" +
+                "<STMTTRN>\r\n" +
+                "<TRNTYPE>DEBIT\r\n" +
+                "<DTPOSTED>20260503\r\n" +
+                "<FITID>sgml-missing-amount\r\n" +
+                "</STMTTRN>\r\n" +
+                "<STMTTRN>\r\n" +
+                "<TRNTYPE>CREDIT\r\n" +
+                "<DTPOSTED>20260504093000[-3:BRT]\r\n" +
+                "<TRNAMT>1000.00\r\n" +
+                "<FITID>sgml-2\r\n" +
+                "</STMTTRN>\r\n" +
+                "</BANKTRANLIST>\r\n" +
+                "</OFX>\r\n";
+
+        List<ParsedTransaction> transactions = parser.parse(new ByteArrayInputStream(ofxContent.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, transactions.size());
+
+        ParsedTransaction debit = transactions.get(0);
+        assertEquals("sgml-1", debit.externalId());
+        assertEquals("Padaria & Cia", debit.description());
+        assertEquals(new BigDecimal("42.90"), debit.amount());
+        assertEquals(LocalDateTime.of(2026, 5, 2, 0, 0), debit.dateTime());
+        assertEquals(TransactionType.EXPENSE, debit.type());
+
+        ParsedTransaction credit = transactions.get(1);
+        assertEquals("sgml-2", credit.externalId());
+        assertEquals("", credit.description());
+        assertEquals(LocalDateTime.of(2026, 5, 4, 9, 30), credit.dateTime());
+        assertEquals(TransactionType.REVENUE, credit.type());
+    }
+
+    @Test
+    void shouldParseXmlOfxWithHeaderAndProcessingInstructions() {
+        String ofxContent = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<?OFX OFXHEADER=\"200\" VERSION=\"220\"?>\n" +
+                "<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>" +
+                "<STMTTRN><TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>20260510000000[-3:BRT]</DTPOSTED>" +
+                "<TRNAMT>-15.00</TRNAMT><FITID>xml-1</FITID><MEMO>Uber &lt;trip&gt;</MEMO></STMTTRN>" +
+                "<!-- end of list -->" +
+                "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>";
+
+        List<ParsedTransaction> transactions = parser.parse(new ByteArrayInputStream(ofxContent.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, transactions.size());
+        assertEquals("xml-1", transactions.get(0).externalId());
+        assertEquals("Uber <trip>", transactions.get(0).description());
+        assertEquals(new BigDecimal("15.00"), transactions.get(0).amount());
+    }
+
+    @Test
+    void shouldStreamTransactionsAndCloseTheInput() {
+        AtomicBoolean closed = new AtomicBoolean();
+        String ofxContent = "<OFX><STMTTRN><DTPOSTED>20260501<TRNAMT>-1.00<FITID>a</STMTTRN>" +
+                "<STMTTRN><DTPOSTED>20260502<TRNAMT>-2.00<FITID>b</STMTTRN></OFX>";
+        InputStream input = new ByteArrayInputStream(ofxContent.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        try (Stream<ParsedTransaction> stream = parser.stream(input)) {
+            assertEquals(List.of("a", "b"), stream.map(ParsedTransaction::externalId).toList());
+        }
+
+        assertTrue(closed.get());
+    }
 }
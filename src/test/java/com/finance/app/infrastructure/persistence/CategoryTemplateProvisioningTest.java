@@ -0,0 +1,119 @@
+package com.finance.app.infrastructure.persistence;
+
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.infrastructure.config.JpaAuditingConfig;
+import com.finance.app.infrastructure.persistence.entity.CategoryEntity;
+import com.finance.app.infrastructure.persistence.entity.UserEntity;
+import com.finance.app.infrastructure.persistence.mapper.CategoryMapper;
+import com.finance.app.infrastructure.persistence.repository.CategoryJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.SubcategoryJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs against the template rows seeded by schema-test.sql (version 1: 10 categories, 30 subcategories)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, CategoryRepositoryImpl.class, CategoryMapper.class, SubcategoryRepositoryImpl.class})
+class CategoryTemplateProvisioningTest {
+
+    private static final int TEMPLATE_VERSION = 1;
+
+    @Autowired
+    private CategoryRepositoryImpl categoryRepository;
+
+    @Autowired
+    private SubcategoryRepositoryImpl subcategoryRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private SubcategoryJpaRepository subcategoryJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UUID createUser() {
+        return userJpaRepository.save(UserEntity.builder()
+                .name("Template User")
+                .email("template-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hashed_password_123")
+                .build()).getId();
+    }
+
+    private long subcategoryCount(UUID userId) {
+        List<UUID> categoryIds = categoryJpaRepository.findByUserId(userId).stream().map(CategoryEntity::getId).toList();
+        return subcategoryJpaRepository.findByCategoryIdIn(categoryIds).size();
+    }
+
+    @Test
+    @DisplayName("Should copy the whole template to a new user, and add nothing when run again")
+    void givenNewUser_whenProvisionedTwice_thenTemplateIsCopiedOnce() {
+        // Given
+        UUID userId = createUser();
+        UUID otherUserId = createUser();
+
+        // When
+        int categories = categoryRepository.provisionFromTemplate(TEMPLATE_VERSION, userId);
+        int subcategories = subcategoryRepository.provisionFromTemplate(TEMPLATE_VERSION, userId);
+        int categoriesAgain = categoryRepository.provisionFromTemplate(TEMPLATE_VERSION, userId);
+        int subcategoriesAgain = subcategoryRepository.provisionFromTemplate(TEMPLATE_VERSION, userId);
+        entityManager.clear();
+
+        // Then
+        assertEquals(10, categories);
+        assertEquals(30, subcategories);
+        assertEquals(0, categoriesAgain);
+        assertEquals(0, subcategoriesAgain);
+        assertEquals(10, categoryJpaRepository.findByUserId(userId).size());
+        assertEquals(30, subcategoryCount(userId));
+        assertTrue(categoryJpaRepository.findByUserId(otherUserId).isEmpty());
+        assertTrue(categoryJpaRepository.findByUserIdAndNameAndType(userId, "Salary", TransactionType.REVENUE).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should backfill only the entries an existing user is missing")
+    void givenUserWithSomeDefaults_whenBackfilled_thenOnlyMissingEntriesAreAdded() {
+        // Given
+        UUID userId = createUser();
+        LocalDateTime now = LocalDateTime.now();
+        categoryJpaRepository.save(CategoryEntity.builder()
+                .user(entityManager.find(UserEntity.class, userId))
+                .name("Food")
+                .colorHex("#FF9800")
+                .type(TransactionType.EXPENSE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        // When
+        categoryRepository.provisionFromTemplateForAllUsers(TEMPLATE_VERSION);
+        subcategoryRepository.provisionFromTemplateForAllUsers(TEMPLATE_VERSION);
+        entityManager.clear();
+
+        // Then
+        List<CategoryEntity> categories = categoryJpaRepository.findByUserId(userId);
+        assertEquals(10, categories.size());
+        assertEquals("#FF9800", categories.stream().filter(c -> c.getName().equals("Food")).findFirst().orElseThrow().getColorHex());
+        assertEquals(30, subcategoryCount(userId));
+    }
+
+}
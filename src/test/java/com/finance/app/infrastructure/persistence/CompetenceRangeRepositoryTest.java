@@ -0,0 +1,168 @@
+package com.finance.app.infrastructure.persistence;
+
+import com.finance.app.domain.entity.Competence;
+import com.finance.app.infrastructure.config.JpaAuditingConfig;
+import com.finance.app.infrastructure.persistence.entity.CompetenceEntity;
+import com.finance.app.infrastructure.persistence.entity.UserEntity;
+import com.finance.app.infrastructure.persistence.mapper.CompetenceMapper;
+import com.finance.app.infrastructure.persistence.repository.CompetenceJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, CompetenceRepositoryImpl.class, CompetenceMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CompetenceRangeRepositoryTest {
+
+    @Autowired
+    private CompetenceRepositoryImpl competenceRepository;
+
+    @Autowired
+    private CompetenceJpaRepository competenceJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // findOrCreateAll commits on its own, so the users it references are committed too and removed afterwards
+    private final List<UUID> createdUsers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> createdUsers.forEach(userId -> {
+            competenceJpaRepository.deleteAll(competenceJpaRepository.findByUserId(userId));
+            userJpaRepository.deleteById(userId);
+        }));
+    }
+
+    private UUID createUser() {
+        UUID userId = userJpaRepository.save(UserEntity.builder()
+                .name("Range User")
+                .email("range-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hashed_password_123")
+                .build()).getId();
+        createdUsers.add(userId);
+        return userId;
+    }
+
+    private UUID createCompetence(UUID userId, int month, int year) {
+        LocalDateTime now = LocalDateTime.now();
+        return competenceJpaRepository.save(CompetenceEntity.builder()
+                .user(userJpaRepository.findById(userId).orElseThrow())
+                .month(month)
+                .year(year)
+                .createdAt(now)
+                .updatedAt(now)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("Should reuse the months that exist and create the rest of a range crossing the year")
+    void givenPartiallyExistingRange_whenFindOrCreateAll_thenCreatesOnlyMissingMonths() {
+        // Given
+        UUID userId = createUser();
+        UUID december = createCompetence(userId, 12, 2026);
+        List<YearMonth> range = Stream.iterate(YearMonth.of(2026, 11), period -> period.plusMonths(1)).limit(14).toList();
+
+        // When
+        Map<YearMonth, Competence> competences = competenceRepository.findOrCreateAll(userId, range);
+
+        // Then
+        assertEquals(14, competences.size());
+        assertEquals(december, competences.get(YearMonth.of(2026, 12)).getId());
+        assertEquals(14, competenceJpaRepository.findByUserId(userId).size());
+        assertEquals(competences.get(YearMonth.of(2027, 12)).getId(),
+                competenceJpaRepository.findByUserIdAndMonthAndYear(userId, 12, 2027).orElseThrow().getId());
+    }
+
+    @Test
+    @DisplayName("Should leave months outside the requested set alone, even inside the enclosing range")
+    void givenSparsePeriods_whenFindOrCreateAll_thenOnlyRequestedMonthsAreReturnedOrCreated() {
+        // Given
+        UUID userId = createUser();
+        UUID otherUserId = createUser();
+        createCompetence(userId, 3, 2026);
+        createCompetence(otherUserId, 1, 2026);
+
+        // When
+        Map<YearMonth, Competence> competences = competenceRepository.findOrCreateAll(userId,
+                List.of(YearMonth.of(2026, 1), YearMonth.of(2026, 6)));
+
+        // Then
+        assertEquals(2, competences.size());
+        assertEquals(userId, competences.get(YearMonth.of(2026, 1)).getUserId());
+        assertEquals(3, competenceJpaRepository.findByUserId(userId).size());
+        assertEquals(1, competenceJpaRepository.findByUserId(otherUserId).size());
+    }
+
+    @Test
+    @DisplayName("Should hand back the same row when a month is resolved again instead of violating the unique key")
+    void givenResolvedMonth_whenResolvedAgain_thenSameRowIsReturned() {
+        // Given
+        UUID userId = createUser();
+        YearMonth june = YearMonth.of(2026, 6);
+        UUID first = competenceRepository.findOrCreateAll(userId, List.of(june)).get(june).getId();
+
+        // When
+        UUID second = competenceRepository.findOrCreateAll(userId, List.of(june)).get(june).getId();
+
+        // Then
+        assertEquals(first, second);
+        assertEquals(1, competenceJpaRepository.findByUserId(userId).size());
+    }
+
+    @Test
+    @DisplayName("Should return the month another transaction committed while the caller's transaction was open")
+    void givenMonthCommittedAfterCallerStarted_whenResolved_thenCommittedRowIsReturned() {
+        // Given
+        UUID userId = createUser();
+        YearMonth june = YearMonth.of(2026, 6);
+        TransactionTemplate caller = new TransactionTemplate(transactionManager);
+        // InnoDB's locking read sees the committed row even under REPEATABLE READ; H2 keeps the snapshot for
+        // locking reads too, so the caller runs READ COMMITTED here to exercise the same in-transaction path
+        caller.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // When
+        List<UUID> ids = caller.execute(status -> {
+            competenceJpaRepository.findByUserId(userId);
+            UUID winner = concurrent.execute(inner ->
+                    competenceRepository.findOrCreateAll(userId, List.of(june)).get(june).getId());
+            Competence resolved = competenceRepository.findOrCreateAll(userId, List.of(june)).get(june);
+            return Arrays.asList(winner, resolved == null ? null : resolved.getId());
+        });
+
+        // Then
+        assertEquals(ids.get(0), ids.get(1));
+        assertEquals(1, competenceJpaRepository.findByUserId(userId).size());
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.finance.app.infrastructure.persistence;
+
+import com.finance.app.domain.entity.CompetenceTransactionSubtypeSummary;
+import com.finance.app.domain.entity.Transaction;
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionSubtype;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.domain.service.TransactionService;
+import com.finance.app.infrastructure.config.JpaAuditingConfig;
+import com.finance.app.infrastructure.persistence.entity.AccountEntity;
+import com.finance.app.infrastructure.persistence.entity.CategoryEntity;
+import com.finance.app.infrastructure.persistence.entity.CompetenceEntity;
+import com.finance.app.infrastructure.persistence.entity.UserEntity;
+import com.finance.app.infrastructure.persistence.mapper.CompetenceSummaryMapper;
+import com.finance.app.infrastructure.persistence.mapper.TransactionMapper;
+import com.finance.app.infrastructure.persistence.repository.AccountJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.CategoryJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.CompetenceJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Uses the configured MySQL-mode H2 database: the upsert relies on ON DUPLICATE KEY UPDATE
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, CompetenceSummaryRepositoryImpl.class, CompetenceSummaryMapper.class,
+        TransactionRepositoryImpl.class, TransactionMapper.class})
+class CompetenceSummaryRepositoryImplTest {
+
+    @Autowired
+    private CompetenceSummaryRepositoryImpl competenceSummaryRepository;
+
+    @Autowired
+    private TransactionRepositoryImpl transactionRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private CompetenceJpaRepository competenceJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final TransactionService transactionService = new TransactionService();
+
+    private UUID userId;
+    private UUID accountId;
+    private UUID categoryId;
+    private UUID competenceId;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user = userJpaRepository.save(UserEntity.builder()
+                .name("Summary User")
+                .email("summary-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hashed_password_123")
+                .build());
+        AccountEntity account = accountJpaRepository.save(AccountEntity.builder()
+                .user(user)
+                .name("Main Account")
+                .balance(BigDecimal.ZERO)
+                .currency("BRL")
+                .build());
+        CategoryEntity category = categoryJpaRepository.save(CategoryEntity.builder()
+                .user(user)
+                .name("Shopping")
+                .type(TransactionType.EXPENSE)
+                .build());
+        CompetenceEntity competence = competenceJpaRepository.save(CompetenceEntity.builder()
+                .user(user)
+                .month(5)
+                .year(2026)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        userId = user.getId();
+        accountId = account.getId();
+        categoryId = category.getId();
+        competenceId = competence.getId();
+    }
+
+    private Transaction newTransaction(String amount, TransactionType type, TransactionStatus status,
+                                       TransactionSubtype subtype) {
+        return Transaction.create(accountId, categoryId, null, competenceId, userId, "Purchase",
+                new BigDecimal(amount), LocalDateTime.of(2026, 5, 1, 0, 0), type, subtype, status,
+                null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Should accumulate deltas on the same row, including transactions without subtype")
+    void givenRepeatedDeltas_whenApply_thenRowAccumulates() {
+        // Given
+        CompetenceTransactionSubtypeSummary contribution = transactionService.competenceContribution(
+                newTransaction("10.50", TransactionType.EXPENSE, TransactionStatus.COMPLETED, null));
+
+        // When
+        competenceSummaryRepository.apply(userId, List.of(contribution));
+        competenceSummaryRepository.apply(userId, List.of(contribution, contribution));
+
+        // Then
+        List<CompetenceTransactionSubtypeSummary> rows = competenceSummaryRepository.findByUserId(userId);
+        assertEquals(1, rows.size());
+        assertEquals(null, rows.get(0).subtype());
+        assertEquals(3L, rows.get(0).transactionCount());
+        assertEquals(new BigDecimal("31.50"), rows.get(0).totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should not touch the table when an edit keeps the transaction on the same row with the same amount")
+    void givenBeforeAndAfterOnSameRow_whenApply_thenNothingIsWritten() {
+        // Given
+        CompetenceTransactionSubtypeSummary contribution = transactionService.competenceContribution(
+                newTransaction("10.00", TransactionType.REVENUE, TransactionStatus.PENDING, TransactionSubtype.FIXED));
+
+        // When
+        competenceSummaryRepository.apply(userId, List.of(contribution.negate(), contribution));
+
+        // Then
+        assertTrue(competenceSummaryRepository.findByCompetenceId(competenceId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the same rows the incremental updates produced")
+    void givenIncrementalRows_whenRebuild_thenRowsMatchTransactions() {
+        // Given
+        List<Transaction> transactions = transactionRepository.saveAll(List.of(
+                newTransaction("100.00", TransactionType.REVENUE, TransactionStatus.COMPLETED, TransactionSubtype.FIXED),
+                newTransaction("40.00", TransactionType.EXPENSE, TransactionStatus.COMPLETED, TransactionSubtype.VARIABLE),
+                newTransaction("15.00", TransactionType.EXPENSE, TransactionStatus.COMPLETED, TransactionSubtype.VARIABLE),
+                newTransaction("25.00", TransactionType.EXPENSE, TransactionStatus.PENDING, null)));
+        competenceSummaryRepository.apply(userId,
+                transactions.stream().map(transactionService::competenceContribution).toList());
+        List<CompetenceTransactionSubtypeSummary> incremental = competenceSummaryRepository.findByCompetenceId(competenceId);
+
+        // When
+        competenceSummaryRepository.rebuild();
+
+        // Then
+        List<CompetenceTransactionSubtypeSummary> rebuilt = competenceSummaryRepository.findByCompetenceId(competenceId);
+        assertEquals(3, rebuilt.size());
+        assertEquals(new HashSet<>(incremental), new HashSet<>(rebuilt));
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.finance.app.infrastructure.persistence;
+
+import com.finance.app.domain.entity.ImportJob;
+import com.finance.app.domain.entity.ImportJobStatus;
+import com.finance.app.infrastructure.config.JpaAuditingConfig;
+import com.finance.app.infrastructure.persistence.entity.AccountEntity;
+import com.finance.app.infrastructure.persistence.entity.UserEntity;
+import com.finance.app.infrastructure.persistence.mapper.ImportJobMapper;
+import com.finance.app.infrastructure.persistence.repository.AccountJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, ImportJobRepositoryImpl.class, ImportJobMapper.class})
+class ImportJobRepositoryImplTest {
+
+    @Autowired
+    private ImportJobRepositoryImpl importJobRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    private UUID userId;
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user = userJpaRepository.save(UserEntity.builder()
+                .name("Import User")
+                .email("import-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hashed_password_123")
+                .build());
+        AccountEntity account = accountJpaRepository.save(AccountEntity.builder()
+                .user(user)
+                .name("Main Account")
+                .balance(BigDecimal.ZERO)
+                .currency("BRL")
+                .build());
+        userId = user.getId();
+        accountId = account.getId();
+    }
+
+    private ImportJob createJob(ImportJobStatus status) {
+        ImportJob job = ImportJob.create(userId, accountId, "statement.csv");
+        job.setStatus(status);
+        return importJobRepository.save(job);
+    }
+
+    @Test
+    @DisplayName("Should fail only the unfinished jobs last touched before the cutoff")
+    void givenJobsInEveryState_whenFailUnfinished_thenOnlyStaleOpenJobsFail() {
+        // Given
+        ImportJob pending = createJob(ImportJobStatus.PENDING);
+        ImportJob running = createJob(ImportJobStatus.RUNNING);
+        ImportJob completed = createJob(ImportJobStatus.COMPLETED);
+
+        // When
+        int untouched = importJobRepository.failUnfinished(LocalDateTime.now().minusHours(1), "restart");
+        int failed = importJobRepository.failUnfinished(LocalDateTime.now().plusMinutes(1), "restart");
+
+        // Then
+        assertEquals(0, untouched);
+        assertEquals(2, failed);
+        ImportJob failedRun = importJobRepository.findByIdAndUserId(running.getId(), userId).orElseThrow();
+        assertEquals(ImportJobStatus.FAILED, failedRun.getStatus());
+        assertEquals("restart", failedRun.getErrorMessage());
+        assertNotNull(failedRun.getFinishedAt());
+        assertEquals(ImportJobStatus.FAILED, importJobRepository.findByIdAndUserId(pending.getId(), userId).orElseThrow().getStatus());
+        assertEquals(ImportJobStatus.COMPLETED, importJobRepository.findByIdAndUserId(completed.getId(), userId).orElseThrow().getStatus());
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.finance.app.infrastructure.persistence;
+
+import com.finance.app.domain.entity.InstallmentSeries;
+import com.finance.app.domain.entity.InstallmentSeriesDelta;
+import com.finance.app.domain.entity.Transaction;
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionSubtype;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.infrastructure.config.JpaAuditingConfig;
+import com.finance.app.infrastructure.persistence.entity.AccountEntity;
+import com.finance.app.infrastructure.persistence.entity.CategoryEntity;
+import com.finance.app.infrastructure.persistence.entity.CompetenceEntity;
+import com.finance.app.infrastructure.persistence.entity.UserEntity;
+import com.finance.app.infrastructure.persistence.mapper.InstallmentSeriesMapper;
+import com.finance.app.infrastructure.persistence.mapper.TransactionMapper;
+import com.finance.app.infrastructure.persistence.repository.AccountJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.CategoryJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.CompetenceJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, InstallmentSeriesRepositoryImpl.class, InstallmentSeriesMapper.class,
+        TransactionRepositoryImpl.class, TransactionMapper.class})
+class InstallmentSeriesRepositoryImplTest {
+
+    @Autowired
+    private InstallmentSeriesRepositoryImpl installmentSeriesRepository;
+
+    @Autowired
+    private TransactionRepositoryImpl transactionRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private CompetenceJpaRepository competenceJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // Saves the root installment of a series and its header, with every installment still pending
+    private UUID createSeries(UUID userId, String description, int installments, String installmentAmount) {
+        UserEntity user = entityManager.find(UserEntity.class, userId);
+        AccountEntity account = accountJpaRepository.save(AccountEntity.builder()
+                .user(user).name("Card").balance(BigDecimal.ZERO).currency("BRL").build());
+        CategoryEntity category = categoryJpaRepository.save(CategoryEntity.builder()
+                .user(user).name("Shopping").type(TransactionType.EXPENSE).build());
+        CompetenceEntity competence = competenceJpaRepository.findByUserIdAndMonthAndYear(userId, 5, 2026)
+                .orElseGet(() -> competenceJpaRepository.save(CompetenceEntity.builder()
+                        .user(user).month(5).year(2026).build()));
+
+        Transaction root = transactionRepository.save(Transaction.create(account.getId(), category.getId(), null,
+                competence.getId(), userId, description, new BigDecimal(installmentAmount),
+                LocalDateTime.of(2026, 5, 1, 0, 0), TransactionType.EXPENSE, TransactionSubtype.FIXED,
+                TransactionStatus.PENDING, null, installments, 1, null));
+
+        BigDecimal total = new BigDecimal(installmentAmount).multiply(BigDecimal.valueOf(installments));
+        installmentSeriesRepository.create(userId, new InstallmentSeries(root.getId(), description, total,
+                installments, 0, installments, BigDecimal.ZERO, total));
+        return root.getId();
+    }
+
+    private UUID createUser() {
+        return userJpaRepository.save(UserEntity.builder()
+                .name("Series User")
+                .email("series-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hashed_password_123")
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("Should move counts and sums between pending and completed, merging deltas of the same series")
+    void givenPaymentDeltas_whenApply_thenHeaderTracksProgress() {
+        // Given
+        UUID userId = createUser();
+        UUID parentId = createSeries(userId, "Phone", 3, "100.00");
+        InstallmentSeriesDelta pending = new InstallmentSeriesDelta(parentId, 0, 1, BigDecimal.ZERO, new BigDecimal("100.00"));
+        InstallmentSeriesDelta completed = new InstallmentSeriesDelta(parentId, 1, 0, new BigDecimal("100.00"), BigDecimal.ZERO);
+
+        // When
+        installmentSeriesRepository.apply(List.of(pending.negate(), completed));
+        installmentSeriesRepository.apply(List.of(pending.negate(), completed));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        InstallmentSeries series = installmentSeriesRepository.findByParentId(parentId).orElseThrow();
+        assertEquals(3, series.totalInstallments());
+        assertEquals(2, series.completedInstallments());
+        assertEquals(1, series.pendingInstallments());
+        assertEquals(new BigDecimal("300.00"), series.totalAmount());
+        assertEquals(new BigDecimal("200.00"), series.completedAmount());
+        assertEquals(new BigDecimal("100.00"), series.pendingAmount());
+    }
+
+    @Test
+    @DisplayName("Should rename only the given series header")
+    void givenTwoSeries_whenUpdateDescription_thenOnlyThatHeaderIsRenamed() {
+        // Given
+        UUID userId = createUser();
+        UUID renamed = createSeries(userId, "Phone", 3, "100.00");
+        UUID other = createSeries(userId, "Sofa", 2, "250.00");
+
+        // When
+        installmentSeriesRepository.updateDescription(renamed, "New phone");
+        entityManager.clear();
+
+        // Then
+        assertEquals("New phone", installmentSeriesRepository.findByParentId(renamed).orElseThrow().description());
+        assertEquals("Sofa", installmentSeriesRepository.findByParentId(other).orElseThrow().description());
+    }
+
+    @Test
+    @DisplayName("Should list only the user's series that still have pending installments")
+    void givenFinishedAndOtherUsersSeries_whenFindActive_thenOnlyOpenOwnSeriesAreListed() {
+        // Given
+        UUID userId = createUser();
+        UUID open = createSeries(userId, "Sofa", 2, "250.00");
+        UUID finished = createSeries(userId, "Course", 1, "80.00");
+        createSeries(createUser(), "Someone else's", 4, "10.00");
+        installmentSeriesRepository.apply(List.of(new InstallmentSeriesDelta(finished, 1, -1,
+                new BigDecimal("80.00"), new BigDecimal("-80.00"))));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<InstallmentSeries> active = installmentSeriesRepository.findActiveByUserId(userId);
+
+        // Then
+        assertEquals(1, active.size());
+        assertEquals(open, active.get(0).parentId());
+        assertEquals(new BigDecimal("500.00"), active.get(0).pendingAmount());
+    }
+
+}
@@ -0,0 +1,371 @@
+package com.finance.app.infrastructure.persistence;
+
+import com.finance.app.domain.entity.CommitmentSummary;
+import com.finance.app.domain.entity.Transaction;
+import com.finance.app.domain.entity.TransactionCursor;
+import com.finance.app.domain.entity.TransactionFilter;
+import com.finance.app.domain.entity.TransactionPage;
+import com.finance.app.domain.entity.TransactionStatus;
+import com.finance.app.domain.entity.TransactionSubtype;
+import com.finance.app.domain.entity.TransactionType;
+import com.finance.app.infrastructure.config.JpaAuditingConfig;
+import com.finance.app.infrastructure.persistence.entity.AccountEntity;
+import com.finance.app.infrastructure.persistence.entity.CategoryEntity;
+import com.finance.app.infrastructure.persistence.entity.CompetenceEntity;
+import com.finance.app.infrastructure.persistence.entity.UserEntity;
+import com.finance.app.infrastructure.persistence.mapper.TransactionMapper;
+import com.finance.app.infrastructure.persistence.repository.AccountJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.CategoryJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.CompetenceJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.TransactionJpaRepository;
+import com.finance.app.infrastructure.persistence.repository.UserJpaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, TransactionRepositoryImpl.class, TransactionMapper.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TransactionRepositoryImplTest {
+
+    @Autowired
+    private TransactionRepositoryImpl transactionRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private CompetenceJpaRepository competenceJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UUID userId;
+    private UUID accountId;
+    private UUID categoryId;
+    private UUID competenceId;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user = userJpaRepository.save(UserEntity.builder()
+                .name("Batch User")
+                .email("batch-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hashed_password_123")
+                .build());
+        AccountEntity account = accountJpaRepository.save(AccountEntity.builder()
+                .user(user)
+                .name("Main Account")
+                .balance(BigDecimal.ZERO)
+                .currency("BRL")
+                .build());
+        CategoryEntity category = categoryJpaRepository.save(CategoryEntity.builder()
+                .user(user)
+                .name("Shopping")
+                .type(TransactionType.EXPENSE)
+                .build());
+        CompetenceEntity competence = competenceJpaRepository.save(CompetenceEntity.builder()
+                .user(user)
+                .month(5)
+                .year(2026)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        userId = user.getId();
+        accountId = account.getId();
+        categoryId = category.getId();
+        competenceId = competence.getId();
+    }
+
+    private Transaction newTransaction(int number, UUID parentId) {
+        return Transaction.create(accountId, categoryId, null, competenceId, userId,
+                "Installment " + number, BigDecimal.valueOf(10), LocalDateTime.of(2026, 5, 1, 0, 0),
+                TransactionType.EXPENSE, TransactionSubtype.FIXED, TransactionStatus.PENDING,
+                parentId, 100, number, null);
+    }
+
+    @Test
+    @DisplayName("Should insert a 100-row batch with one prepared statement per JDBC batch")
+    void givenHundredTransactions_whenSaveAll_thenInsertsAreBatched() {
+        // Given
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            transactions.add(newTransaction(i, null));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<Transaction> saved = transactionRepository.saveAll(transactions);
+
+        // Then — 100 rows, 2 batches of 50, no SELECT for IDs or references
+        assertEquals(100, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(100, saved.size());
+        assertTrue(saved.stream().map(Transaction::getId).allMatch(Objects::nonNull));
+        assertEquals(100, transactionJpaRepository.findByCompetenceId(competenceId).size());
+    }
+
+    @Test
+    @DisplayName("Should batch children referencing a parent saved in the same transaction")
+    void givenUnflushedParent_whenSaveAllChildren_thenParentIsInsertedFirst() {
+        // Given
+        Transaction root = transactionRepository.save(newTransaction(1, null));
+        List<Transaction> children = new ArrayList<>();
+        for (int i = 2; i <= 60; i++) {
+            children.add(newTransaction(i, root.getId()));
+        }
+
+        // When
+        transactionRepository.saveAll(children);
+        entityManager.clear();
+
+        // Then
+        assertEquals(60, transactionRepository.findByParentId(root.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Should walk every transaction exactly once, newest first, across keyset pages with tied timestamps")
+    void givenTiedTimestamps_whenPagingWithCursor_thenEveryRowIsReturnedOnceInOrder() {
+        // Given
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            Transaction transaction = newTransaction(i, null);
+            transaction.setDateTime(LocalDateTime.of(2026, 5, 1 + i % 3, 12, 0));
+            transactions.add(transaction);
+        }
+        transactionRepository.saveAll(transactions);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Transaction> seen = new ArrayList<>();
+        List<String> cursors = new ArrayList<>();
+        String cursor = null;
+        do {
+            TransactionPage page = transactionRepository.findByFilter(TransactionFilter.builder()
+                    .userId(userId)
+                    .after(cursor == null ? null : TransactionCursor.decode(cursor))
+                    .limit(5)
+                    .build());
+            seen.addAll(page.transactions());
+            cursor = page.nextCursor() == null ? null : page.nextCursor().encode();
+            cursors.add(cursor);
+        } while (cursor != null);
+
+        // Then
+        assertEquals(5, cursors.size());
+        assertEquals(23, seen.size());
+        assertEquals(23, seen.stream().map(Transaction::getId).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(!seen.get(i).getDateTime().isAfter(seen.get(i - 1).getDateTime()));
+        }
+        assertEquals(LocalDateTime.of(2026, 5, 3, 12, 0), seen.get(0).getDateTime());
+    }
+
+    @Test
+    @DisplayName("Should end on a full page without handing out a cursor to an empty one")
+    void givenExactlyOnePage_whenFindByFilter_thenNextCursorIsNull() {
+        // Given
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            transactions.add(newTransaction(i, null));
+        }
+        transactionRepository.saveAll(transactions);
+
+        // When
+        TransactionPage page = transactionRepository.findByFilter(TransactionFilter.builder()
+                .userId(userId)
+                .limit(5)
+                .build());
+
+        // Then
+        assertEquals(5, page.transactions().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should find descriptions regardless of case and accents, also after the description is edited")
+    void givenAccentedDescriptions_whenSearching_thenMatchesNormalizedText() {
+        // Given
+        Transaction acai = newTransaction(1, null);
+        acai.setDescription("Açaí do PARÁ");
+        Transaction market = newTransaction(2, null);
+        market.setDescription("Mercado 100% Natural");
+        List<Transaction> saved = transactionRepository.saveAll(List.of(acai, market));
+        entityManager.flush();
+        saved.get(1).setDescription("Supermercado São João");
+        transactionRepository.save(saved.get(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Transaction> byAccentlessTerm = search("ACAI");
+        List<Transaction> byEditedDescription = search("sao jo");
+        List<Transaction> byLikeWildcard = search("100%");
+
+        // Then
+        assertEquals(List.of("Açaí do PARÁ"), byAccentlessTerm.stream().map(Transaction::getDescription).toList());
+        assertEquals(List.of("Supermercado São João"), byEditedDescription.stream().map(Transaction::getDescription).toList());
+        assertTrue(byLikeWildcard.isEmpty());
+    }
+
+    private List<Transaction> search(String description) {
+        return transactionRepository.findByFilter(TransactionFilter.builder()
+                .userId(userId)
+                .description(description)
+                .limit(10)
+                .build()).transactions();
+    }
+
+    @Test
+    @DisplayName("Should rewrite the amounts of a long series with a single UPDATE")
+    void givenSeries_whenUpdateAmounts_thenOneStatementRewritesEveryRow() {
+        // Given
+        Transaction root = transactionRepository.save(newTransaction(1, null));
+        List<Transaction> children = new ArrayList<>();
+        for (int i = 2; i <= 60; i++) {
+            children.add(newTransaction(i, root.getId()));
+        }
+        List<Transaction> saved = transactionRepository.saveAll(children);
+        Map<UUID, BigDecimal> amounts = new HashMap<>();
+        saved.forEach(t -> amounts.put(t.getId(), new BigDecimal(t.getInstallmentNumber() + ".25")));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        transactionRepository.updateAmounts(amounts);
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        List<Transaction> series = transactionRepository.findByParentId(root.getId());
+        assertEquals(0, new BigDecimal("10").compareTo(series.stream()
+                .filter(t -> t.getId().equals(root.getId())).findFirst().orElseThrow().getAmount()));
+        assertTrue(series.stream().filter(t -> !t.getId().equals(root.getId()))
+                .allMatch(t -> t.getAmount().compareTo(new BigDecimal(t.getInstallmentNumber() + ".25")) == 0));
+    }
+
+    @Test
+    @DisplayName("Should change the type of the root and every child in one statement")
+    void givenSeries_whenUpdateTypeByParentId_thenWholeSeriesChanges() {
+        // Given
+        Transaction root = transactionRepository.save(newTransaction(1, null));
+        transactionRepository.saveAll(List.of(newTransaction(2, root.getId()), newTransaction(3, root.getId())));
+        Transaction unrelated = transactionRepository.save(newTransaction(1, null));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        transactionRepository.updateTypeByParentId(root.getId(), TransactionType.REVENUE);
+
+        // Then
+        assertTrue(transactionRepository.findByParentId(root.getId()).stream()
+                .allMatch(t -> t.getType() == TransactionType.REVENUE));
+        assertEquals(TransactionType.EXPENSE, transactionRepository.findById(unrelated.getId()).orElseThrow().getType());
+    }
+
+    @Test
+    @DisplayName("Should sum pending installments and fixed transactions per month, category and type inside the window")
+    void givenMixedFutureTransactions_whenSumPendingCommitments_thenOnlyCommitmentsInWindowAreGrouped() {
+        // Given
+        UserEntity user = entityManager.find(UserEntity.class, userId);
+        UUID june = competenceJpaRepository.save(CompetenceEntity.builder().user(user).month(6).year(2026).build()).getId();
+        UUID august = competenceJpaRepository.save(CompetenceEntity.builder().user(user).month(8).year(2026).build()).getId();
+        transactionRepository.saveAll(List.of(
+                commitment(june, "10.00", TransactionType.EXPENSE, TransactionSubtype.VARIABLE, TransactionStatus.PENDING, 3),
+                commitment(june, "5.50", TransactionType.EXPENSE, TransactionSubtype.FIXED, TransactionStatus.PENDING, null),
+                commitment(june, "40.00", TransactionType.REVENUE, TransactionSubtype.FIXED, TransactionStatus.PENDING, null),
+                commitment(june, "99.00", TransactionType.EXPENSE, TransactionSubtype.FIXED, TransactionStatus.COMPLETED, 3),
+                commitment(june, "77.00", TransactionType.EXPENSE, TransactionSubtype.VARIABLE, TransactionStatus.PENDING, null),
+                commitment(competenceId, "12.00", TransactionType.EXPENSE, TransactionSubtype.FIXED, TransactionStatus.PENDING, 3),
+                commitment(august, "13.00", TransactionType.EXPENSE, TransactionSubtype.FIXED, TransactionStatus.PENDING, 3)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<CommitmentSummary> commitments = transactionRepository.sumPendingCommitments(userId,
+                YearMonth.of(2026, 6), YearMonth.of(2026, 7));
+
+        // Then
+        assertEquals(2, commitments.size());
+        assertTrue(commitments.stream().allMatch(c -> c.year() == 2026 && c.month() == 6
+                && c.categoryId().equals(categoryId)));
+        assertEquals(List.of(new BigDecimal("40.00"), new BigDecimal("15.50")), commitments.stream()
+                .map(c -> c.totalAmount().setScale(2)).toList());
+        assertEquals(List.of(TransactionType.REVENUE, TransactionType.EXPENSE),
+                commitments.stream().map(CommitmentSummary::type).toList());
+    }
+
+    @Test
+    @DisplayName("Should bound a window crossing the year by year and month together")
+    void givenCommitmentsAroundNewYear_whenSumPendingCommitments_thenOnlyMonthsInsideTheWindowAreGrouped() {
+        // Given
+        UserEntity user = entityManager.find(UserEntity.class, userId);
+        List<UUID> months = List.of(YearMonth.of(2026, 10), YearMonth.of(2026, 12), YearMonth.of(2027, 1), YearMonth.of(2027, 3))
+                .stream()
+                .map(period -> competenceJpaRepository.save(CompetenceEntity.builder().user(user)
+                        .month(period.getMonthValue()).year(period.getYear()).build()).getId())
+                .toList();
+        transactionRepository.saveAll(months.stream()
+                .map(competence -> commitment(competence, "10.00", TransactionType.EXPENSE, TransactionSubtype.FIXED,
+                        TransactionStatus.PENDING, null))
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<CommitmentSummary> commitments = transactionRepository.sumPendingCommitments(userId,
+                YearMonth.of(2026, 11), YearMonth.of(2027, 2));
+
+        // Then
+        assertEquals(List.of(YearMonth.of(2026, 12), YearMonth.of(2027, 1)), commitments.stream()
+                .map(c -> YearMonth.of(c.year(), c.month())).toList());
+    }
+
+    private Transaction commitment(UUID competence, String amount, TransactionType type, TransactionSubtype subtype,
+                                   TransactionStatus status, Integer installmentCount) {
+        return Transaction.create(accountId, categoryId, null, competence, userId, "Commitment",
+                new BigDecimal(amount), LocalDateTime.of(2026, 5, 1, 0, 0), type, subtype, status,
+                null, installmentCount, installmentCount == null ? null : 1, null);
+    }
+
+}
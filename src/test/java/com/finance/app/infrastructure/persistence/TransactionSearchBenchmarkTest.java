@@ -0,0 +1,116 @@
+package com.finance.app.infrastructure.persistence;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Run with: BENCHMARK_MYSQL_URL=jdbc:mysql://localhost:3306/julius?user=root&password=root gradle benchmark
+// Needs a real MySQL: H2 has no ngram FULLTEXT index, so its numbers would say nothing about production.
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MYSQL_URL", matches = ".+")
+class TransactionSearchBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 20;
+    private static final List<String> TERMS = List.of("acai", "sao jo", "farmacia", "uber");
+
+    private static final String LEGACY_QUERY = "SELECT COUNT(*) FROM bench_transactions "
+            + "WHERE LOWER(description) LIKE CONCAT('%', LOWER(?), '%')";
+    private static final String INDEXED_QUERY = "SELECT COUNT(*) FROM bench_transactions "
+            + "WHERE MATCH(description_search) AGAINST(? IN BOOLEAN MODE) AND description_search LIKE ? ESCAPE '!'";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void seed() throws SQLException {
+        connection = DriverManager.getConnection(System.getenv("BENCHMARK_MYSQL_URL"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_transactions");
+            statement.execute("CREATE TABLE bench_transactions (id BIGINT PRIMARY KEY, "
+                    + "description VARCHAR(255) NOT NULL, description_search VARCHAR(255) NOT NULL)");
+            statement.execute("SET SESSION cte_max_recursion_depth = " + ROWS);
+            statement.execute("INSERT INTO bench_transactions "
+                    + "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + ROWS + ") "
+                    + "SELECT n, "
+                    + "ELT(1 + n % 6, 'Açaí do Pará', 'Supermercado São João', 'Farmácia Pague Menos', "
+                    + "'Uber *Trip', 'Posto Shell', 'Padaria Pão de Açúcar'), "
+                    + "ELT(1 + n % 6, 'acai do para', 'supermercado sao joao', 'farmacia pague menos', "
+                    + "'uber *trip', 'posto shell', 'padaria pao de acucar') "
+                    + "FROM seq");
+            statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+            statement.execute("ALTER TABLE bench_transactions "
+                    + "ADD FULLTEXT INDEX ft_bench_description_search (description_search) WITH PARSER ngram");
+            statement.execute("ANALYZE TABLE bench_transactions");
+        }
+    }
+
+    @AfterAll
+    static void drop() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_transactions");
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("Benchmark: LOWER(description) LIKE vs ngram FULLTEXT on the normalized column")
+    void compareSearches() throws SQLException {
+        for (String term : TERMS) {
+            long[] legacy = measure(LEGACY_QUERY, term, null);
+            long[] indexed = measure(INDEXED_QUERY, "\"" + term + "\"", "%" + term + "%");
+
+            System.out.printf("Search '%s' over %d rows: LIKE p50 %.1f ms / p95 %.1f ms, FULLTEXT p50 %.1f ms / p95 %.1f ms%n",
+                    term, ROWS, percentile(legacy, 50), percentile(legacy, 95),
+                    percentile(indexed, 50), percentile(indexed, 95));
+        }
+    }
+
+    private static long[] measure(String sql, String first, String second) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, first);
+            if (second != null) {
+                statement.setString(2, second);
+            }
+            long expected = count(statement);
+            for (int i = 1; i < WARMUP_ROUNDS; i++) {
+                assertEquals(expected, count(statement), sql);
+            }
+            long[] samples = new long[MEASURED_ROUNDS];
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                count(statement);
+                samples[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(samples);
+            return samples;
+        }
+    }
+
+    private static long count(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1);
+        return sortedNanos[index] / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.finance.app.infrastructure.persistence.jdbc;
+
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Pins how many JDBC statements an action runs on the calling thread, e.g.
+// assertQueryCount(2, () -> mockMvc.perform(get("/api/v1/categories"))).andExpect(status().isOk());
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertQueryCount(int expected, Callable<T> action) throws Exception {
+        try (QueryCounter counter = QueryCounter.start()) {
+            T result = action.call();
+            assertEquals(expected, counter.statements(), "JDBC statements executed");
+            return result;
+        }
+    }
+
+    public static <T> T assertMaxQueryCount(int max, Callable<T> action) throws Exception {
+        try (QueryCounter counter = QueryCounter.start()) {
+            T result = action.call();
+            assertTrue(counter.statements() <= max,
+                    () -> "expected at most " + max + " JDBC statements but " + counter.statements() + " were executed");
+            return result;
+        }
+    }
+
+}
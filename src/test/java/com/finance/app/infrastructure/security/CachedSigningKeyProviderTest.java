@@ -0,0 +1,154 @@
+package com.finance.app.infrastructure.security;
+
+import com.finance.app.infrastructure.security.SigningKeySource.SigningKeySet;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CachedSigningKeyProviderTest {
+
+    private static RSAPublicKey oldKey;
+    private static RSAPublicKey newKey;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+
+    private MutableClock clock;
+    private Map<String, RSAPublicKey> published;
+    private boolean sourceDown;
+    private CachedSigningKeyProvider provider;
+
+    @BeforeAll
+    static void generateKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(1024);
+        oldKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+        newKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-05-01T12:00:00Z"));
+        published = Map.of("old", oldKey);
+        provider = new CachedSigningKeyProvider(() -> {
+            loads.incrementAndGet();
+            if (sourceDown) {
+                throw new IllegalStateException("key endpoint unavailable");
+            }
+            return new SigningKeySet(published, Duration.ofHours(1));
+        }, clock, pendingRefreshes::add);
+    }
+
+    @Test
+    @DisplayName("Should load the key set once while it is fresh")
+    void givenFreshKeys_whenLookedUpRepeatedly_thenLoadsOnce() {
+        // When
+        provider.getPublicKeyById("old");
+        RSAPublicKey key = provider.getPublicKeyById("old");
+
+        // Then
+        assertSame(oldKey, key);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should keep serving expired keys while the refresh runs in the background")
+    void givenExpiredKeys_whenLookedUp_thenServesStaleAndRefreshesAsync() {
+        // Given
+        provider.getPublicKeyById("old");
+        clock.advance(Duration.ofHours(2));
+        published = Map.of("new", newKey);
+
+        // When
+        RSAPublicKey stale = provider.getPublicKeyById("old");
+        provider.getPublicKeyById("old");
+        pendingRefreshes.forEach(Runnable::run);
+
+        // Then
+        assertSame(oldKey, stale);
+        assertEquals(1, pendingRefreshes.size());
+        assertSame(newKey, provider.getPublicKeyById("new"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should keep the cached keys when a background refresh fails")
+    void givenFailingSource_whenRefreshed_thenKeepsCachedKeys() {
+        // Given
+        provider.getPublicKeyById("old");
+        clock.advance(Duration.ofHours(2));
+        sourceDown = true;
+
+        // When
+        provider.getPublicKeyById("old");
+        pendingRefreshes.forEach(Runnable::run);
+
+        // Then
+        assertSame(oldKey, provider.getPublicKeyById("old"));
+    }
+
+    @Test
+    @DisplayName("Should reload for an unknown kid, but not more than once a minute")
+    void givenUnknownKid_whenLookedUp_thenReloadsAtMostOncePerInterval() {
+        // Given
+        provider.getPublicKeyById("old");
+        published = Map.of("old", oldKey, "new", newKey);
+
+        // When
+        RSAPublicKey tooSoon = provider.getPublicKeyById("new");
+        clock.advance(Duration.ofMinutes(2));
+        RSAPublicKey afterInterval = provider.getPublicKeyById("new");
+
+        // Then
+        assertNull(tooSoon);
+        assertSame(newKey, afterInterval);
+        assertEquals(2, loads.get());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+}
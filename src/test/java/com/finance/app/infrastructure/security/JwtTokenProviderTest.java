@@ -1,5 +1,7 @@
 package com.finance.app.infrastructure.security;
 
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -115,4 +118,38 @@ class JwtTokenProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("authenticate")
+    class Authenticate {
+
+        @Test
+        @DisplayName("Should return the principal with the same expiry reported when the token was issued")
+        void givenIssuedToken_whenAuthenticate_thenReturnsPrincipal() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            IssuedToken issued = jwtTokenProvider.issueToken("john@example.com", userId);
+
+            // When
+            TokenPrincipal principal = jwtTokenProvider.authenticate(issued.token());
+
+            // Then
+            assertEquals(userId, principal.userId());
+            assertEquals("john@example.com", principal.email());
+            assertEquals(issued.expiresAt(), principal.expiresAt());
+        }
+
+        @Test
+        @DisplayName("Should throw JWTVerificationException when the userId claim is missing")
+        void givenTokenWithoutUserId_whenAuthenticate_thenThrows() {
+            // Given
+            String token = JWT.create()
+                    .withSubject("john@example.com")
+                    .withExpiresAt(Instant.now().plusSeconds(60))
+                    .sign(Algorithm.HMAC256("test-secret-key"));
+
+            // When / Then
+            assertThrows(JWTVerificationException.class, () -> jwtTokenProvider.authenticate(token));
+        }
+    }
+
 }
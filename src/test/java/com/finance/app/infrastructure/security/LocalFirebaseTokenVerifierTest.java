@@ -0,0 +1,168 @@
+package com.finance.app.infrastructure.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.finance.app.domain.entity.SocialProfile;
+import com.finance.app.domain.exception.InvalidFirebaseTokenException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocalFirebaseTokenVerifierTest {
+
+    private static final String PROJECT_ID = "julius-test";
+    private static final String KEY_ID = "test-key";
+
+    private static KeyPair signingKeys;
+    private static KeyPair unpublishedKeys;
+
+    @TempDir
+    Path directory;
+
+    private LocalFirebaseTokenVerifier verifier;
+
+    @BeforeAll
+    static void generateKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signingKeys = generator.generateKeyPair();
+        unpublishedKeys = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // The local JWKS file stands in for Google's key endpoint
+        Path jwks = directory.resolve("jwks.json");
+        RSAPublicKey publicKey = (RSAPublicKey) signingKeys.getPublic();
+        Files.writeString(jwks, """
+                {"keys": [{"kty": "RSA", "alg": "RS256", "use": "sig", "kid": "%s", "n": "%s", "e": "%s"}]}
+                """.formatted(KEY_ID, base64Url(publicKey.getModulus()), base64Url(publicKey.getPublicExponent())));
+
+        verifier = new LocalFirebaseTokenVerifier(
+                new ResourceJwksSigningKeySource(new FileSystemResource(jwks), Duration.ofHours(1)), PROJECT_ID);
+    }
+
+    private JWTCreator.Builder idToken() {
+        Instant now = Instant.now();
+        return JWT.create()
+                .withKeyId(KEY_ID)
+                .withIssuer("https://securetoken.google.com/" + PROJECT_ID)
+                .withAudience(PROJECT_ID)
+                .withSubject("firebase-uid")
+                .withIssuedAt(now)
+                .withExpiresAt(now.plusSeconds(3600))
+                .withClaim("auth_time", now.getEpochSecond())
+                .withClaim("name", "Google User")
+                .withClaim("email", "google@example.com")
+                .withClaim("picture", "https://photo.url");
+    }
+
+    private static String sign(JWTCreator.Builder token, KeyPair keys) {
+        return token.sign(Algorithm.RSA256((RSAPublicKey) keys.getPublic(), (RSAPrivateKey) keys.getPrivate()));
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    @Test
+    @DisplayName("Should return the profile of a token signed by a published key")
+    void givenValidToken_whenVerify_thenReturnsProfile() {
+        // Given
+        String token = sign(idToken(), signingKeys);
+
+        // When
+        SocialProfile profile = verifier.verify(token);
+
+        // Then
+        assertEquals(new SocialProfile("Google User", "google@example.com", "https://photo.url"), profile);
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed by a key that is not in the key set")
+    void givenUnknownSigningKey_whenVerify_thenThrowsInvalid() {
+        // Given
+        String token = sign(idToken(), unpublishedKeys);
+
+        // When / Then
+        InvalidFirebaseTokenException exception = assertThrows(InvalidFirebaseTokenException.class,
+                () -> verifier.verify(token));
+        assertEquals(InvalidFirebaseTokenException.invalid().getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject a token issued for another Firebase project")
+    void givenOtherAudience_whenVerify_thenThrowsInvalid() {
+        // Given
+        String token = sign(idToken().withAudience("other-project"), signingKeys);
+
+        // When / Then
+        assertThrows(InvalidFirebaseTokenException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    @DisplayName("Should report an expired token as expired")
+    void givenExpiredToken_whenVerify_thenThrowsExpired() {
+        // Given
+        Instant issuedAt = Instant.now().minus(Duration.ofHours(2));
+        String token = sign(idToken().withIssuedAt(issuedAt).withExpiresAt(issuedAt.plusSeconds(3600)), signingKeys);
+
+        // When / Then
+        InvalidFirebaseTokenException exception = assertThrows(InvalidFirebaseTokenException.class,
+                () -> verifier.verify(token));
+        assertEquals(InvalidFirebaseTokenException.expired().getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should refuse to be built without a project id")
+    void givenNoProjectId_whenCreated_thenThrows() {
+        // Given
+        SigningKeySource keys = () -> {
+            throw new AssertionError("keys must not be loaded");
+        };
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new LocalFirebaseTokenVerifier(keys, ""));
+    }
+
+    @Test
+    @DisplayName("Should reject the token, not fail the request, when the signing keys cannot be loaded")
+    void givenUnreachableKeySet_whenVerify_thenThrowsInvalid() {
+        // Given
+        LocalFirebaseTokenVerifier offline = new LocalFirebaseTokenVerifier(
+                new ResourceJwksSigningKeySource(new FileSystemResource(directory.resolve("missing.json")), Duration.ofHours(1)),
+                PROJECT_ID);
+        String token = sign(idToken(), signingKeys);
+
+        // When / Then
+        InvalidFirebaseTokenException exception = assertThrows(InvalidFirebaseTokenException.class,
+                () -> offline.verify(token));
+        assertEquals(InvalidFirebaseTokenException.invalid().getMessage(), exception.getMessage());
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.finance.app.infrastructure.security;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-05-01T12:00:00Z");
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache(2, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private TokenPrincipal verify(String token, Instant expiresAt) {
+        verifications.incrementAndGet();
+        return new TokenPrincipal(UUID.randomUUID(), token + "@example.com", expiresAt);
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve later requests from the cache")
+    void givenVerifiedToken_whenResolvedAgain_thenSkipsVerification() {
+        // Given
+        TokenPrincipal first = cache.resolve("token", token -> verify(token, NOW.plusSeconds(60)));
+
+        // When
+        TokenPrincipal second = cache.resolve("token", token -> verify(token, NOW.plusSeconds(60)));
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Should verify again once the cached token has expired")
+    void givenExpiredEntry_whenResolved_thenVerifiesAgain() {
+        // Given
+        cache.resolve("token", token -> verify(token, NOW));
+
+        // When
+        cache.resolve("token", token -> verify(token, NOW.plus(Duration.ofMinutes(5))));
+
+        // Then
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a revoked token even if it was cached")
+    void givenRevokedToken_whenResolved_thenThrows() {
+        // Given
+        cache.resolve("token", token -> verify(token, NOW.plusSeconds(60)));
+
+        // When
+        cache.revoke("token", NOW.plusSeconds(60));
+
+        // Then
+        assertThrows(JWTVerificationException.class,
+                () -> cache.resolve("token", token -> verify(token, NOW.plusSeconds(60))));
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Should keep at most the configured number of tokens")
+    void givenFullCache_whenNewTokenIsVerified_thenEvictsLeastRecentlyUsed() {
+        // Given
+        cache.resolve("a", token -> verify(token, NOW.plusSeconds(60)));
+        cache.resolve("b", token -> verify(token, NOW.plusSeconds(60)));
+        cache.resolve("a", token -> verify(token, NOW.plusSeconds(60)));
+
+        // When
+        cache.resolve("c", token -> verify(token, NOW.plusSeconds(60)));
+        cache.resolve("a", token -> verify(token, NOW.plusSeconds(60)));
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals(3, verifications.get());
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.finance.app.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.app.web.dto.request.LoginRequest;
+import com.finance.app.web.dto.request.RegisterRequest;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should expose use-case timer histograms and import gauges on the authenticated prometheus endpoint")
+    void givenUseCaseCall_whenScrapingPrometheus_thenTimerHistogramIsExposed() throws Exception {
+        // Given
+        RegisterRequest registerRequest = new RegisterRequest("Metrics User", "metrics@example.com", "password123");
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+        LoginRequest loginRequest = new LoginRequest("metrics@example.com", "password123");
+        String token = JsonPath.parse(mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString()).read("$.token");
+
+        // When
+        String scrape = mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Then
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith("julius_usecase_seconds_bucket{")
+                && line.contains("class=\"com.finance.app.application.usecase.AuthUseCase\"")
+                && line.contains("method=\"register\"")));
+        assertTrue(scrape.contains("julius_import_queue_depth"));
+    }
+
+    @Test
+    @DisplayName("Should keep metrics private while the health probe stays public")
+    void givenNoToken_whenCallingActuator_thenOnlyHealthIsReachable() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.finance.app.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.app.web.dto.request.LoginRequest;
+import com.finance.app.web.dto.request.RegisterRequest;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static com.finance.app.infrastructure.persistence.jdbc.QueryCountAssertions.assertQueryCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String email = "queries-" + UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest("Query Count", email, "password123"))))
+                .andExpect(status().isCreated());
+        String login = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, "password123"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        token = JsonPath.parse(login).read("$.token");
+    }
+
+    @Test
+    @DisplayName("Should list categories with a fixed number of statements")
+    void givenDefaultCategories_whenListing_thenStatementCountIsPinned() throws Exception {
+        assertQueryCount(2, () -> mockMvc.perform(get("/api/v1/categories").header("Authorization", "Bearer " + token)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should list competences and accounts with a fixed number of statements")
+    void givenNewUser_whenListingCompetencesAndAccounts_thenStatementCountIsPinned() throws Exception {
+        assertQueryCount(2, () -> mockMvc.perform(get("/api/v1/competences").header("Authorization", "Bearer " + token)))
+                .andExpect(status().isOk());
+        assertQueryCount(1, () -> mockMvc.perform(get("/api/v1/accounts").header("Authorization", "Bearer " + token)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should register a user, with its default categories, in a fixed number of statements")
+    void givenNewEmail_whenRegistering_thenStatementCountIsPinned() throws Exception {
+        RegisterRequest request = new RegisterRequest("Pinned", "pinned-" + UUID.randomUUID() + "@example.com", "password123");
+        assertQueryCount(4, () -> mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Should count the statements of the overview's parallel subtasks against the request")
+    void givenNewUser_whenLoadingOverview_thenSubtaskStatementsAreCounted() throws Exception {
+        assertQueryCount(7, () -> mockMvc.perform(get("/api/v1/dashboard/overview").header("Authorization", "Bearer " + token)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should record the statement count of each request per route")
+    void givenRequest_whenCompleted_thenStatementCountIsRecordedPerRoute() throws Exception {
+        // Given
+        long before = recordedRequests("/api/v1/accounts");
+
+        // When
+        mockMvc.perform(get("/api/v1/accounts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Then
+        assertEquals(before + 1, recordedRequests("/api/v1/accounts"));
+    }
+
+    private long recordedRequests(String uri) {
+        DistributionSummary summary = meterRegistry.find("julius.http.server.queries").tags("method", "GET", "uri", uri).summary();
+        return summary == null ? 0 : summary.count();
+    }
+
+}
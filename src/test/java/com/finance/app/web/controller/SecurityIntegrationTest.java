@@ -2,6 +2,7 @@ package com.finance.app.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.finance.app.web.dto.request.LoginRequest;
+import com.finance.app.web.dto.request.RefreshTokenRequest;
 import com.finance.app.web.dto.request.RegisterRequest;
 import com.finance.app.web.dto.request.CreateAccountRequest;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import com.jayway.jsonpath.JsonPath;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -53,4 +55,71 @@ public class SecurityIntegrationTest {
                 .content(objectMapper.writeValueAsString(accountRequest)))
                 .andExpect(status().isCreated());
     }
+
+    @Test
+    public void testRefreshTokenRotation() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest("Refresh User", "refreshuser@example.com", "password123");
+        mockMvc.perform(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        LoginRequest loginRequest = new LoginRequest("refreshuser@example.com", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String firstRefreshToken = JsonPath.parse(loginResult.getResponse().getContentAsString()).read("$.refreshToken");
+
+        MvcResult refreshResult = mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(firstRefreshToken))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String secondRefreshToken = JsonPath.parse(refreshResult.getResponse().getContentAsString()).read("$.refreshToken");
+
+        // Replaying the spent token revokes the device, so the token issued from it stops working too
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(firstRefreshToken))))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(secondRefreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testLogoutRevokesAccessToken() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest("Logout User", "logoutuser@example.com", "password123");
+        mockMvc.perform(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        LoginRequest loginRequest = new LoginRequest("logoutuser@example.com", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = JsonPath.parse(loginResult.getResponse().getContentAsString()).read("$.token");
+        String refreshToken = JsonPath.parse(loginResult.getResponse().getContentAsString()).read("$.refreshToken");
+
+        mockMvc.perform(get("/api/v1/accounts")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/auth/logout")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isNoContent());
+
+        // The access token is still inside its lifetime, but logging out must shut it out immediately
+        mockMvc.perform(get("/api/v1/accounts")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
 }
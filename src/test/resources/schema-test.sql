@@ -29,6 +29,8 @@ CREATE TABLE IF NOT EXISTS competences (
     UNIQUE (user_id, "month", "year")
 );
 
+CREATE INDEX IF NOT EXISTS idx_competences_user_year_month ON competences(user_id, "year", "month");
+
 CREATE TABLE IF NOT EXISTS categories (
     id         UUID DEFAULT RANDOM_UUID() PRIMARY KEY,
     user_id    UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
@@ -57,6 +59,7 @@ CREATE TABLE IF NOT EXISTS transactions (
     parent_id     UUID,
     external_id   VARCHAR(255) UNIQUE,
     description   VARCHAR(255) NOT NULL,
+    description_search VARCHAR(255) NOT NULL DEFAULT '',
     "type"        VARCHAR(20) NOT NULL DEFAULT 'EXPENSE',
     subtype       VARCHAR(20),
     amount        DECIMAL(12, 2) NOT NULL,
@@ -69,3 +72,140 @@ CREATE TABLE IF NOT EXISTS transactions (
 );
 
 ALTER TABLE transactions ADD FOREIGN KEY (parent_id) REFERENCES transactions(id);
+
+CREATE INDEX IF NOT EXISTS idx_transactions_user_date_time_id ON transactions(user_id, date_time, id);
+
+CREATE TABLE IF NOT EXISTS competence_summary (
+    competence_id     UUID NOT NULL REFERENCES competences(id) ON DELETE CASCADE,
+    "type"            VARCHAR(20) NOT NULL,
+    "status"          VARCHAR(20) NOT NULL,
+    subtype           VARCHAR(20) NOT NULL DEFAULT '',
+    user_id           UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    total_amount      DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    PRIMARY KEY (competence_id, "type", "status", subtype)
+);
+
+CREATE INDEX IF NOT EXISTS idx_competence_summary_user ON competence_summary(user_id);
+
+CREATE TABLE IF NOT EXISTS savings (
+    id         UUID DEFAULT RANDOM_UUID() PRIMARY KEY,
+    user_id    UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    name       VARCHAR(255) NOT NULL,
+    balance    DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    color_hex  VARCHAR(7),
+    icon       VARCHAR(255),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS savings_history (
+    id             UUID DEFAULT RANDOM_UUID() PRIMARY KEY,
+    savings_id     UUID NOT NULL REFERENCES savings(id) ON DELETE CASCADE,
+    account_id     UUID NOT NULL REFERENCES accounts(id) ON DELETE CASCADE,
+    transaction_id UUID REFERENCES transactions(id) ON DELETE SET NULL,
+    "type"         VARCHAR(50) NOT NULL,
+    amount         DECIMAL(19, 2) NOT NULL,
+    description    VARCHAR(255),
+    created_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS import_jobs (
+    id             UUID DEFAULT RANDOM_UUID() PRIMARY KEY,
+    user_id        UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    account_id     UUID NOT NULL REFERENCES accounts(id) ON DELETE CASCADE,
+    file_name      VARCHAR(255),
+    "status"       VARCHAR(20) NOT NULL,
+    parsed_count   INT NOT NULL DEFAULT 0,
+    imported_count INT NOT NULL DEFAULT 0,
+    ignored_count  INT NOT NULL DEFAULT 0,
+    error_message  VARCHAR(1000),
+    created_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    finished_at    TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         UUID DEFAULT RANDOM_UUID() PRIMARY KEY,
+    user_id    UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    device_id  UUID NOT NULL,
+    token_hash CHAR(64) NOT NULL UNIQUE,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_device ON refresh_tokens(user_id, device_id);
+
+CREATE TABLE IF NOT EXISTS installment_series (
+    parent_id              UUID PRIMARY KEY REFERENCES transactions(id) ON DELETE CASCADE,
+    user_id                UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    description            VARCHAR(255) NOT NULL,
+    total_installments     INT NOT NULL DEFAULT 0,
+    completed_installments INT NOT NULL DEFAULT 0,
+    pending_installments   INT NOT NULL DEFAULT 0,
+    total_amount           DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    completed_amount       DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    pending_amount         DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    created_at             TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_installment_series_user_pending ON installment_series(user_id, pending_installments);
+
+CREATE TABLE IF NOT EXISTS category_templates (
+    id         INT PRIMARY KEY,
+    version    INT NOT NULL,
+    name       VARCHAR(50) NOT NULL,
+    color_hex  VARCHAR(7),
+    "type"     VARCHAR(20) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS subcategory_templates (
+    id                   INT PRIMARY KEY,
+    category_template_id INT NOT NULL REFERENCES category_templates(id),
+    name                 VARCHAR(50) NOT NULL
+);
+
+MERGE INTO category_templates (id, version, name, color_hex, "type") KEY (id) VALUES
+    (1, 1, 'Food', '#4CAF50', 'EXPENSE'),
+    (2, 1, 'Housing', '#2196F3', 'EXPENSE'),
+    (3, 1, 'Health', '#E91E63', 'EXPENSE'),
+    (4, 1, 'Services', '#9C27B0', 'EXPENSE'),
+    (5, 1, 'Shopping', '#E67E22', 'EXPENSE'),
+    (6, 1, 'Pets', '#795548', 'EXPENSE'),
+    (7, 1, 'Transportation', '#607D8B', 'EXPENSE'),
+    (8, 1, 'Salary', '#4CAF50', 'REVENUE'),
+    (9, 1, 'Investments', '#2196F3', 'REVENUE'),
+    (10, 1, 'Other Income', '#FF9800', 'REVENUE');
+
+MERGE INTO subcategory_templates (id, category_template_id, name) KEY (id) VALUES
+    (1, 1, 'Delivery'),
+    (2, 1, 'Groceries'),
+    (3, 1, 'Restaurants'),
+    (4, 2, 'Electricity'),
+    (5, 2, 'Rent'),
+    (6, 2, 'Condo'),
+    (7, 2, 'Internet'),
+    (8, 2, 'Water'),
+    (9, 2, 'Gas'),
+    (10, 3, 'Pharmacy'),
+    (11, 3, 'Exams'),
+    (12, 3, 'Appointments'),
+    (13, 3, 'Gym'),
+    (14, 3, 'Supplements'),
+    (15, 4, 'Subscriptions'),
+    (16, 4, 'Service Providers'),
+    (17, 5, 'Clothes'),
+    (18, 5, 'Office Supplies'),
+    (19, 5, 'Shoes'),
+    (20, 5, 'Accessories'),
+    (21, 6, 'Health Insurance'),
+    (22, 6, 'Food'),
+    (23, 6, 'Litter'),
+    (24, 6, 'Toys'),
+    (25, 6, 'Accessories'),
+    (26, 7, 'Fuel'),
+    (27, 7, 'Mechanic'),
+    (28, 7, 'Parts'),
+    (29, 9, 'Dividends'),
+    (30, 9, 'Interest');